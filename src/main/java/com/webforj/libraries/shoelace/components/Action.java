@@ -0,0 +1,136 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A presentational effect that runs in the browser when an event occurs, without a server round trip.
+ *
+ * <p>Actions are created by {@link Actions} and attached to a component with
+ * {@link #bind(ElementComposite, String)}, or with shortcuts such as
+ * {@link ShoelaceButton#onClientClick(Action)}. Each action is compiled into
+ * a small script that the browser runs as the event listener. The targets
+ * are looked up when the event occurs, so they only need to be attached by
+ * then.</p>
+ *
+ * <p>An action may also notify the server with {@link #notifying(Runnable)}.
+ * The notification is sent after the effect has been applied, so the user
+ * never waits for it.</p>
+ *
+ * <pre>{@code
+ * settingsButton.onClientClick(Actions.open(settingsDialog));
+ * moreButton.onClientClick(Actions.toggle(advancedDetails).notifying(() -> audit.log("advanced")));
+ * generalItem.onClientClick(Actions.showTab(settingsTabs, "general").then(Actions.close(menuDropdown)));
+ * }</pre>
+ *
+ * @see Actions
+ * @since 1.0.0
+ */
+public final class Action {
+  private static final AtomicLong NEXT_ID = new AtomicLong();
+
+  private final String script;
+  private final List<Runnable> notifications;
+
+  Action(String script) {
+    this(script, List.of());
+  }
+
+  private Action(String script, List<Runnable> notifications) {
+    this.script = script;
+    this.notifications = notifications;
+  }
+
+  /**
+   * Creates an action running this action and then another one.
+   *
+   * @param next the action to run next
+   * @return the combined action
+   */
+  public Action then(Action next) {
+    List<Runnable> combined = new ArrayList<>(notifications);
+    combined.addAll(next.notifications);
+    return new Action(script + next.script, List.copyOf(combined));
+  }
+
+  /**
+   * Creates an action that also notifies the server after applying its effect.
+   *
+   * @param callback called on the server after the effect ran in the browser
+   * @return the notifying action
+   */
+  public Action notifying(Runnable callback) {
+    List<Runnable> combined = new ArrayList<>(notifications);
+    combined.add(callback);
+    return new Action(script, List.copyOf(combined));
+  }
+
+  /**
+   * Runs the action in the browser whenever the component fires an event.
+   *
+   * @param source the component firing the event
+   * @param event the DOM event type, for example {@code "click"}
+   * @return the binding, to be removed when no longer needed
+   */
+  public Binding bind(ElementComposite source, String event) {
+    String id = String.valueOf(NEXT_ID.incrementAndGet());
+    String notify = "";
+    ListenerRegistration<?> registration = null;
+    if (!notifications.isEmpty()) {
+      String notification = "slw-action-" + id;
+      notify = "component.dispatchEvent(new CustomEvent(" + Json.quote(notification) + "));";
+      registration = source.getElement().addEventListener(notification, e -> notifications.forEach(Runnable::run));
+    }
+
+    source.getElement().executeJsVoidAsync(String.format(BIND_SCRIPT,
+        Json.quote(id), Json.quote(event), script, notify));
+    return new Binding(source, id, registration);
+  }
+
+  /**
+   * An action attached to a component event.
+   */
+  public static final class Binding {
+    private final ElementComposite source;
+    private final String id;
+    private final ListenerRegistration<?> registration;
+
+    private Binding(ElementComposite source, String id, ListenerRegistration<?> registration) {
+      this.source = source;
+      this.id = id;
+      this.registration = registration;
+    }
+
+    /**
+     * Detaches the action from the component.
+     */
+    public void remove() {
+      if (registration != null) {
+        registration.remove();
+      }
+      source.getElement().executeJsVoidAsync(String.format(UNBIND_SCRIPT, Json.quote(id)));
+    }
+  }
+
+  private static final String BIND_SCRIPT =
+    "(() => {" +
+    "const handlers = component.__slwActions = component.__slwActions || {};" +
+    "const find = (ref) => document.querySelector('[data-slw-ref=\"' + ref + '\"]');" +
+    "const handler = { type: %2$s, listener: (event) => { %3$s %4$s } };" +
+    "handlers[%1$s] = handler;" +
+    "component.addEventListener(handler.type, handler.listener);" +
+    "})();";
+
+  private static final String UNBIND_SCRIPT =
+    "(() => {" +
+    "const handler = (component.__slwActions || {})[%1$s];" +
+    "if (handler) {" +
+    "  component.removeEventListener(handler.type, handler.listener);" +
+    "  delete component.__slwActions[%1$s];" +
+    "}" +
+    "})();";
+}
@@ -0,0 +1,197 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.event.ElementEventOptions;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Factory of {@link Action}s for purely presentational interactions.
+ *
+ * <p>Opening a dialog, toggling a details panel or switching a tab does not
+ * need the server. These actions apply the change directly in the browser,
+ * so it happens without latency and without an event sent to the server.</p>
+ *
+ * <p>The exception are {@link #open(ElementComposite)},
+ * {@link #close(ElementComposite)} and {@link #toggle(ElementComposite)}:
+ * once one of them is created for a component, the component reports its
+ * open state to the server in the background whenever it finished opening or
+ * closing, so getters such as {@link Dialog#isOpen()} stay accurate. Other
+ * properties set with {@link #setProperty(ElementComposite, String, Object)}
+ * change in the browser only, and their server-side getters keep the last
+ * value set on the server.</p>
+ *
+ * <pre>{@code
+ * openButton.onClientClick(Actions.open(dialog));
+ * cancelButton.onClientClick(Actions.close(dialog));
+ * toggleButton.onClientClick(Actions.toggle(details));
+ * billingItem.onClientClick(Actions.showTab(tabGroup, "billing"));
+ * }</pre>
+ *
+ * @see Action
+ * @since 1.0.0
+ */
+public final class Actions {
+  private static final Set<ElementComposite> OPEN_SYNCED =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  private Actions() {
+    // Utility class
+  }
+
+  /**
+   * Opens a dialog, drawer, details, dropdown, tooltip or alert.
+   *
+   * @param target the component to open
+   * @return the action
+   */
+  public static Action open(ElementComposite target) {
+    syncOpen(target);
+    return setProperty(target, "open", true);
+  }
+
+  /**
+   * Closes a dialog, drawer, details, dropdown, tooltip or alert.
+   *
+   * @param target the component to close
+   * @return the action
+   */
+  public static Action close(ElementComposite target) {
+    syncOpen(target);
+    return setProperty(target, "open", false);
+  }
+
+  /**
+   * Opens a closed dialog, drawer, details, dropdown, tooltip or alert, or closes an open one.
+   *
+   * @param target the component to toggle
+   * @return the action
+   */
+  public static Action toggle(ElementComposite target) {
+    syncOpen(target);
+    return toggleProperty(target, "open");
+  }
+
+  /**
+   * Shows a tab of a tab group.
+   *
+   * @param tabGroup the tab group
+   * @param panel the name of the panel to show
+   * @return the action
+   */
+  public static Action showTab(TabGroup tabGroup, String panel) {
+    return call(tabGroup, "show", panel);
+  }
+
+  /**
+   * Enables or disables a component.
+   *
+   * @param target the component
+   * @param disabled true to disable
+   * @return the action
+   */
+  public static Action setDisabled(ElementComposite target, boolean disabled) {
+    return setProperty(target, "disabled", disabled);
+  }
+
+  /**
+   * Moves the focus to a component.
+   *
+   * @param target the component
+   * @return the action
+   */
+  public static Action focus(ElementComposite target) {
+    return call(target, "focus");
+  }
+
+  /**
+   * Sets an element property of a component.
+   *
+   * @param target the component
+   * @param property the name of the property
+   * @param value the value, a string, number, boolean or {@code null}
+   * @return the action
+   */
+  public static Action setProperty(ElementComposite target, String property, Object value) {
+    return new Action(String.format("{ const el = find(%s); if (el) el[%s] = %s; }",
+        Json.quote(ClientBinding.refOf(target)), Json.quote(property), Json.write(value)));
+  }
+
+  /**
+   * Inverts a boolean element property of a component.
+   *
+   * @param target the component
+   * @param property the name of the property
+   * @return the action
+   */
+  public static Action toggleProperty(ElementComposite target, String property) {
+    return new Action(String.format("{ const el = find(%s); if (el) el[%2$s] = !el[%2$s]; }",
+        Json.quote(ClientBinding.refOf(target)), Json.quote(property)));
+  }
+
+  /**
+   * Calls a method of the element of a component.
+   *
+   * @param target the component
+   * @param method the name of the method
+   * @param arguments the arguments, strings, numbers, booleans or {@code null}
+   * @return the action
+   */
+  public static Action call(ElementComposite target, String method, Object... arguments) {
+    String args = Json.write(arguments);
+    return new Action(String.format("{ const el = find(%s); if (el) el[%s](...%s); }",
+        Json.quote(ClientBinding.refOf(target)), Json.quote(method), args));
+  }
+
+  /**
+   * Reports the open state of a component to the server once it changed in the browser.
+   */
+  private static void syncOpen(ElementComposite target) {
+    if (!OPEN_SYNCED.add(target)) {
+      return;
+    }
+
+    target.getElement().executeJsVoidAsync(OPEN_SCRIPT);
+    target.getElement().addEventListener("slw-open", e -> {
+      target.getElement().setProperty("open", Boolean.TRUE.equals(e.getData().get("open")));
+      // The copy above is sent back to the browser, where the component may have moved on since
+      target.getElement().callJsFunctionVoidAsync("__slwReapplyOpen");
+    }, new ElementEventOptions().addData("open", "event.detail"));
+  }
+
+  /**
+   * Runs several actions in order.
+   *
+   * @param actions the actions
+   * @return the combined action
+   */
+  public static Action sequence(Action... actions) {
+    Action combined = new Action("");
+    for (Action action : actions) {
+      combined = combined.then(action);
+    }
+    return combined;
+  }
+
+  // Records the state each time the component starts or finishes opening or closing, and
+  // reports it once per change
+  private static final String OPEN_SCRIPT =
+    "if (!component.__slwReapplyOpen) {" +
+    "  let reported = Boolean(component.open);" +
+    "  component.__slwOpen = reported;" +
+    "  const record = (e) => {" +
+    "    if (e.target !== component) return;" +
+    "    component.__slwOpen = Boolean(component.open);" +
+    "    if (e.type.startsWith('sl-after-') && component.__slwOpen !== reported) {" +
+    "      reported = component.__slwOpen;" +
+    "      component.dispatchEvent(new CustomEvent('slw-open', {detail: reported}));" +
+    "    }" +
+    "  };" +
+    "  ['sl-show', 'sl-hide', 'sl-after-show', 'sl-after-hide'].forEach((type) => component.addEventListener(type, record));" +
+    "  component.__slwReapplyOpen = () => {" +
+    "    if (Boolean(component.open) !== component.__slwOpen) component.open = component.__slwOpen;" +
+    "  };" +
+    "}";
+}
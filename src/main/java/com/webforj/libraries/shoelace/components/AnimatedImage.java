@@ -14,6 +14,7 @@ import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * A component for displaying animated GIFs and WEBPs that play and pause on interaction.
@@ -77,6 +78,17 @@ import java.util.Map;
  * animatedImage.setStyle("--icon-size", "calc(var(--control-box-size) * 0.55)");
  * }</pre>
  * 
+ * <h2>Deferred Loading</h2>
+ * <p>By default the browser downloads the whole animation just to show its first frame.
+ * With a deferred source the component initially shows a small static poster extracted
+ * on the server in the background, and the full animation is only requested when {@link #play()} is called
+ * or the user hovers the image.</p>
+ * <pre>{@code
+ * AnimatedImage preview = new AnimatedImage();
+ * preview.setAlt("Build pipeline")
+ *        .setDeferredSrc("ws://previews/pipeline.gif");
+ * }</pre>
+ * 
  * @see <a href="https://shoelace.style/components/animated-image">Shoelace Animated Image Documentation</a>
  * 
  * @author Your Name
@@ -93,6 +105,12 @@ public class AnimatedImage extends ElementComposite implements HasStyle<Animated
   private final PropertyDescriptor<String> srcProp = PropertyDescriptor.property("src", "");
   private final PropertyDescriptor<String> altProp = PropertyDescriptor.property("alt", "");
   private final PropertyDescriptor<Boolean> playProp = PropertyDescriptor.property("play", false);
+
+  private static final String FULL_SRC_ATTR = "data-full-src";
+  private static final String BLANK_SRC = "data:image/gif;base64,R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7";
+  private String deferredSrc;
+  private int deferredVersion;
+  private boolean hoverLoaderInstalled;
   
   public AnimatedImage() {
     super();
@@ -108,15 +126,97 @@ public class AnimatedImage extends ElementComposite implements HasStyle<Animated
    * Sets the image source (URL).
    */
   public AnimatedImage setSrc(String src) {
+    clearDeferredSrc();
     set(srcProp, src);
     return this;
   }
+
+  /**
+   * Sets the image source and defers downloading it until it is needed.
+   *
+   * <p>The source is resolved on the server with {@link ImageSource#forSrc(String)}.
+   * See {@link #setDeferredSrc(String, ImageSource)} for details.</p>
+   *
+   * @param src the URL of the animation
+   * @return this instance
+   */
+  public AnimatedImage setDeferredSrc(String src) {
+    return setDeferredSrc(src, ImageSource.forSrc(src));
+  }
+
+  /**
+   * Sets the image source and defers downloading it until it is needed.
+   *
+   * <p>A static poster of the first frame is taken from {@link PosterFrameCache#getDefault()}
+   * and shown instead of the animation. The full source replaces the poster when
+   * {@link #play()} is called or when the pointer first enters the image. If no poster can
+   * be extracted (unreadable source, unsupported format) the source is used directly, as
+   * with {@link #setSrc(String)}.</p>
+   *
+   * <p>Posters not yet in the cache are extracted on a background thread with
+   * {@link UiAccess#runAsync}, and a blank image is shown until they arrive. Must be
+   * called on the UI thread.</p>
+   *
+   * @param src the URL of the animation as seen by the browser
+   * @param source the server-side source used to extract the poster
+   * @return this instance
+   */
+  public AnimatedImage setDeferredSrc(String src, ImageSource source) {
+    PosterFrameCache cache = PosterFrameCache.getDefault();
+    boolean extracted = cache.isExtracted(src);
+    Optional<String> cached = cache.peekPoster(src);
+    if (extracted && cached.isEmpty()) {
+      return setSrc(src);
+    }
+
+    clearDeferredSrc();
+    deferredSrc = src;
+    getElement().setAttribute(FULL_SRC_ATTR, src);
+    installHoverLoader();
+    if (cached.isPresent()) {
+      set(srcProp, cached.get());
+      return this;
+    }
+
+    set(srcProp, BLANK_SRC);
+    int version = deferredVersion;
+    UiAccess.getCurrent().runAsync(() -> cache.getPoster(src, source), (poster, error) -> {
+      if (version != deferredVersion) {
+        // Replaced by another source or already playing
+        return;
+      }
+
+      if (poster == null || poster.isEmpty()) {
+        setSrc(src);
+        return;
+      }
+
+      // The browser may have switched to the full source on hover meanwhile
+      getElement().executeJsVoidAsync(
+          "if (component.getAttribute('" + FULL_SRC_ATTR + "') === " + Json.quote(src) + ") {"
+          + "  component.src = " + Json.quote(poster.get()) + ";"
+          + "}");
+    });
+    return this;
+  }
+
+  /**
+   * Checks whether the full animation is still deferred on the server side.
+   *
+   * <p>The browser may already have loaded it on hover.</p>
+   *
+   * @return true if a poster is shown in place of the source
+   */
+  public boolean isDeferred() {
+    return deferredSrc != null;
+  }
   
   /**
-   * Gets the image source.
+   * Gets the image source. While the source is deferred, this is the full
+   * source and not the poster shown in its place.
    */
   public String getSrc() {
-    return get(srcProp);
+    return deferredSrc != null ? deferredSrc : get(srcProp);
   }
   
   /**
@@ -138,6 +238,11 @@ public class AnimatedImage extends ElementComposite implements HasStyle<Animated
    * Sets whether the animation is playing.
    */
   public AnimatedImage setPlay(boolean play) {
+    if (play && deferredSrc != null) {
+      String src = deferredSrc;
+      clearDeferredSrc();
+      set(srcProp, src);
+    }
     set(playProp, play);
     return this;
   }
@@ -163,6 +268,31 @@ public class AnimatedImage extends ElementComposite implements HasStyle<Animated
     setPlay(false);
   }
   
+  private void clearDeferredSrc() {
+    deferredVersion++;
+    if (deferredSrc != null) {
+      deferredSrc = null;
+      getElement().removeAttribute(FULL_SRC_ATTR);
+    }
+  }
+
+  private void installHoverLoader() {
+    if (hoverLoaderInstalled) {
+      return;
+    }
+
+    hoverLoaderInstalled = true;
+    getElement().executeJsVoidAsync(
+      "component.addEventListener('mouseenter', () => {" +
+      "  const full = component.getAttribute('" + FULL_SRC_ATTR + "');" +
+      "  if (full && component.src !== full) {" +
+      "    component.removeAttribute('" + FULL_SRC_ATTR + "');" +
+      "    component.src = full;" +
+      "  }" +
+      "});"
+    );
+  }
+  
   // ==================== Event Handling ====================
   
   /**
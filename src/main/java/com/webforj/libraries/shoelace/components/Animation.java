@@ -84,6 +84,9 @@ import java.util.Map;
  * });
  * }</pre>
  * 
+ * <p>To animate many components together, such as a staggered entrance of the
+ * rows of a list, use a {@link Timeline}, which runs entirely in the browser.</p>
+ * 
  * @see <a href="https://shoelace.style/components/animation">Shoelace Animation Documentation</a>
  * 
  * @author Your Name
@@ -284,23 +287,19 @@ public class Animation extends ElementComposite implements HasStyle<Animation>,
   }
   
   /**
-   * Cancels the animation.
+   * Cancels the animation and removes its effects.
    */
   public void cancel() {
-    // Reset the animation by setting play to false
     setPlay(false);
-    // Force reset by manipulating iterations
-    String currentIterations = getIterations();
-    setIterations("0");
-    setIterations(currentIterations);
+    ElementMethods.call(this, "cancel");
   }
   
   /**
-   * Finishes the animation.
+   * Finishes the animation, jumping to its end state.
    */
   public void finish() {
-    // Jump to the end of the animation
     setPlay(false);
+    ElementMethods.call(this, "finish");
   }
   
   // ==================== Event Handling ====================
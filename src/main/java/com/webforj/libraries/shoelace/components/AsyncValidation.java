@@ -0,0 +1,313 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.ComponentLifecycleObserver;
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.event.ElementEvent;
+import com.webforj.component.element.event.ElementEventOptions;
+import com.webforj.dispatcher.EventDispatcher;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.EventObject;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs an {@link AsyncValidator} against a form field without blocking the UI thread.
+ *
+ * <p>Changes are debounced in the browser, so the server only sees the value
+ * once the user pauses. The validator then runs on a virtual thread through
+ * {@link UiAccess}; a newer value cancels the run for the previous one, and
+ * outcomes of superseded runs are discarded. Results are cached per value, so
+ * going back to a value that was already checked is answered immediately.</p>
+ *
+ * <p>The outcome is applied in a single client call that sets the field's
+ * custom validity and shows the error message in place of the help text. The
+ * help text configured on the server is left untouched and shown again once the
+ * value is valid.</p>
+ *
+ * <p>A field has at most one validation: setting another validator removes
+ * the current one. A running validation is cancelled when the field is
+ * destroyed.</p>
+ *
+ * <pre>{@code
+ * Input username = new Input("Username");
+ * username.setAsyncValidator(value -> accounts.exists(value) ? "Already taken" : null)
+ *     .setDebounce(400)
+ *     .onValidated(event -> submit.setDisabled(!event.isValid()));
+ * }</pre>
+ *
+ * @see Input#setAsyncValidator(AsyncValidator)
+ * @see Select#setAsyncValidator(AsyncValidator)
+ * @see Textarea#setAsyncValidator(AsyncValidator)
+ * @since 1.0.0
+ */
+public final class AsyncValidation {
+  private static final String VALUE_EXPRESSION =
+      "(v => Array.isArray(v) ? v.join(' ') : String(v == null ? '' : v))(%s.value)";
+
+  private final ElementComposite field;
+  private final String trigger;
+  private final AsyncValidator validator;
+  private final Supplier<String> helpText;
+  private final EventDispatcher dispatcher = new EventDispatcher();
+  private final Map<String, String> cache = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+      return size() > cacheSize;
+    }
+  };
+  private final ComponentLifecycleObserver destroyObserver = (component, event) -> {
+    if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+      cancel();
+    }
+  };
+  private ListenerRegistration<ElementEvent> registration;
+  private boolean removed;
+  private Future<String> running;
+  private int cacheSize = 128;
+  private int debounce;
+  private long generation;
+  private boolean pending;
+  private String message;
+
+  AsyncValidation(ElementComposite field, String trigger, int debounce, AsyncValidator validator,
+      Supplier<String> helpText) {
+    this.field = field;
+    this.trigger = trigger;
+    this.debounce = debounce;
+    this.validator = validator;
+    this.helpText = helpText;
+
+    field.getElement().executeJsVoidAsync(String.format(CLIENT_SCRIPT, String.format(VALUE_EXPRESSION, "component")));
+    field.addLifecycleObserver(destroyObserver);
+    register();
+  }
+
+  /**
+   * Sets how long the browser waits after the last change before the value is validated.
+   *
+   * @param debounce the delay in milliseconds
+   * @return this instance
+   */
+  public AsyncValidation setDebounce(int debounce) {
+    this.debounce = debounce;
+    if (!removed) {
+      registration.remove();
+      register();
+    }
+    return this;
+  }
+
+  /**
+   * Sets how many validated values are remembered.
+   *
+   * @param cacheSize the number of values (default: 128), 0 disables caching
+   * @return this instance
+   */
+  public AsyncValidation setCacheSize(int cacheSize) {
+    synchronized (cache) {
+      this.cacheSize = cacheSize;
+      cache.clear();
+    }
+    return this;
+  }
+
+  /**
+   * Forgets all cached results, for example after the data the validator checks against changed.
+   */
+  public void clearCache() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Validates a value now, bypassing the debounce.
+   *
+   * @param value the value to validate
+   */
+  public void validate(String value) {
+    if (removed) {
+      return;
+    }
+
+    cancel();
+    long current = generation;
+    String key = value == null ? "" : value;
+    String cached;
+    synchronized (cache) {
+      cached = cache.get(key);
+    }
+
+    if (cached != null) {
+      apply(key, cached.isEmpty() ? null : cached, null);
+      return;
+    }
+
+    pending = true;
+    running = UiAccess.getCurrent().runAsync(() -> validator.validate(key), (result, error) -> {
+      if (current != generation) {
+        return;
+      }
+
+      running = null;
+      if (error == null) {
+        synchronized (cache) {
+          cache.put(key, result == null ? "" : result);
+        }
+      }
+      apply(key, result, error);
+    });
+  }
+
+  /**
+   * Checks whether a validation is running.
+   *
+   * @return true if the outcome for the latest value is not known yet
+   */
+  public boolean isPending() {
+    return pending;
+  }
+
+  /**
+   * Checks whether the latest validated value was valid.
+   *
+   * @return true if valid or not validated yet
+   */
+  public boolean isValid() {
+    return message == null;
+  }
+
+  /**
+   * Gets the error message of the latest validated value.
+   *
+   * @return the error message, or {@code null} if valid
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Adds a listener called each time an outcome is applied to the field.
+   *
+   * @param listener the listener
+   * @return the listener registration for removal
+   */
+  public ListenerRegistration<ValidatedEvent> onValidated(EventListener<ValidatedEvent> listener) {
+    return dispatcher.addListener(ValidatedEvent.class, listener);
+  }
+
+  /**
+   * Stops validating the field and clears its custom validity. Does nothing if already removed.
+   */
+  public void remove() {
+    if (removed) {
+      return;
+    }
+
+    removed = true;
+    registration.remove();
+    field.removeLifecycleObserver(destroyObserver);
+    dispatcher.removeAllListeners();
+    cancel();
+    message = null;
+    field.getElement().callJsFunctionVoidAsync("__slwApplyValidation", null, "", helpText.get());
+  }
+
+  private void cancel() {
+    if (running != null) {
+      running.cancel(true);
+      running = null;
+    }
+    generation++;
+    pending = false;
+  }
+
+  private void register() {
+    registration = field.getElement().addEventListener(trigger,
+        e -> validate(String.valueOf(e.getData().get("value"))),
+        new ElementEventOptions()
+            .addData("value", String.format(VALUE_EXPRESSION, "event.target"))
+            .setDebounce(debounce));
+  }
+
+  private void apply(String value, String result, Throwable error) {
+    pending = false;
+    message = error == null ? result : null;
+    field.getElement().callJsFunctionVoidAsync("__slwApplyValidation", value,
+        message == null ? "" : message, message == null ? helpText.get() : message);
+    dispatcher.dispatchEvent(new ValidatedEvent(this, value, message, error));
+  }
+
+  /**
+   * Fired when a validation outcome was applied to the field.
+   */
+  public static class ValidatedEvent extends EventObject {
+    private final String value;
+    private final String message;
+    private final Throwable exception;
+
+    /**
+     * Creates a new validated event.
+     *
+     * @param source the validation
+     * @param value the validated value
+     * @param message the error message, or {@code null} if valid
+     * @param exception the exception thrown by the validator, or {@code null}
+     */
+    public ValidatedEvent(AsyncValidation source, String value, String message, Throwable exception) {
+      super(source);
+      this.value = value;
+      this.message = message;
+      this.exception = exception;
+    }
+
+    /**
+     * Gets the validated value.
+     *
+     * @return the value
+     */
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Checks whether the value is valid. A value the validator failed on counts as valid.
+     *
+     * @return true if valid
+     */
+    public boolean isValid() {
+      return message == null;
+    }
+
+    /**
+     * Gets the error message.
+     *
+     * @return the error message, or {@code null} if valid
+     */
+    public String getMessage() {
+      return message;
+    }
+
+    /**
+     * Gets the exception thrown by the validator.
+     *
+     * @return the exception, or {@code null} if the validator completed
+     */
+    public Throwable getException() {
+      return exception;
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "if (!component.__slwApplyValidation) {" +
+    "  component.__slwApplyValidation = (value, message, helpText) => {" +
+    "    if (value !== null && %s !== value) return;" +
+    "    component.setCustomValidity(message);" +
+    "    component.helpText = helpText;" +
+    "  };" +
+    "}";
+}
@@ -0,0 +1,28 @@
+package com.webforj.libraries.shoelace.components;
+
+/**
+ * Validates a field value with work that may block, such as a remote lookup.
+ *
+ * <p>Validators are run off the UI thread by {@link AsyncValidation} and may
+ * be called concurrently for different values.</p>
+ *
+ * <pre>{@code
+ * AsyncValidator usernameAvailable = value ->
+ *     accountService.exists(value) ? "This username is already taken" : null;
+ * }</pre>
+ *
+ * @see AsyncValidation
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AsyncValidator {
+
+  /**
+   * Validates a value.
+   *
+   * @param value the value of the field
+   * @return the error message, or {@code null} if the value is valid
+   * @throws Exception if the value could not be validated
+   */
+  String validate(String value) throws Exception;
+}
@@ -0,0 +1,298 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.event.ElementEvent;
+import com.webforj.component.element.event.ElementEventOptions;
+import com.webforj.dispatcher.EventDispatcher;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.ArrayList;
+import java.util.EventObject;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds server-backed suggestions to an {@link Input}.
+ *
+ * <p>Typing is debounced in the browser, so a query reaches the server only
+ * once the user pauses. The query is answered from a {@link SuggestionIndex}
+ * in memory, never from the database, and the results are rendered in a
+ * single popup element shared by every autocomplete on the page. The popup
+ * supports the arrow keys, Enter and Escape.</p>
+ *
+ * <pre>{@code
+ * SuggestionIndex streets = new SuggestionIndex(addressRepository::allStreets);
+ *
+ * Input street = new Input("Street");
+ * Autocomplete autocomplete = street.setSuggestions(streets)
+ *     .setMaxSuggestions(10)
+ *     .setDebounce(120);
+ *
+ * autocomplete.onSelect(event -> loadPostalCodes(event.getValue()));
+ * }</pre>
+ *
+ * @see SuggestionIndex
+ * @see Input#setSuggestions(SuggestionIndex)
+ * @since 1.0.0
+ */
+public final class Autocomplete {
+  private final Input input;
+  private SuggestionIndex index;
+  private final EventDispatcher dispatcher = new EventDispatcher();
+  private final ListenerRegistration<ElementEvent> selectRegistration;
+  private ListenerRegistration<ElementEvent> inputRegistration;
+  private int maxSuggestions = 8;
+  private int minChars = 1;
+  private int debounce = 150;
+
+  /**
+   * Attaches suggestions to an input.
+   *
+   * @param input the input
+   * @param index the index answering the queries
+   */
+  public Autocomplete(Input input, SuggestionIndex index) {
+    this.input = input;
+    this.index = index;
+
+    input.getElement().setAttribute("autocomplete", "off");
+    input.getElement().executeJsVoidAsync(CLIENT_SCRIPT);
+    registerInputListener();
+    selectRegistration = input.getElement().addEventListener("slw-suggestion-select",
+        e -> dispatcher.dispatchEvent(new SelectEvent(this,
+            String.valueOf(e.getData().get("value")), String.valueOf(e.getData().get("label")))),
+        new ElementEventOptions()
+            .addData("value", "event.detail.value")
+            .addData("label", "event.detail.label"));
+  }
+
+  /**
+   * Replaces the index answering the queries.
+   *
+   * @param index the index
+   * @return this instance
+   */
+  public Autocomplete setIndex(SuggestionIndex index) {
+    this.index = index;
+    return this;
+  }
+
+  /**
+   * Gets the index answering the queries.
+   *
+   * @return the index
+   */
+  public SuggestionIndex getIndex() {
+    return index;
+  }
+
+  /**
+   * Sets the maximum number of suggestions shown.
+   *
+   * @param maxSuggestions the maximum (default: 8)
+   * @return this instance
+   */
+  public Autocomplete setMaxSuggestions(int maxSuggestions) {
+    this.maxSuggestions = maxSuggestions;
+    return this;
+  }
+
+  /**
+   * Sets how many characters must be typed before suggestions are shown.
+   *
+   * @param minChars the minimum query length (default: 1)
+   * @return this instance
+   */
+  public Autocomplete setMinChars(int minChars) {
+    this.minChars = minChars;
+    return this;
+  }
+
+  /**
+   * Sets how long the browser waits after the last keystroke before querying the server.
+   *
+   * @param debounce the delay in milliseconds (default: 150)
+   * @return this instance
+   */
+  public Autocomplete setDebounce(int debounce) {
+    this.debounce = debounce;
+    inputRegistration.remove();
+    registerInputListener();
+    return this;
+  }
+
+  /**
+   * Gets the input the suggestions are attached to.
+   *
+   * @return the input
+   */
+  public Input getInput() {
+    return input;
+  }
+
+  /**
+   * Adds a listener called when the user picks a suggestion.
+   *
+   * @param listener the listener
+   * @return the listener registration for removal
+   */
+  public ListenerRegistration<SelectEvent> onSelect(EventListener<SelectEvent> listener) {
+    return dispatcher.addListener(SelectEvent.class, listener);
+  }
+
+  /**
+   * Detaches the suggestions from the input.
+   */
+  public void remove() {
+    inputRegistration.remove();
+    selectRegistration.remove();
+    dispatcher.removeAllListeners();
+    input.getElement().callJsFunctionVoidAsync("__slwShowSuggestions", "", "[]");
+    input.autocompleteRemoved(this);
+  }
+
+  private void registerInputListener() {
+    inputRegistration = input.getElement().addEventListener("sl-input", this::suggest,
+        new ElementEventOptions()
+            .addData("value", "event.target.value")
+            .setDebounce(debounce));
+  }
+
+  private void suggest(ElementEvent event) {
+    Object raw = event.getData().get("value");
+    String query = raw == null ? "" : String.valueOf(raw);
+
+    List<Map<String, Object>> items = new ArrayList<>();
+    if (query.trim().length() >= minChars) {
+      for (SuggestionIndex.Suggestion suggestion : index.query(query, maxSuggestions)) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("value", suggestion.value());
+        item.put("label", suggestion.label());
+        items.add(item);
+      }
+    }
+
+    input.getElement().callJsFunctionVoidAsync("__slwShowSuggestions", query, Json.write(items));
+  }
+
+  /**
+   * Fired when the user picks a suggestion. The input already holds the value.
+   */
+  public static class SelectEvent extends EventObject {
+    private final String value;
+    private final String label;
+
+    /**
+     * Creates a new select event.
+     *
+     * @param source the autocomplete
+     * @param value the value of the suggestion
+     * @param label the label of the suggestion
+     */
+    public SelectEvent(Autocomplete source, String value, String label) {
+      super(source);
+      this.value = value;
+      this.label = label;
+    }
+
+    /**
+     * Gets the autocomplete the suggestion was picked from.
+     *
+     * @return the autocomplete
+     */
+    public Autocomplete getAutocomplete() {
+      return (Autocomplete) getSource();
+    }
+
+    /**
+     * Gets the value of the picked suggestion.
+     *
+     * @return the value
+     */
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Gets the label of the picked suggestion.
+     *
+     * @return the label
+     */
+    public String getLabel() {
+      return label;
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "const popup = window.__slwSuggestPopup || (() => {" +
+    "  const el = document.createElement('div');" +
+    "  el.setAttribute('role', 'listbox');" +
+    "  el.style.cssText = 'position:fixed;z-index:1000;display:none;overflow:auto;max-height:320px;" +
+    "padding:var(--sl-spacing-x-small) 0;background:var(--sl-panel-background-color);" +
+    "border:solid var(--sl-panel-border-width) var(--sl-panel-border-color);" +
+    "border-radius:var(--sl-border-radius-medium);box-shadow:var(--sl-shadow-large);" +
+    "font-family:var(--sl-font-sans);font-size:var(--sl-font-size-medium);color:var(--sl-color-neutral-700)';" +
+    "  el.addEventListener('mousedown', (e) => e.preventDefault());" +
+    "  document.body.appendChild(el);" +
+    "  const state = {el, owner: null, items: [], active: -1};" +
+    "  state.hide = () => { el.style.display = 'none'; state.owner = null; state.items = []; };" +
+    "  state.highlight = (index) => {" +
+    "    state.active = index;" +
+    "    Array.from(el.children).forEach((row, i) => {" +
+    "      row.setAttribute('aria-selected', String(i === index));" +
+    "      row.style.background = i === index ? 'var(--sl-color-primary-600)' : '';" +
+    "      row.style.color = i === index ? 'var(--sl-color-neutral-0)' : '';" +
+    "      if (i === index) row.scrollIntoView({block: 'nearest'});" +
+    "    });" +
+    "  };" +
+    "  state.choose = (index) => {" +
+    "    const owner = state.owner;" +
+    "    const item = state.items[index];" +
+    "    state.hide();" +
+    "    if (!owner || !item) return;" +
+    "    owner.value = item.value;" +
+    "    owner.dispatchEvent(new CustomEvent('slw-suggestion-select', {detail: item}));" +
+    "  };" +
+    "  state.show = (owner, items) => {" +
+    "    if (!items.length) { if (state.owner === owner) state.hide(); return; }" +
+    "    state.owner = owner;" +
+    "    state.items = items;" +
+    "    el.replaceChildren(...items.map((item, i) => {" +
+    "      const row = document.createElement('div');" +
+    "      row.setAttribute('role', 'option');" +
+    "      row.textContent = item.label;" +
+    "      row.style.cssText = 'padding:var(--sl-spacing-x-small) var(--sl-spacing-medium);cursor:pointer';" +
+    "      row.addEventListener('mouseenter', () => state.highlight(i));" +
+    "      row.addEventListener('click', () => state.choose(i));" +
+    "      return row;" +
+    "    }));" +
+    "    const rect = owner.getBoundingClientRect();" +
+    "    el.style.left = rect.left + 'px';" +
+    "    el.style.top = (rect.bottom + 2) + 'px';" +
+    "    el.style.minWidth = rect.width + 'px';" +
+    "    el.style.display = 'block';" +
+    "    state.highlight(-1);" +
+    "  };" +
+    "  window.__slwSuggestPopup = state;" +
+    "  return state;" +
+    "})();" +
+    "if (!component.__slwShowSuggestions) {" +
+    "  component.__slwShowSuggestions = (query, json) => {" +
+    "    if (component.value !== query || document.activeElement !== component) {" +
+    "      if (popup.owner === component) popup.hide();" +
+    "      return;" +
+    "    }" +
+    "    popup.show(component, JSON.parse(json));" +
+    "  };" +
+    "  component.addEventListener('keydown', (e) => {" +
+    "    if (popup.owner !== component) return;" +
+    "    const count = popup.items.length;" +
+    "    if (e.key === 'ArrowDown') { e.preventDefault(); popup.highlight((popup.active + 1) % count); }" +
+    "    else if (e.key === 'ArrowUp') { e.preventDefault(); popup.highlight((popup.active - 1 + count) % count); }" +
+    "    else if (e.key === 'Enter' && popup.active >= 0) { e.preventDefault(); popup.choose(popup.active); }" +
+    "    else if (e.key === 'Escape') { popup.hide(); }" +
+    "  });" +
+    "  component.addEventListener('sl-blur', () => { if (popup.owner === component) popup.hide(); });" +
+    "}";
+}
@@ -55,6 +55,14 @@ import com.webforj.concern.HasStyle;
  * avatar.setStyle("--size", "64px");
  * }</pre>
  * 
+ * <h2>Responsive Images</h2>
+ * <p>Avatars are usually rendered much smaller than the uploaded photo. A responsive image is
+ * resized on the server by {@link ImageVariantService} to fit the declared size:</p>
+ * <pre>{@code
+ * avatar.setStyle("--size", "48px")
+ *       .setResponsiveImage("ws://people/jane.jpg");
+ * }</pre>
+ * 
  * @see <a href="https://shoelace.style/components/avatar">Shoelace Avatar Documentation</a>
  * @since 1.0.0
  * @author Shoelace Components
@@ -71,6 +79,8 @@ public final class Avatar extends ElementComposite implements HasHtml<Avatar>, H
   private final PropertyDescriptor<String> shapeProp = PropertyDescriptor.property("shape", "circle");
   private final PropertyDescriptor<String> loadingProp = PropertyDescriptor.property("loading", "eager");
 
+  private static final int DEFAULT_SIZE_PX = 48;
+
   /**
    * Create a new Avatar
    */
@@ -107,6 +117,20 @@ public final class Avatar extends ElementComposite implements HasHtml<Avatar>, H
     return this;
   }
 
+  /**
+   * Set the image source, served as a variant sized for this avatar
+   *
+   * <p>The width is taken from the {@code --size} style (3rem when not set) and doubled for
+   * high density displays. Set the size before calling this method.</p>
+   *
+   * @param image the original image URL
+   * @see ImageVariantService#getUrl(String, int)
+   */
+  public Avatar setResponsiveImage(String image) {
+    int size = ImageVariantService.toPixels(getStyle("--size"), DEFAULT_SIZE_PX);
+    return setImage(ImageVariantService.getDefault().getUrl(image, size * 2));
+  }
+
   /**
    * Get the label for assistive devices
    *
@@ -0,0 +1,264 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.Component;
+import com.webforj.component.ComponentLifecycleObserver;
+import com.webforj.environment.ObjectTable;
+
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Delivers messages published once to every subscribed session.
+ *
+ * <p>{@link #publish(Object)} only queues the message and returns at once.
+ * A virtual thread hands it to the subscriptions, each of which has a bounded
+ * queue. When a session falls behind, its oldest undelivered messages are
+ * dropped. Each session takes its messages from the queue on its own UI
+ * thread and passes them to its listener, so components such as an
+ * {@link Alert} toast are only created when a session actually handles a
+ * message, not by the publisher for every recipient.</p>
+ *
+ * <p>A subscription ends when its owner component is destroyed or when it is
+ * cancelled. Subscriptions of sessions that stopped taking their messages for
+ * ten minutes end on the next publish, as if cancelled. Messages are taken
+ * by the pump of the session, see {@link UiAccess}. For a single value observed
+ * by many sessions, such as the progress of a shared job, see
+ * {@link SharedValue}.</p>
+ *
+ * <pre>{@code
+ * static final BroadcastHub<String> ANNOUNCEMENTS = new BroadcastHub<>();
+ *
+ * // In the main layout of every session
+ * ANNOUNCEMENTS.subscribe(this, text -> banner.add(new Alert(text, Alert.Variant.PRIMARY).show()));
+ *
+ * // Anywhere, on any thread
+ * ANNOUNCEMENTS.publish("Maintenance starts in 10 minutes");
+ * }</pre>
+ *
+ * @param <T> the message type
+ * @since 1.0.0
+ */
+public final class BroadcastHub<T> {
+  private static final long STALE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+  /**
+   * The subscription of one session.
+   */
+  public final class Subscription {
+    private final ArrayBlockingQueue<T> queue = new ArrayBlockingQueue<>(capacity);
+    private final Consumer<? super T> listener;
+    private final SessionDelivery delivery;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long lastTaken = System.nanoTime();
+    private volatile boolean cancelled;
+
+    private Subscription(Consumer<? super T> listener, SessionDelivery delivery) {
+      this.listener = listener;
+      this.delivery = delivery;
+    }
+
+    /**
+     * Ends the subscription. Queued messages are discarded. Must be called on the UI thread.
+     */
+    public void cancel() {
+      end();
+      delivery.remove(this);
+    }
+
+    /**
+     * Checks whether the subscription still receives messages. It does not once
+     * cancelled, or once removed because the session stopped taking its messages.
+     *
+     * @return true while active
+     */
+    public boolean isActive() {
+      return !cancelled;
+    }
+
+    /**
+     * Gets the number of messages dropped because the session fell behind.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+      return dropped.get();
+    }
+
+    private void end() {
+      cancelled = true;
+      subscriptions.remove(this);
+      queue.clear();
+    }
+
+    private void offer(T message) {
+      while (!queue.offer(message)) {
+        if (queue.poll() != null) {
+          dropped.incrementAndGet();
+        }
+      }
+      delivery.access.wake();
+    }
+
+    private boolean isStale(long now) {
+      return !queue.isEmpty() && now - lastTaken > STALE_NANOS;
+    }
+
+    private void take() {
+      lastTaken = System.nanoTime();
+      T message;
+      while (!cancelled && (message = queue.poll()) != null) {
+        listener.accept(message);
+      }
+    }
+  }
+
+  /**
+   * Takes the messages of all subscriptions of a session on its UI thread.
+   */
+  private static final class SessionDelivery {
+    private static final String KEY = SessionDelivery.class.getName();
+
+    private final Set<BroadcastHub<?>.Subscription> subscriptions = new LinkedHashSet<>();
+    private final UiAccess access;
+    private final UiAccess.Source source = this::take;
+
+    private SessionDelivery(UiAccess access) {
+      this.access = access;
+    }
+
+    static SessionDelivery getCurrent() {
+      if (ObjectTable.contains(KEY)) {
+        return (SessionDelivery) ObjectTable.get(KEY);
+      }
+
+      SessionDelivery delivery = new SessionDelivery(UiAccess.getCurrent());
+      ObjectTable.put(KEY, delivery);
+      return delivery;
+    }
+
+    void add(BroadcastHub<?>.Subscription subscription) {
+      if (subscriptions.isEmpty()) {
+        access.attach(source);
+      }
+      subscriptions.add(subscription);
+    }
+
+    void remove(BroadcastHub<?>.Subscription subscription) {
+      subscriptions.remove(subscription);
+      if (subscriptions.isEmpty()) {
+        access.detach(source);
+      }
+    }
+
+    private boolean take() {
+      for (BroadcastHub<?>.Subscription subscription : subscriptions.toArray(new BroadcastHub<?>.Subscription[0])) {
+        if (subscription.isActive()) {
+          subscription.take();
+        } else {
+          // Ended on another thread because it was stale
+          remove(subscription);
+        }
+      }
+      return false;
+    }
+  }
+
+  private final int capacity;
+  private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+  private final Queue<T> published = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean delivering = new AtomicBoolean();
+
+  /**
+   * Creates a hub keeping up to 64 undelivered messages per session.
+   */
+  public BroadcastHub() {
+    this(64);
+  }
+
+  /**
+   * Creates a hub.
+   *
+   * @param capacity the number of undelivered messages kept per session
+   */
+  public BroadcastHub(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1");
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Subscribes the current session. Must be called on the UI thread, where the
+   * listener is called for each message.
+   *
+   * @param owner the component whose destruction ends the subscription
+   * @param listener handles a message
+   * @return the subscription
+   */
+  public Subscription subscribe(Component owner, Consumer<? super T> listener) {
+    SessionDelivery delivery = SessionDelivery.getCurrent();
+    Subscription subscription = new Subscription(listener, delivery);
+    subscriptions.add(subscription);
+    delivery.add(subscription);
+    owner.addLifecycleObserver((component, event) -> {
+      if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+        subscription.cancel();
+      }
+    });
+    return subscription;
+  }
+
+  /**
+   * Publishes a message to all subscribed sessions. May be called from any
+   * thread and returns without waiting for delivery.
+   *
+   * @param message the message
+   */
+  public void publish(T message) {
+    published.add(message);
+    if (delivering.compareAndSet(false, true)) {
+      UiAccess.EXECUTOR.execute(this::deliver);
+    }
+  }
+
+  /**
+   * Gets the number of subscribed sessions.
+   *
+   * @return the number of subscriptions
+   */
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  private void deliver() {
+    try {
+      long now = System.nanoTime();
+      for (Subscription subscription : subscriptions) {
+        if (subscription.isStale(now)) {
+          subscription.end();
+        }
+      }
+
+      T message;
+      while ((message = published.poll()) != null) {
+        for (Subscription subscription : subscriptions) {
+          subscription.offer(message);
+        }
+      }
+    } finally {
+      delivering.set(false);
+    }
+
+    if (!published.isEmpty() && delivering.compareAndSet(false, true)) {
+      UiAccess.EXECUTOR.execute(this::deliver);
+    }
+  }
+}
@@ -156,6 +156,26 @@ public final class CarouselItem extends ElementComposite implements HasStyle<Car
     return this;
   }
   
+  /**
+   * Sets a background image sized for the rendered slide width.
+   *
+   * <p>Instead of the original, the browser picks a 1x or 2x variant produced by
+   * {@link ImageVariantService} through CSS {@code image-set()}.</p>
+   *
+   * @param imageUrl the URL of the original image
+   * @param slideWidth the rendered width of the slide in CSS pixels
+   * @return this instance for method chaining
+   */
+  public CarouselItem setResponsiveBackgroundImage(String imageUrl, int slideWidth) {
+    ImageVariantService variants = ImageVariantService.getDefault();
+    setStyle("background-image", "image-set("
+        + "url('" + variants.getUrl(imageUrl, slideWidth) + "') 1x, "
+        + "url('" + variants.getUrl(imageUrl, slideWidth * 2) + "') 2x)");
+    setStyle("background-size", "cover");
+    setStyle("background-position", "center");
+    return this;
+  }
+  
   /**
    * Sets padding for the carousel item content.
    *
@@ -68,7 +68,7 @@ import java.util.Map;
   attributes = {@Attribute(name = "type", value = "module")})
 @NodeName("sl-checkbox")
 @StyleSheet("https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/themes/light.css")
-public class Checkbox extends ElementComposite implements HasHtml<Checkbox>, HasStyle<Checkbox> {
+public class Checkbox extends ElementComposite implements HasClientBindings, HasHtml<Checkbox>, HasStyle<Checkbox> {
   
   // Properties
   private final PropertyDescriptor<String> nameProp = PropertyDescriptor.property("name", "");
@@ -79,6 +79,8 @@ public class Checkbox extends ElementComposite implements HasHtml<Checkbox>, Has
   private final PropertyDescriptor<Boolean> indeterminateProp = PropertyDescriptor.property("indeterminate", false);
   private final PropertyDescriptor<Boolean> requiredProp = PropertyDescriptor.property("required", false);
   private final PropertyDescriptor<String> helpTextProp = PropertyDescriptor.property("help-text", "");
+  private final ClientBinding.Group bindings =
+      new ClientBinding.Group(this, "component.checked", false, this::isChecked);
   
   // Size constants
   public enum Size {
@@ -186,6 +188,7 @@ public class Checkbox extends ElementComposite implements HasHtml<Checkbox>, Has
    */
   public Checkbox setChecked(boolean checked) {
     set(checkedProp, checked);
+    bindings.sync(checked);
     return this;
   }
   
@@ -236,6 +239,11 @@ public class Checkbox extends ElementComposite implements HasHtml<Checkbox>, Has
   
   // Event handling
   
+  @Override
+  public ClientBinding controls(ElementComposite target, ClientBinding.Property property, boolean inverted) {
+    return bindings.add(target, property, inverted);
+  }
+
   /**
    * Adds a listener for the blur event, which fires when the checkbox loses focus.
    * 
@@ -0,0 +1,407 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.annotation.Attribute;
+import com.webforj.annotation.JavaScript;
+import com.webforj.annotation.StyleSheet;
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.concern.HasStyle;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list of checkboxes rendered from data, with the selection kept in a bitset.
+ *
+ * <p>Building a long list from individual {@link Checkbox} components costs a
+ * server component, a change event and a property update per checkbox. The
+ * group instead renders its rows in the browser from a list of labels and keeps
+ * the selection in a single {@link BitSet} on the server. Changes made by the
+ * user are coalesced into one {@link ChangeEvent} carrying only the indices
+ * that changed, and {@link #selectAll()}, {@link #selectNone()} and
+ * {@link #invert()} are sent as single commands.</p>
+ *
+ * <p>An optional parent checkbox selects or clears all rows and shows the
+ * indeterminate state while only some of them are selected.</p>
+ *
+ * <pre>{@code
+ * CheckboxGroup permissions = new CheckboxGroup();
+ * permissions.setSelectAllLabel("All permissions");
+ * permissions.setItems(permissionNames);
+ *
+ * permissions.onChange(event -> {
+ *   for (int index : event.getSelectedIndices()) {
+ *     grant(permissionIds.get(index));
+ *   }
+ *   for (int index : event.getDeselectedIndices()) {
+ *     revoke(permissionIds.get(index));
+ *   }
+ * });
+ * }</pre>
+ *
+ * @see <a href="https://shoelace.style/components/checkbox">Shoelace Checkbox Documentation</a>
+ * @since 1.0.0
+ */
+@JavaScript(
+  value = "https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/components/checkbox/checkbox.js",
+  attributes = {@Attribute(name = "type", value = "module")})
+@NodeName("div")
+@StyleSheet("https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/themes/light.css")
+public class CheckboxGroup extends ElementComposite implements HasStyle<CheckboxGroup> {
+  private List<String> items = List.of();
+  private final BitSet selection = new BitSet();
+  private String selectAllLabel;
+
+  /**
+   * Create a new, empty checkbox group.
+   */
+  public CheckboxGroup() {
+    super();
+    getElement().executeJsVoidAsync(CLIENT_SCRIPT);
+    addEventListener(ChangeEvent.class, this::applyChange);
+  }
+
+  /**
+   * Create a new checkbox group.
+   *
+   * @param items the labels of the rows
+   */
+  public CheckboxGroup(List<String> items) {
+    this();
+    setItems(items);
+  }
+
+  /**
+   * Sets the rows. The selection is cleared.
+   *
+   * @param items the labels of the rows
+   * @return this instance
+   */
+  public CheckboxGroup setItems(List<String> items) {
+    this.items = List.copyOf(items);
+    selection.clear();
+    getElement().callJsFunctionVoidAsync("__slwSetItems", Json.write(this.items));
+    return this;
+  }
+
+  /**
+   * Gets the labels of the rows.
+   *
+   * @return the labels
+   */
+  public List<String> getItems() {
+    return items;
+  }
+
+  /**
+   * Gets the number of rows.
+   *
+   * @return the number of rows
+   */
+  public int getItemCount() {
+    return items.size();
+  }
+
+  /**
+   * Shows a parent checkbox above the rows that selects or clears all of them.
+   *
+   * @param label the label of the parent checkbox, or {@code null} to hide it
+   * @return this instance
+   */
+  public CheckboxGroup setSelectAllLabel(String label) {
+    this.selectAllLabel = label;
+    getElement().callJsFunctionVoidAsync("__slwSetParentLabel", label == null ? "" : label);
+    return this;
+  }
+
+  /**
+   * Gets the label of the parent checkbox.
+   *
+   * @return the label, or {@code null} if there is no parent checkbox
+   */
+  public String getSelectAllLabel() {
+    return selectAllLabel;
+  }
+
+  /**
+   * Checks whether a row is selected.
+   *
+   * @param index the row index
+   * @return true if selected
+   */
+  public boolean isSelected(int index) {
+    return selection.get(index);
+  }
+
+  /**
+   * Selects or clears a row.
+   *
+   * @param index the row index
+   * @param selected true to select the row
+   * @return this instance
+   */
+  public CheckboxGroup setSelected(int index, boolean selected) {
+    checkIndex(index);
+    if (selection.get(index) != selected) {
+      selection.set(index, selected);
+      getElement().callJsFunctionVoidAsync("__slwCommand", "set", Json.write(new int[] {selected ? index + 1 : -(index + 1)}));
+    }
+    return this;
+  }
+
+  /**
+   * Gets a copy of the selection.
+   *
+   * @return a bitset with a bit set for each selected row
+   */
+  public BitSet getSelection() {
+    return (BitSet) selection.clone();
+  }
+
+  /**
+   * Replaces the selection, sending only the rows that change.
+   *
+   * @param selected a bitset with a bit set for each row to select
+   * @return this instance
+   */
+  public CheckboxGroup setSelection(BitSet selected) {
+    BitSet changed = (BitSet) selection.clone();
+    changed.xor(selected);
+    changed.clear(items.size(), Math.max(items.size(), changed.length()));
+
+    int[] updates = new int[changed.cardinality()];
+    int next = 0;
+    for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+      updates[next++] = selected.get(index) ? index + 1 : -(index + 1);
+      selection.set(index, selected.get(index));
+    }
+
+    if (updates.length > 0) {
+      getElement().callJsFunctionVoidAsync("__slwCommand", "set", Json.write(updates));
+    }
+    return this;
+  }
+
+  /**
+   * Gets the number of selected rows.
+   *
+   * @return the number of selected rows
+   */
+  public int getSelectedCount() {
+    return selection.cardinality();
+  }
+
+  /**
+   * Checks whether some, but not all, rows are selected.
+   *
+   * @return true if the parent checkbox shows the indeterminate state
+   */
+  public boolean isIndeterminate() {
+    int count = getSelectedCount();
+    return count > 0 && count < items.size();
+  }
+
+  /**
+   * Selects all rows.
+   *
+   * @return this instance
+   */
+  public CheckboxGroup selectAll() {
+    selection.set(0, items.size());
+    getElement().callJsFunctionVoidAsync("__slwCommand", "all", "[]");
+    return this;
+  }
+
+  /**
+   * Clears all rows.
+   *
+   * @return this instance
+   */
+  public CheckboxGroup selectNone() {
+    selection.clear();
+    getElement().callJsFunctionVoidAsync("__slwCommand", "none", "[]");
+    return this;
+  }
+
+  /**
+   * Inverts the selection of all rows.
+   *
+   * @return this instance
+   */
+  public CheckboxGroup invert() {
+    selection.flip(0, items.size());
+    getElement().callJsFunctionVoidAsync("__slwCommand", "invert", "[]");
+    return this;
+  }
+
+  /**
+   * Add a listener for the change event.
+   *
+   * <p>Fired when the user changed the selection. Changes made within a short
+   * time, including selecting all rows through the parent checkbox, are
+   * reported in a single event. Changes made from the server are not reported.
+   *
+   * @param listener the change event listener
+   * @return the listener registration for removal
+   */
+  public ListenerRegistration<ChangeEvent> onChange(EventListener<ChangeEvent> listener) {
+    return addEventListener(ChangeEvent.class, listener);
+  }
+
+  private void applyChange(ChangeEvent event) {
+    for (int index : event.getSelectedIndices()) {
+      selection.set(index);
+    }
+    for (int index : event.getDeselectedIndices()) {
+      selection.clear(index);
+    }
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= items.size()) {
+      throw new IndexOutOfBoundsException("Index " + index + " outside of " + items.size() + " items");
+    }
+  }
+
+  /**
+   * Event fired when the user changed the selection.
+   */
+  @EventName("slw-selection-change")
+  @EventOptions(data = {
+    @EventOptions.EventData(key = "changes", exp = "event.detail")
+  })
+  public static class ChangeEvent extends ComponentEvent<CheckboxGroup> {
+    private int[] selected;
+    private int[] deselected;
+
+    public ChangeEvent(CheckboxGroup component, Map<String, Object> eventData) {
+      super(component, eventData);
+    }
+
+    /**
+     * Gets the rows that were selected.
+     *
+     * @return the row indices
+     */
+    public int[] getSelectedIndices() {
+      decode();
+      return selected.clone();
+    }
+
+    /**
+     * Gets the rows that were cleared.
+     *
+     * @return the row indices
+     */
+    public int[] getDeselectedIndices() {
+      decode();
+      return deselected.clone();
+    }
+
+    /**
+     * Gets all rows that changed, selected ones first.
+     *
+     * @return the row indices
+     */
+    public int[] getChangedIndices() {
+      decode();
+      int[] changed = new int[selected.length + deselected.length];
+      System.arraycopy(selected, 0, changed, 0, selected.length);
+      System.arraycopy(deselected, 0, changed, selected.length, deselected.length);
+      return changed;
+    }
+
+    private void decode() {
+      if (selected != null) {
+        return;
+      }
+
+      // Rows are encoded as index + 1, negated when the row was cleared
+      List<Integer> on = new ArrayList<>();
+      List<Integer> off = new ArrayList<>();
+      for (Object value : (List<?>) Json.parse(String.valueOf(getEventMap().get("changes")))) {
+        int encoded = ((Number) value).intValue();
+        if (encoded > 0) {
+          on.add(encoded - 1);
+        } else {
+          off.add(-encoded - 1);
+        }
+      }
+      selected = on.stream().mapToInt(Integer::intValue).toArray();
+      deselected = off.stream().mapToInt(Integer::intValue).toArray();
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "if (!component.__slwSetItems) {" +
+    "  let bits = new Uint8Array(0);" +
+    "  let timer = 0;" +
+    "  const pending = new Set();" +
+    "  const parent = document.createElement('sl-checkbox');" +
+    "  const list = document.createElement('div');" +
+    "  parent.hidden = true;" +
+    "  parent.style.marginBottom = 'var(--sl-spacing-x-small)';" +
+    "  list.style.cssText = 'display:flex;flex-direction:column;gap:var(--sl-spacing-2x-small)';" +
+    "  component.append(parent, list);" +
+    "  const syncParent = () => {" +
+    "    let count = 0;" +
+    "    for (let i = 0; i < bits.length; i++) count += bits[i];" +
+    "    parent.checked = count > 0 && count === bits.length;" +
+    "    parent.indeterminate = count > 0 && count < bits.length;" +
+    "  };" +
+    "  const flush = () => {" +
+    "    const changes = Array.from(pending, (i) => bits[i] ? i + 1 : -(i + 1));" +
+    "    pending.clear();" +
+    "    if (changes.length) component.dispatchEvent(new CustomEvent('slw-selection-change', {detail: JSON.stringify(changes)}));" +
+    "  };" +
+    "  const set = (i, value, notify) => {" +
+    "    if (i < 0 || i >= bits.length || bits[i] === value) return;" +
+    "    bits[i] = value;" +
+    "    list.children[i].checked = value === 1;" +
+    "    if (notify) pending.add(i);" +
+    "  };" +
+    "  const notifySoon = () => { clearTimeout(timer); timer = setTimeout(flush, 50); };" +
+    "  list.addEventListener('sl-change', (e) => {" +
+    "    const i = Number(e.target.dataset.index);" +
+    "    bits[i] = e.target.checked ? 1 : 0;" +
+    "    pending.add(i);" +
+    "    syncParent();" +
+    "    notifySoon();" +
+    "  });" +
+    "  parent.addEventListener('sl-change', () => {" +
+    "    const value = parent.checked ? 1 : 0;" +
+    "    for (let i = 0; i < bits.length; i++) set(i, value, true);" +
+    "    syncParent();" +
+    "    notifySoon();" +
+    "  });" +
+    "  component.__slwSetItems = (json) => {" +
+    "    const labels = JSON.parse(json);" +
+    "    bits = new Uint8Array(labels.length);" +
+    "    pending.clear();" +
+    "    list.replaceChildren(...labels.map((label, i) => {" +
+    "      const box = document.createElement('sl-checkbox');" +
+    "      box.dataset.index = i;" +
+    "      box.style.cssText = 'content-visibility:auto;contain-intrinsic-size:auto 1.5em';" +
+    "      box.textContent = label;" +
+    "      return box;" +
+    "    }));" +
+    "    syncParent();" +
+    "  };" +
+    "  component.__slwCommand = (command, json) => {" +
+    "    if (command === 'set') JSON.parse(json).forEach((c) => set(Math.abs(c) - 1, c > 0 ? 1 : 0, false));" +
+    "    else for (let i = 0; i < bits.length; i++) set(i, command === 'all' ? 1 : command === 'none' ? 0 : 1 - bits[i], false);" +
+    "    syncParent();" +
+    "  };" +
+    "  component.__slwSetParentLabel = (label) => {" +
+    "    parent.textContent = label;" +
+    "    parent.hidden = !label;" +
+    "  };" +
+    "}";
+}
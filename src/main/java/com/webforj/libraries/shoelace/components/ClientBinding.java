@@ -0,0 +1,255 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.event.ElementEventOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Propagates the state of a toggle to a property of another component directly in the browser.
+ *
+ * <p>Bindings are created from the toggles themselves, see
+ * {@link HasClientBindings}. When the user flips the toggle, the target
+ * property is updated immediately on the client, without waiting for the
+ * server. The new state is then sent to the server in the background, which
+ * updates its own copy of the target property, so server-side getters agree
+ * with what the user sees. The browser then applies the state of the toggle
+ * once more, so a copy recorded for an older state never undoes a newer one
+ * when the user toggles faster than the server answers.</p>
+ *
+ * <p>Targets are looked up by reference in the tree containing the toggle,
+ * then in the main document. A target inside the shadow root of another
+ * component, unreachable from either, is not updated in the browser and only
+ * catches up when the server answers.</p>
+ *
+ * <pre>{@code
+ * Checkbox showAdvanced = new Checkbox("Show advanced options");
+ * showAdvanced.controls(advancedDetails, ClientBinding.Property.OPEN);
+ *
+ * Switch useDefaults = new Switch("Use defaults");
+ * useDefaults.disables(portInput);
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class ClientBinding {
+  private static final AtomicLong NEXT_ID = new AtomicLong();
+  private static final Map<ElementComposite, String> REFS = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Boolean properties a binding can control.
+   */
+  public enum Property {
+    /** Opens details, dialogs, drawers, dropdowns and tooltips */
+    OPEN("open"),
+    /** Disables the target */
+    DISABLED("disabled"),
+    /** Hides the target */
+    HIDDEN("hidden"),
+    /** Makes a form field required */
+    REQUIRED("required"),
+    /** Makes a form field read-only */
+    READONLY("readonly"),
+    /** Checks a checkbox or switch */
+    CHECKED("checked");
+
+    private final String value;
+
+    Property(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  private final Group group;
+  private final String id;
+  private final ElementComposite target;
+  private final Property property;
+  private final boolean inverted;
+
+  private ClientBinding(Group group, ElementComposite target, Property property, boolean inverted) {
+    this.group = group;
+    this.id = String.valueOf(NEXT_ID.incrementAndGet());
+    this.target = target;
+    this.property = property;
+    this.inverted = inverted;
+  }
+
+  /**
+   * Gets the component whose property is controlled.
+   *
+   * @return the target
+   */
+  public ElementComposite getTarget() {
+    return target;
+  }
+
+  /**
+   * Gets the controlled property.
+   *
+   * @return the property
+   */
+  public Property getProperty() {
+    return property;
+  }
+
+  /**
+   * Checks whether the property is set to the opposite of the toggle state.
+   *
+   * @return true if inverted
+   */
+  public boolean isInverted() {
+    return inverted;
+  }
+
+  /**
+   * Removes the binding. The target keeps its current state.
+   */
+  public void remove() {
+    group.bindings.remove(this);
+    group.source.getElement().callJsFunctionVoidAsync("__slwUnbind", id);
+  }
+
+  private void apply(boolean state) {
+    target.getElement().setProperty(property.getValue(), state != inverted);
+  }
+
+  /**
+   * Gets the reference the client uses to find a component, assigning one if needed.
+   *
+   * @param component the component
+   * @return the reference, unique within the application
+   */
+  static String refOf(ElementComposite component) {
+    return REFS.computeIfAbsent(component, c -> {
+      String ref = "slw" + NEXT_ID.incrementAndGet();
+      c.getElement().setAttribute("data-slw-ref", ref);
+      return ref;
+    });
+  }
+
+  /**
+   * The bindings of a single toggle. The client side is installed with the first binding.
+   */
+  static final class Group {
+    private final ElementComposite source;
+    private final String stateExpression;
+    private final boolean groupEvents;
+    private final BooleanSupplier state;
+    private final List<ClientBinding> bindings = new ArrayList<>();
+    private boolean installed;
+
+    /**
+     * Creates the bindings of a toggle.
+     *
+     * @param source the toggle
+     * @param stateExpression a JavaScript expression evaluating the toggle state from {@code component}
+     * @param groupEvents true if the change event is fired by an enclosing group rather than the toggle
+     * @param state reads the toggle state on the server
+     */
+    Group(ElementComposite source, String stateExpression, boolean groupEvents, BooleanSupplier state) {
+      this.source = source;
+      this.stateExpression = stateExpression;
+      this.groupEvents = groupEvents;
+      this.state = state;
+    }
+
+    /**
+     * Adds a binding and applies the current state to its target.
+     *
+     * @param target the component to control
+     * @param property the property to control
+     * @param inverted true to set the property when the toggle is off
+     * @return the binding
+     */
+    ClientBinding add(ElementComposite target, Property property, boolean inverted) {
+      install();
+      ClientBinding binding = new ClientBinding(this, target, property, inverted);
+      bindings.add(binding);
+      binding.apply(state.getAsBoolean());
+      source.getElement().callJsFunctionVoidAsync("__slwBind", binding.id, refOf(target), property.getValue(), inverted);
+      return binding;
+    }
+
+    /**
+     * Applies a toggle state set on the server to all targets.
+     *
+     * @param state the toggle state
+     */
+    void sync(boolean state) {
+      for (ClientBinding binding : bindings) {
+        binding.apply(state);
+      }
+    }
+
+    private void install() {
+      if (installed) {
+        return;
+      }
+      installed = true;
+      if (groupEvents) {
+        // Found by the listener shared by all radios of the page, see CLIENT_SCRIPT
+        source.getElement().setAttribute(GROUP_ATTR, "");
+      }
+      source.getElement().executeJsVoidAsync(CLIENT_SCRIPT
+          .replace("$STATE", stateExpression)
+          .replace("$GROUP", String.valueOf(groupEvents)));
+      source.getElement().addEventListener("slw-state", e -> reconcile(Boolean.TRUE.equals(e.getData().get("state"))),
+          new ElementEventOptions().addData("state", "event.detail"));
+    }
+
+    private void reconcile(boolean state) {
+      if (bindings.isEmpty()) {
+        return;
+      }
+      sync(state);
+      // The copy above is sent back to the browser, where the toggle may have moved on since
+      source.getElement().callJsFunctionVoidAsync("__slwReapply");
+    }
+  }
+
+  private static final String GROUP_ATTR = "data-slw-group-bindings";
+
+  // Toggles whose change event is fired by their group share one document listener, which
+  // only looks for bound toggles inside the group that changed
+  private static final String CLIENT_SCRIPT =
+    "if (!document.__slwGroupBindings) {" +
+    "  document.__slwGroupBindings = true;" +
+    "  document.addEventListener('sl-change', (e) => {" +
+    "    if (!e.target.querySelectorAll) return;" +
+    "    e.target.querySelectorAll('[" + GROUP_ATTR + "]').forEach((el) => el.__slwOnChange && el.__slwOnChange());" +
+    "  });" +
+    "}" +
+    "if (!component.__slwBindings) {" +
+    "  const bindings = component.__slwBindings = new Map();" +
+    "  component.__slwBind = (id, ref, property, inverted) => bindings.set(id, {ref, property, inverted});" +
+    "  component.__slwUnbind = (id) => bindings.delete(id);" +
+    "  const apply = () => {" +
+    "    const state = Boolean($STATE);" +
+    "    bindings.forEach((binding) => {" +
+    "      const selector = '[data-slw-ref=\"' + binding.ref + '\"]';" +
+    "      const root = component.getRootNode();" +
+    "      const target = (root.querySelector && root.querySelector(selector))" +
+    "        || (root !== document ? document.querySelector(selector) : null);" +
+    "      if (target && target[binding.property] !== (binding.inverted ? !state : state)) {" +
+    "        target[binding.property] = binding.inverted ? !state : state;" +
+    "      }" +
+    "    });" +
+    "    return state;" +
+    "  };" +
+    "  component.__slwReapply = apply;" +
+    "  component.__slwOnChange = () => component.dispatchEvent(new CustomEvent('slw-state', {detail: apply()}));" +
+    "  if (!$GROUP) component.addEventListener('sl-change', (e) => {" +
+    "    if (e.target === component) component.__slwOnChange();" +
+    "  });" +
+    "}";
+}
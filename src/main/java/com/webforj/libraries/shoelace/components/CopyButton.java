@@ -8,6 +8,7 @@ import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.EventName;
 import com.webforj.component.element.annotation.EventOptions;
 import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.element.event.ElementEventOptions;
 import com.webforj.component.event.ComponentEvent;
 import com.webforj.concern.HasComponents;
 import com.webforj.concern.HasStyle;
@@ -15,6 +16,7 @@ import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * CopyButton provides a simple way to copy text data to the clipboard.
@@ -65,6 +67,23 @@ import java.util.Map;
  * });
  * }</pre>
  * 
+ * <h3>Lazy Values:</h3>
+ * <p>Large payloads (configuration documents, API tokens) don't have to be sent to the
+ * browser up front. With a value supplier the button only holds a key; the value is fetched
+ * from the server when the button is clicked and cleared from the element again once it has
+ * been copied. The clipboard write starts within the click itself and waits for the value,
+ * so browsers that require a user gesture to write to the clipboard accept it.</p>
+ * <pre>{@code
+ * CopyButton copyConfig = new CopyButton()
+ *     .setValueSupplier("config-" + row.getId(), () -> configService.toJson(row))
+ *     .setValueTimeout(3000);
+ * 
+ * copyConfig.onError(event -> {
+ *     // Also fired when the server did not answer within the timeout
+ *     System.err.println("Copy failed: " + event.getMessage());
+ * });
+ * }</pre>
+ * 
  * @see <a href="https://shoelace.style/components/copy-button">Shoelace Copy Button Documentation</a>
  */
 @JavaScript(
@@ -102,6 +121,17 @@ public class CopyButton extends ElementComposite implements HasStyle<CopyButton>
   
   /** Whether to hoist the tooltip to the body */
   private final PropertyDescriptor<Boolean> hoistProp = PropertyDescriptor.property("hoist", false);
+
+  // ==================== Lazy Value State ====================
+
+  private static final String VALUE_KEY_ATTR = "data-value-key";
+  private static final String VALUE_TIMEOUT_ATTR = "data-value-timeout";
+
+  private Supplier<String> valueSupplier;
+  private long valueCacheMillis = 30_000;
+  private String cachedValue;
+  private long cachedAt;
+  private boolean lazyClientInstalled;
   
   // ==================== Constructors ====================
   
@@ -157,9 +187,74 @@ public class CopyButton extends ElementComposite implements HasStyle<CopyButton>
    * @return this CopyButton instance for method chaining
    */
   public CopyButton setValue(String value) {
+    if (valueSupplier != null) {
+      valueSupplier = null;
+      cachedValue = null;
+      getElement().removeAttribute(VALUE_KEY_ATTR);
+    }
     set(valueProp, value);
     return this;
   }
+
+  /**
+   * Fetches the value to copy from the server when the button is clicked.
+   * 
+   * <p>Only the key is sent to the browser. On click the button asks the server for the value,
+   * the supplier is called (or a recently supplied value reused, see
+   * {@link #setValueCacheDuration(long)}) and the answer is copied. The value is removed from
+   * the element again as soon as the copy completes. If no answer arrives within
+   * {@link #setValueTimeout(int) the timeout}, an {@link ErrorEvent} is fired instead.</p>
+   * 
+   * <p>Calling {@link #setValue(String)} switches back to a static value.</p>
+   * 
+   * @param key an identifier for the value, rendered into the page in place of the value
+   * @param supplier produces the value to copy
+   * @return this CopyButton instance for method chaining
+   */
+  public CopyButton setValueSupplier(String key, Supplier<String> supplier) {
+    if (supplier == null) {
+      throw new IllegalArgumentException("supplier must not be null");
+    }
+
+    valueSupplier = supplier;
+    cachedValue = null;
+    set(valueProp, "");
+    getElement().setAttribute(VALUE_KEY_ATTR, key);
+    installLazyClient();
+    return this;
+  }
+
+  /**
+   * Checks whether the value is fetched from the server on click.
+   * 
+   * @return true if a value supplier is set
+   */
+  public boolean isLazyValue() {
+    return valueSupplier != null;
+  }
+
+  /**
+   * Sets how long the browser waits for a lazy value before reporting an error.
+   * 
+   * @param timeout the timeout in milliseconds (default: 5000)
+   * @return this CopyButton instance for method chaining
+   */
+  public CopyButton setValueTimeout(int timeout) {
+    getElement().setAttribute(VALUE_TIMEOUT_ATTR, String.valueOf(timeout));
+    return this;
+  }
+
+  /**
+   * Sets how long a supplied lazy value is reused before the supplier is called again.
+   * 
+   * @param millis the cache duration in milliseconds, {@code 0} to call the supplier on every click
+   * @return this CopyButton instance for method chaining
+   */
+  public CopyButton setValueCacheDuration(long millis) {
+    valueCacheMillis = Math.max(0, millis);
+    cachedValue = null;
+    return this;
+  }
   
   /**
    * Gets the ID of the element to copy content from.
@@ -379,6 +474,109 @@ public class CopyButton extends ElementComposite implements HasStyle<CopyButton>
     return this;
   }
   
+  // ==================== Lazy Value Plumbing ====================
+
+  private void installLazyClient() {
+    if (lazyClientInstalled) {
+      return;
+    }
+
+    lazyClientInstalled = true;
+    getElement().addEventListener("slw-copy-request", e -> {
+      String requestId = String.valueOf(e.getData().get("requestId"));
+      String value;
+      try {
+        value = resolveValue();
+      } catch (RuntimeException ex) {
+        getElement().callJsFunctionVoidAsync("__slwRejectCopy", requestId, String.valueOf(ex.getMessage()));
+        return;
+      }
+      getElement().callJsFunctionVoidAsync("__slwResolveCopy", requestId, value == null ? "" : value);
+    }, new ElementEventOptions().addData("requestId", "event.detail.requestId"));
+
+    getElement().executeJsVoidAsync(
+      "const fail = (message) => component.dispatchEvent(Object.assign(" +
+      "  new CustomEvent('sl-error', {bubbles: true, composed: true}), {message}));" +
+      "const status = (result) => { if (typeof component.showStatus === 'function') component.showStatus(result); };" +
+      "const canWriteLater = typeof ClipboardItem === 'function' && navigator.clipboard" +
+      "  && typeof navigator.clipboard.write === 'function';" +
+      "let pending = null;" +
+      "let sequence = 0;" +
+      "const settle = (id) => {" +
+      "  if (!pending || pending.id !== id) return null;" +
+      "  const settled = pending;" +
+      "  clearTimeout(settled.timer);" +
+      "  pending = null;" +
+      "  return settled;" +
+      "};" +
+      // The copy button reads its value as soon as it is clicked, and reports it with sl-copy,
+      // so the value is only set for the duration of the click
+      "const reclick = (value) => {" +
+      "  const previous = component.value;" +
+      "  component.value = value;" +
+      "  component.__slwLazyReady = true;" +
+      "  try {" +
+      "    component.shadowRoot.querySelector('[part~=\"button\"]').click();" +
+      "  } finally {" +
+      "    component.value = previous;" +
+      "  }" +
+      "};" +
+      "component.__slwResolveCopy = (id, value) => {" +
+      "  const settled = settle(id);" +
+      "  if (!settled) return;" +
+      "  if (settled.resolve) settled.resolve(value);" +
+      "  else reclick(value);" +
+      "};" +
+      "component.__slwRejectCopy = (id, message) => {" +
+      "  const settled = settle(id);" +
+      "  if (!settled) return;" +
+      "  if (settled.reject) settled.reject(new Error(message));" +
+      "  else fail(message);" +
+      "};" +
+      "component.addEventListener('click', (event) => {" +
+      "  if (component.__slwLazyReady) {" +
+      "    component.__slwLazyReady = false;" +
+      "    return;" +
+      "  }" +
+      "  if (!component.hasAttribute('" + VALUE_KEY_ATTR + "') || component.disabled) return;" +
+      "  event.stopPropagation();" +
+      "  if (pending) return;" +
+      "  const id = String(++sequence);" +
+      "  const timeout = Number(component.getAttribute('" + VALUE_TIMEOUT_ATTR + "')) || 5000;" +
+      "  pending = {id, timer: setTimeout(() => component.__slwRejectCopy(id," +
+      "    'Timed out waiting for the value to copy'), timeout)};" +
+      "  if (canWriteLater) {" +
+      // Start the write within the click, while the user gesture is active,
+      // and let the browser wait for the value from the server
+      "    const value = new Promise((resolve, reject) => Object.assign(pending, {resolve, reject}));" +
+      "    const blob = value.then((text) => new Blob([text], {type: 'text/plain'}));" +
+      "    navigator.clipboard.write([new ClipboardItem({'text/plain': blob})]).then(() => value).then((text) => {" +
+      "      component.dispatchEvent(new CustomEvent('sl-copy', {bubbles: true, composed: true, detail: {value: text}}));" +
+      "      status('success');" +
+      "    }, (error) => {" +
+      "      fail(error && error.message ? error.message : String(error));" +
+      "      status('error');" +
+      "    });" +
+      "  }" +
+      "  component.dispatchEvent(new CustomEvent('slw-copy-request', {detail: {requestId: id}}));" +
+      "}, true);"
+    );
+  }
+
+  private String resolveValue() {
+    long now = System.currentTimeMillis();
+    if (cachedValue != null && now - cachedAt < valueCacheMillis) {
+      return cachedValue;
+    }
+
+    String value = valueSupplier.get();
+    if (valueCacheMillis > 0) {
+      cachedValue = value;
+      cachedAt = now;
+    }
+    return value;
+  }
+  
   // ==================== Event Handling ====================
   
   /**
@@ -412,7 +610,8 @@ public class CopyButton extends ElementComposite implements HasStyle<CopyButton>
    */
   @EventName("sl-copy")
   @EventOptions(data = {
-    @EventOptions.EventData(key = "value", exp = "event.target.value")
+    @EventOptions.EventData(key = "value",
+        exp = "event.detail && event.detail.value != null ? event.detail.value : event.target.value")
   })
   public static class CopyEvent extends ComponentEvent<CopyButton> {
     /**
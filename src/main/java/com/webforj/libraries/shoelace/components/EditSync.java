@@ -0,0 +1,204 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One side of the incremental sync of a {@link Textarea}.
+ *
+ * <p>Both sides edit their copy of the document at once and send each edit
+ * tagged with its index and the number of remote edits applied so far. An
+ * incoming edit made before the other side saw some of the local edits is
+ * transformed against them first, so both copies end up with the same text
+ * without a round trip. The browser runs the same algorithm in JavaScript.</p>
+ *
+ * <p>When two edits overlap, the union of both ranges is replaced by both
+ * inserted texts, the text of the winning side first. The server is the
+ * winning side.</p>
+ *
+ * <p>Instances are not thread safe.</p>
+ */
+final class EditSync {
+  private final PieceTable document = new PieceTable();
+  private final boolean wins;
+  private final List<Pending> pending = new ArrayList<>();
+  private int sent;
+  private int received;
+
+  /**
+   * A replaced range and its replacement text.
+   *
+   * @param offset the start of the range
+   * @param deleteCount the length of the range
+   * @param text the inserted text
+   */
+  record Edit(int offset, int deleteCount, String text) {
+
+    Edit {
+      text = text == null ? "" : text;
+    }
+
+    int end() {
+      return offset + deleteCount;
+    }
+
+    /**
+     * Transforms this edit to apply after another edit made concurrently on the same text.
+     *
+     * @param other the edit applied first
+     * @param first true if this edit's text goes first when the two overlap
+     * @return the transformed edit
+     */
+    Edit transform(Edit other, boolean first) {
+      if (overlaps(other)) {
+        int start = Math.min(offset, other.offset);
+        int end = Math.max(end(), other.end());
+        return new Edit(start, end - start + other.text.length() - other.deleteCount,
+            first ? text + other.text : other.text + text);
+      }
+
+      boolean before = offset < other.offset || (offset == other.offset && deleteCount == 0);
+      return before ? this : new Edit(offset + other.text.length() - other.deleteCount, deleteCount, text);
+    }
+
+    private boolean overlaps(Edit other) {
+      if (Math.max(offset, other.offset) < Math.min(end(), other.end())) {
+        return true;
+      }
+      if (deleteCount == 0 && other.deleteCount == 0) {
+        return offset == other.offset;
+      }
+      return (deleteCount == 0 && other.offset < offset && offset < other.end())
+          || (other.deleteCount == 0 && offset < other.offset && other.offset < end());
+    }
+  }
+
+  /**
+   * An edit sent to the other side and not known to be seen by it yet.
+   */
+  private static final class Pending {
+    private final int index;
+    private Edit edit;
+
+    private Pending(int index, Edit edit) {
+      this.index = index;
+      this.edit = edit;
+    }
+  }
+
+  /**
+   * Creates one side of the sync.
+   *
+   * @param wins true for the side whose text goes first when edits overlap
+   */
+  EditSync(boolean wins) {
+    this.wins = wins;
+  }
+
+  /**
+   * Gets the document.
+   *
+   * @return the document
+   */
+  PieceTable document() {
+    return document;
+  }
+
+  /**
+   * Gets the number of local edits made since the last reset.
+   *
+   * @return the index of the next local edit
+   */
+  int sent() {
+    return sent;
+  }
+
+  /**
+   * Gets the number of remote edits applied since the last reset.
+   *
+   * @return the index of the next remote edit
+   */
+  int received() {
+    return received;
+  }
+
+  /**
+   * Replaces the document and forgets all edits.
+   *
+   * @param text the new text
+   */
+  void reset(String text) {
+    document.reset(text);
+    pending.clear();
+    sent = 0;
+    received = 0;
+  }
+
+  /**
+   * Applies a local edit. The caller sends it with the index {@link #sent()}
+   * and {@link #received()} had before the call.
+   *
+   * @param edit the edit
+   * @throws IndexOutOfBoundsException if the range is outside the document
+   */
+  void local(Edit edit) {
+    document.replace(edit.offset(), edit.deleteCount(), edit.text());
+    pending.add(new Pending(sent, edit));
+    sent++;
+  }
+
+  /**
+   * Applies an edit from the other side.
+   *
+   * @param index the index of the edit on the other side
+   * @param seen the number of local edits the other side had applied when making it
+   * @param edit the edit
+   * @return the edit as applied to the document
+   * @throws IllegalStateException if edits were lost or reordered
+   * @throws IndexOutOfBoundsException if the transformed range is outside the document
+   */
+  Edit remote(int index, int seen, Edit edit) {
+    if (index != received || seen > sent) {
+      throw new IllegalStateException("Edit " + index + " out of order, expected " + received);
+    }
+
+    pending.removeIf(p -> p.index < seen);
+    Edit transformed = edit;
+    for (Pending p : pending) {
+      Edit incoming = transformed.transform(p.edit, !wins);
+      p.edit = p.edit.transform(transformed, wins);
+      transformed = incoming;
+    }
+
+    document.replace(transformed.offset(), transformed.deleteCount(), transformed.text());
+    received++;
+    return transformed;
+  }
+
+  /**
+   * Adopts the text of the other side after the two diverged, then re-applies
+   * the local edits it had not seen, clamped to the new text.
+   *
+   * @param text the text of the other side
+   * @param seen the number of local edits the other side had applied
+   * @return the re-applied edits, to be sent again after the reset
+   */
+  List<Edit> rebase(String text, int seen) {
+    List<Edit> unseen = new ArrayList<>();
+    for (Pending p : pending) {
+      if (p.index >= seen) {
+        unseen.add(p.edit);
+      }
+    }
+
+    reset(text);
+    List<Edit> reapplied = new ArrayList<>(unseen.size());
+    for (Edit edit : unseen) {
+      int offset = Math.min(edit.offset(), document.length());
+      Edit clamped = new Edit(offset, Math.min(edit.deleteCount(), document.length() - offset), edit.text());
+      local(clamped);
+      reapplied.add(clamped);
+    }
+    return reapplied;
+  }
+}
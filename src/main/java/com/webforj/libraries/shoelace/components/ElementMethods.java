@@ -0,0 +1,152 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.Page;
+import com.webforj.PendingResult;
+import com.webforj.component.element.ElementComposite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calls methods of Shoelace elements in the browser.
+ *
+ * <p>Wrapper methods such as {@link Select#focus()} or
+ * {@link TabGroup#show(String)} call the method of the same name on their
+ * {@code sl-*} element through this class. Fire-and-forget calls made inside
+ * {@link #batch(Runnable)} are collected and sent to the browser in a single
+ * message when the batch ends, in the order they were made. Outside a batch,
+ * each call is sent on its own.</p>
+ *
+ * <p>Calls returning a value, such as {@link Select#checkValidityAsync()},
+ * return a {@link PendingResult} that completes once the browser answered.
+ * They are never batched and never block the UI thread. The synchronous
+ * {@code checkValidity()} and {@code reportValidity()} wrappers wait for the
+ * browser instead and are deprecated in favor of their {@code Async}
+ * variants.</p>
+ *
+ * <pre>{@code
+ * saveButton.onClick(e -> ElementMethods.batch(() -> {
+ *   tabs.show("address");
+ *   street.focus();
+ *   street.select();
+ * }));
+ *
+ * country.checkValidityAsync().thenAccept(valid -> saveButton.setDisabled(!valid));
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class ElementMethods {
+  private static final ThreadLocal<List<Object[]>> BATCH = new ThreadLocal<>();
+
+  private ElementMethods() {
+    // Utility class
+  }
+
+  /**
+   * Runs code on the UI thread and sends all method calls it makes in a single
+   * message. Batches may be nested, in which case the outermost batch sends
+   * the calls. Calls made before an exception are still sent.
+   *
+   * <p>Batched calls are addressed to elements already attached to the page.</p>
+   *
+   * @param calls the code making the calls
+   */
+  public static void batch(Runnable calls) {
+    if (BATCH.get() != null) {
+      calls.run();
+      return;
+    }
+
+    List<Object[]> batch = new ArrayList<>();
+    BATCH.set(batch);
+    try {
+      calls.run();
+    } finally {
+      BATCH.remove();
+      send(batch);
+    }
+  }
+
+  /**
+   * Calls a method of the element of a component without waiting for it.
+   *
+   * @param component the component
+   * @param method the name of the element method
+   * @param args the arguments, which must be strings, numbers, booleans or {@code null}
+   */
+  public static void call(ElementComposite component, String method, Object... args) {
+    List<Object[]> batch = BATCH.get();
+    if (batch == null) {
+      component.getElement().callJsFunctionVoidAsync(method, args);
+    } else {
+      batch.add(new Object[] {component, method, args});
+    }
+  }
+
+  /**
+   * Calls a method of the element of a component and returns its result.
+   *
+   * @param component the component
+   * @param method the name of the element method
+   * @param args the arguments, which must be strings, numbers, booleans or {@code null}
+   * @return the pending result of the method
+   */
+  public static PendingResult<Object> callAsync(ElementComposite component, String method, Object... args) {
+    return component.getElement().callJsFunctionAsync(method, args);
+  }
+
+  /**
+   * Calls a method of the element of a component returning a boolean, such as {@code checkValidity}.
+   *
+   * @param component the component
+   * @param method the name of the element method
+   * @param args the arguments
+   * @return the pending result, {@code true} only if the method returned {@code true}
+   */
+  static PendingResult<Boolean> callForBoolean(ElementComposite component, String method, Object... args) {
+    return callAsync(component, method, args).thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Calls a method of the element of a component returning a boolean and waits for the result.
+   * Blocks the UI thread for a round trip to the browser, only for the deprecated synchronous wrappers.
+   *
+   * @param component the component
+   * @param method the name of the element method
+   * @return {@code true} only if the method returned {@code true}
+   */
+  static boolean callForBooleanAndWait(ElementComposite component, String method) {
+    return Boolean.TRUE.equals(component.getElement().callJsFunction(method));
+  }
+
+  private static void send(List<Object[]> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    if (batch.size() == 1) {
+      Object[] call = batch.get(0);
+      ((ElementComposite) call[0]).getElement().callJsFunctionVoidAsync((String) call[1], (Object[]) call[2]);
+      return;
+    }
+
+    List<Object[]> calls = new ArrayList<>(batch.size());
+    for (Object[] call : batch) {
+      calls.add(new Object[] {ClientBinding.refOf((ElementComposite) call[0]), call[1], call[2]});
+    }
+    Page.getCurrent().executeJsVoidAsync(String.format(BATCH_SCRIPT, Json.quote(Json.write(calls))));
+  }
+
+  private static final String BATCH_SCRIPT =
+    "(() => {" +
+    "const calls = JSON.parse(%s);" +
+    "calls.reduce((previous, [ref, method, args]) => previous.then(() => {" +
+    "  const el = document.querySelector('[data-slw-ref=\"' + ref + '\"]');" +
+    "  if (!el) return;" +
+    "  const defined = el.localName.includes('-') ? customElements.whenDefined(el.localName) : Promise.resolve();" +
+    "  return defined.then(() => {" +
+    "    if (typeof el[method] === 'function') el[method](...args);" +
+    "  });" +
+    "}), Promise.resolve());" +
+    "})();";
+}
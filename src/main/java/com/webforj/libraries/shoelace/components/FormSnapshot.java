@@ -0,0 +1,221 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The values and validity of all named fields in a {@link ShoelaceForm}, read in one round trip.
+ *
+ * <p>Values keep the type they have in the browser: checkboxes and switches
+ * are {@link Boolean}s, ranges and ratings {@link Number}s, multiple selects
+ * lists of strings and all other fields strings.</p>
+ *
+ * <p>Several controls may share a name, as in a group of checkboxes named
+ * {@code tags}. Like form data, such a name has a single field whose value is
+ * a list: the values of the checked toggles (their {@code value}, or
+ * {@code "on"} if not set), or the values of all other controls in document
+ * order. The field is valid only if all of its controls are.</p>
+ *
+ * <pre>{@code
+ * form.snapshot().thenAccept(snapshot -> {
+ *   if (snapshot.isValid()) {
+ *     inspection.setInspector(snapshot.getString("inspector"));
+ *     inspection.setPassed(snapshot.getBoolean("passed"));
+ *     inspection.setScore(snapshot.getNumber("score").intValue());
+ *   }
+ * });
+ * }</pre>
+ *
+ * @see ShoelaceForm#snapshot()
+ * @since 1.0.0
+ */
+public final class FormSnapshot {
+
+  /**
+   * The state of a single field.
+   *
+   * @param name the field name
+   * @param value the field value, a list if several controls share the name
+   * @param valid whether the field passes its constraints
+   * @param message the validation message, empty if valid
+   */
+  public record Field(String name, Object value, boolean valid, String message) {
+  }
+
+  private final Map<String, Field> fields;
+
+  FormSnapshot(Map<String, Field> fields) {
+    this.fields = Collections.unmodifiableMap(fields);
+  }
+
+  /**
+   * Reads a snapshot from the JSON produced by the client.
+   *
+   * @param json the JSON array of fields
+   * @return the snapshot
+   */
+  static FormSnapshot fromJson(String json) {
+    Map<String, List<Map<?, ?>>> controls = new LinkedHashMap<>();
+    for (Object entry : (List<?>) Json.parse(json)) {
+      Map<?, ?> control = (Map<?, ?>) entry;
+      controls.computeIfAbsent(String.valueOf(control.get("name")), k -> new ArrayList<>()).add(control);
+    }
+
+    Map<String, Field> fields = new LinkedHashMap<>();
+    controls.forEach((name, named) -> fields.put(name, fieldOf(name, named)));
+    return new FormSnapshot(fields);
+  }
+
+  private static Field fieldOf(String name, List<Map<?, ?>> controls) {
+    if (controls.size() == 1) {
+      Map<?, ?> control = controls.get(0);
+      return new Field(name, control.get("value"), Boolean.TRUE.equals(control.get("valid")),
+          String.valueOf(control.get("message")));
+    }
+
+    boolean toggles = controls.stream().allMatch(control -> Boolean.TRUE.equals(control.get("toggle")));
+    List<Object> values = new ArrayList<>();
+    boolean valid = true;
+    String message = "";
+    for (Map<?, ?> control : controls) {
+      if (!toggles) {
+        values.add(control.get("value"));
+      } else if (Boolean.TRUE.equals(control.get("value"))) {
+        values.add(control.get("checkedValue"));
+      }
+
+      if (!Boolean.TRUE.equals(control.get("valid"))) {
+        message = valid ? String.valueOf(control.get("message")) : message;
+        valid = false;
+      }
+    }
+    return new Field(name, Collections.unmodifiableList(values), valid, message);
+  }
+
+  /**
+   * Gets all fields by name, in document order.
+   *
+   * @return the fields
+   */
+  public Map<String, Field> getFields() {
+    return fields;
+  }
+
+  /**
+   * Gets a field.
+   *
+   * @param name the field name
+   * @return the field, or {@code null} if the form has no such field
+   */
+  public Field getField(String name) {
+    return fields.get(name);
+  }
+
+  /**
+   * Gets the value of a field.
+   *
+   * @param name the field name
+   * @return the value, or {@code null} if the form has no such field
+   */
+  public Object getValue(String name) {
+    Field field = fields.get(name);
+    return field == null ? null : field.value();
+  }
+
+  /**
+   * Gets the value of a field as a string.
+   *
+   * @param name the field name
+   * @return the value, or {@code null} if the form has no such field
+   */
+  public String getString(String name) {
+    Object value = getValue(name);
+    if (value instanceof List<?>) {
+      return String.join(" ", getValues(name));
+    }
+    return value == null ? null : String.valueOf(value);
+  }
+
+  /**
+   * Gets the value of a checkbox or switch.
+   *
+   * @param name the field name
+   * @return true if checked
+   */
+  public boolean getBoolean(String name) {
+    Object value = getValue(name);
+    return value instanceof Boolean checked ? checked : Boolean.parseBoolean(String.valueOf(value));
+  }
+
+  /**
+   * Gets the value of a numeric field such as a range or rating.
+   *
+   * @param name the field name
+   * @return the value, or {@code null} if the field is missing or not a number
+   */
+  public Number getNumber(String name) {
+    Object value = getValue(name);
+    if (value instanceof Number number) {
+      return number;
+    }
+
+    try {
+      return value == null ? null : Double.valueOf(String.valueOf(value));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets the values of a multiple select or of several controls sharing a name.
+   *
+   * @param name the field name
+   * @return the values, empty if none
+   */
+  public List<String> getValues(String name) {
+    Object value = getValue(name);
+    List<String> values = new ArrayList<>();
+    if (value instanceof List<?> list) {
+      for (Object item : list) {
+        values.add(String.valueOf(item));
+      }
+    } else if (value != null && !String.valueOf(value).isEmpty()) {
+      values.add(String.valueOf(value));
+    }
+    return values;
+  }
+
+  /**
+   * Checks whether all fields pass their constraints.
+   *
+   * @return true if every field is valid
+   */
+  public boolean isValid() {
+    return fields.values().stream().allMatch(Field::valid);
+  }
+
+  /**
+   * Gets the fields that fail their constraints.
+   *
+   * @return the invalid fields, in document order
+   */
+  public List<Field> getInvalidFields() {
+    return fields.values().stream().filter(field -> !field.valid()).toList();
+  }
+
+  /**
+   * Gets the values of all fields by name, suitable for {@link ShoelaceForm#setValues(Map)}.
+   *
+   * @return the values
+   */
+  public Map<String, Object> toValueMap() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (Field field : fields.values()) {
+      values.put(field.name(), field.value());
+    }
+    return values;
+  }
+}
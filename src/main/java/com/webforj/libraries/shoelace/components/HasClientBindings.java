@@ -0,0 +1,47 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+
+/**
+ * A toggle whose state can control properties of other components directly in the browser.
+ *
+ * <p>A checkbox, switch or radio is on while it is checked, a rating while it
+ * has a value.</p>
+ *
+ * @see ClientBinding
+ * @since 1.0.0
+ */
+public interface HasClientBindings {
+
+  /**
+   * Binds a property of another component to this toggle. The property is set
+   * in the browser as soon as the toggle is switched on, without waiting for the server.
+   *
+   * @param target the component to control
+   * @param property the property set while the toggle is on
+   * @return the binding, for removal
+   */
+  default ClientBinding controls(ElementComposite target, ClientBinding.Property property) {
+    return controls(target, property, false);
+  }
+
+  /**
+   * Binds a property of another component to this toggle.
+   *
+   * @param target the component to control
+   * @param property the property to control
+   * @param inverted true to set the property while the toggle is off
+   * @return the binding, for removal
+   */
+  ClientBinding controls(ElementComposite target, ClientBinding.Property property, boolean inverted);
+
+  /**
+   * Disables another component while this toggle is on.
+   *
+   * @param target the component to disable
+   * @return the binding, for removal
+   */
+  default ClientBinding disables(ElementComposite target) {
+    return controls(target, ClientBinding.Property.DISABLED);
+  }
+}
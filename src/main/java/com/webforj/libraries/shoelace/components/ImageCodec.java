@@ -0,0 +1,208 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Decoding, scaling and encoding helpers shared by the server-side image features.
+ *
+ * <p>Everything here is plain {@code javax.imageio} and {@code java.awt}, so no
+ * native libraries are required.</p>
+ */
+final class ImageCodec {
+
+  /**
+   * The most pixels a decoded image may have. Larger images are decoded
+   * subsampled, which is plenty for the thumbnails and variants made here.
+   */
+  static final long MAX_DECODED_PIXELS = 4096L * 4096L;
+
+  /**
+   * The most pixels an image may declare. Larger images are rejected without
+   * decoding, since even subsampled they take long to read.
+   */
+  static final long MAX_SOURCE_PIXELS = 16384L * 16384L;
+
+  /**
+   * An encoded image.
+   *
+   * @param bytes the encoded bytes
+   * @param mimeType the MIME type of the encoding
+   * @param extension the file extension of the encoding, without the dot
+   */
+  record Encoded(byte[] bytes, String mimeType, String extension) {
+  }
+
+  private ImageCodec() {
+    // Utility class
+  }
+
+  /**
+   * Decodes the first image (or animation frame) of the source.
+   *
+   * <p>The size is checked before decoding, as declared by the image itself,
+   * so an untrusted image cannot exhaust the heap. Images beyond
+   * {@link #MAX_DECODED_PIXELS} are decoded subsampled to fit.</p>
+   *
+   * @param source the image source
+   * @return the decoded image, or {@code null} if no installed reader understands the format
+   * @throws IOException if the source cannot be read or declares more than {@link #MAX_SOURCE_PIXELS}
+   */
+  static BufferedImage readFirstFrame(ImageSource source) throws IOException {
+    try (InputStream in = source.open(); ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+      if (iis == null) {
+        return null;
+      }
+
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+      if (!readers.hasNext()) {
+        return null;
+      }
+
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(iis, true, true);
+        long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+        if (pixels > MAX_SOURCE_PIXELS) {
+          throw new IOException("Image of " + reader.getWidth(0) + "x" + reader.getHeight(0) + " pixels is too large");
+        }
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        int step = subsampling(pixels);
+        if (step > 1) {
+          param.setSourceSubsampling(step, step, 0, 0);
+        }
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /**
+   * Gets the smallest step in both directions that brings an image within {@link #MAX_DECODED_PIXELS}.
+   *
+   * @param pixels the number of pixels of the image
+   * @return the step, {@code 1} to decode every pixel
+   */
+  static int subsampling(long pixels) {
+    int step = 1;
+    while (pixels > MAX_DECODED_PIXELS * step * step) {
+      step++;
+    }
+    return step;
+  }
+
+  /**
+   * Scales an image down so that it is no wider than {@code maxWidth}, keeping the aspect ratio.
+   *
+   * <p>Large reductions are done in halving steps, which gives noticeably better
+   * results than a single bilinear pass at a fraction of the cost of bicubic.</p>
+   *
+   * @param image the image
+   * @param maxWidth the maximum width in pixels
+   * @return the scaled image, or the image itself if it is already small enough
+   */
+  static BufferedImage scaleToWidth(BufferedImage image, int maxWidth) {
+    if (maxWidth <= 0 || image.getWidth() <= maxWidth) {
+      return image;
+    }
+
+    int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * maxWidth / image.getWidth()));
+    int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+    BufferedImage current = image;
+    int width = image.getWidth();
+    int height = image.getHeight();
+
+    do {
+      width = Math.max(maxWidth, width / 2);
+      height = width == maxWidth ? targetHeight : Math.max(targetHeight, height / 2);
+      current = draw(current, width, height, type);
+    } while (width > maxWidth);
+
+    return current;
+  }
+
+  /**
+   * Scales an image down so that its longest edge is at most {@code maxEdge}.
+   *
+   * @param image the image
+   * @param maxEdge the maximum edge length in pixels, or {@code 0} for no limit
+   * @return the scaled image, or the image itself if it is already small enough
+   */
+  static BufferedImage scaleToFit(BufferedImage image, int maxEdge) {
+    if (maxEdge <= 0 || Math.max(image.getWidth(), image.getHeight()) <= maxEdge) {
+      return image;
+    }
+
+    if (image.getWidth() >= image.getHeight()) {
+      return scaleToWidth(image, maxEdge);
+    }
+
+    int width = Math.max(1, (int) Math.round((double) image.getWidth() * maxEdge / image.getHeight()));
+    return scaleToWidth(image, width);
+  }
+
+  /**
+   * Encodes an image as JPEG, or as PNG if it has an alpha channel.
+   *
+   * @param image the image
+   * @param quality the JPEG quality between {@code 0} and {@code 1}
+   * @return the encoded image
+   * @throws IOException if encoding fails
+   */
+  static Encoded encode(BufferedImage image, float quality) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    if (image.getColorModel().hasAlpha()) {
+      ImageIO.write(image, "png", out);
+      return new Encoded(out.toByteArray(), "image/png", "png");
+    }
+
+    BufferedImage rgb = image;
+    if (image.getType() != BufferedImage.TYPE_INT_RGB) {
+      rgb = draw(image, image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+    }
+
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(Math.max(0f, Math.min(1f, quality)));
+      writer.setOutput(ios);
+      writer.write(null, new IIOImage(rgb, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+
+    return new Encoded(out.toByteArray(), "image/jpeg", "jpg");
+  }
+
+  private static BufferedImage draw(BufferedImage image, int width, int height, int type) {
+    BufferedImage target = new BufferedImage(width, height, type);
+    Graphics2D g = target.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.drawImage(image, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+
+    return target;
+  }
+}
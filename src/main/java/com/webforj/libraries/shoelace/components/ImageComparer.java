@@ -6,6 +6,7 @@ import com.webforj.annotation.StyleSheet;
 import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.html.elements.Img;
 import com.webforj.concern.HasComponents;
 import com.webforj.concern.HasStyle;
 
@@ -92,6 +93,21 @@ public final class ImageComparer extends ElementComposite implements HasComponen
     return this;
   }
 
+  /**
+   * Set both before and after images from URLs, served as variants sized for the comparer
+   *
+   * <p>Each image gets a {@code srcset} with 1x and 2x variants from {@link ImageVariantService},
+   * so the browser never downloads the full resolution originals.</p>
+   *
+   * @param beforeSrc the URL of the before image
+   * @param afterSrc the URL of the after image
+   * @param alt the alternative text, used for both images
+   * @param width the rendered width of the comparer in CSS pixels
+   */
+  public ImageComparer setImages(String beforeSrc, String afterSrc, String alt, int width) {
+    return setImages(createResponsiveImage(beforeSrc, alt, width), createResponsiveImage(afterSrc, alt, width));
+  }
+
   /**
    * Set the handle icon
    *
@@ -101,4 +117,14 @@ public final class ImageComparer extends ElementComposite implements HasComponen
     getBoundComponent().add("handle", handleIcon);
     return this;
   }
+
+  private Img createResponsiveImage(String src, String alt, int width) {
+    ImageVariantService variants = ImageVariantService.getDefault();
+    Img img = new Img();
+    img.setSrc(variants.getUrl(src, width));
+    img.setAlt(alt);
+    img.setAttribute("srcset", variants.getSrcset(src, width, width * 2));
+    img.setAttribute("sizes", width + "px");
+    return img;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongSupplier;
+
+/**
+ * Server-side access to the bytes behind an image URL.
+ *
+ * <p>The image components only hand URLs to the browser. Features that need to
+ * inspect or transform the image on the server (poster frames, resized
+ * variants) read it through an {@code ImageSource} instead.</p>
+ *
+ * <pre>{@code
+ * ImageSource fromClasspath = ImageSource.forSrc("ws://images/loading.gif");
+ * ImageSource fromDisk = () -> Files.newInputStream(Path.of("/data/previews/42.gif"));
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ImageSource {
+
+  /**
+   * The connect timeout for {@code http} and {@code https} sources, in milliseconds.
+   */
+  int CONNECT_TIMEOUT = 5_000;
+
+  /**
+   * The read timeout for {@code http} and {@code https} sources, in milliseconds.
+   */
+  int READ_TIMEOUT = 10_000;
+
+  /**
+   * Opens a new stream over the image bytes. The caller closes the stream.
+   *
+   * @return the image stream
+   * @throws IOException if the image cannot be read
+   */
+  InputStream open() throws IOException;
+
+  /**
+   * Gets when the image last changed, used to version the variants produced from it.
+   * May be costly, callers cache the result.
+   *
+   * @return the modification time in milliseconds, or {@code 0} if unknown
+   */
+  default long lastModified() {
+    return 0;
+  }
+
+  /**
+   * Resolves a component {@code src} to a server-side source.
+   *
+   * <p>Supported forms are {@code ws://} and {@code /static/} paths (read from
+   * the {@code static} folder on the classpath), {@code context://} paths
+   * (read from the classpath root) and absolute {@code http}, {@code https}
+   * and {@code file} URLs. Remote URLs are read with {@link #CONNECT_TIMEOUT}
+   * and {@link #READ_TIMEOUT}.</p>
+   *
+   * @param src the URL as given to the component
+   * @return the source, or {@code null} if the URL cannot be read on the server
+   */
+  static ImageSource forSrc(String src) {
+    if (src == null || src.isEmpty()) {
+      return null;
+    }
+
+    if (src.startsWith("ws://")) {
+      return classpath("static/" + src.substring("ws://".length()));
+    }
+
+    if (src.startsWith("/static/")) {
+      return classpath(src.substring(1));
+    }
+
+    if (src.startsWith("context://")) {
+      return classpath(src.substring("context://".length()));
+    }
+
+    if (src.startsWith("file:")) {
+      return versioned(() -> URI.create(src).toURL().openStream(), () -> {
+        try {
+          return Files.getLastModifiedTime(Path.of(URI.create(src))).toMillis();
+        } catch (IOException | RuntimeException e) {
+          return 0;
+        }
+      });
+    }
+
+    if (src.startsWith("http://") || src.startsWith("https://")) {
+      return () -> {
+        URLConnection connection = URI.create(src).toURL().openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT);
+        connection.setReadTimeout(READ_TIMEOUT);
+        return connection.getInputStream();
+      };
+    }
+
+    return null;
+  }
+
+  private static ImageSource classpath(String path) {
+    ImageSource source = () -> {
+      InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(path);
+      if (stream == null) {
+        throw new IOException("Resource not found on classpath: " + path);
+      }
+      return stream;
+    };
+
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    return versioned(source, () -> {
+      URL url = loader.getResource(path);
+      if (url == null) {
+        return 0;
+      }
+      try {
+        return url.openConnection().getLastModified();
+      } catch (IOException e) {
+        // Unversioned, served with a short cache lifetime
+        return 0;
+      }
+    });
+  }
+
+  private static ImageSource versioned(ImageSource source, LongSupplier lastModified) {
+    return new ImageSource() {
+      @Override
+      public InputStream open() throws IOException {
+        return source.open();
+      }
+
+      @Override
+      public long lastModified() {
+        return lastModified.getAsLong();
+      }
+    };
+  }
+}
@@ -0,0 +1,528 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Resizes and re-encodes images on the server and caches the results on disk.
+ *
+ * <p>Components that know how large they will be rendered ({@link Avatar},
+ * {@link CarouselItem}, {@link ImageComparer}) ask this service for a variant
+ * URL instead of handing the original image to the browser. Requested widths
+ * are rounded up to a fixed ladder so the number of variants per image stays
+ * small, and an image is never scaled up.</p>
+ *
+ * <p>Variants are produced lazily the first time they are requested through
+ * {@link ImageVariantServlet} and written to the cache directory. An LRU index
+ * keeps the directory below the configured size; it is rebuilt from the files
+ * found on disk when the service starts, so variant URLs handed out before a
+ * restart keep working.</p>
+ *
+ * <p>The id of an image includes the modification time of the original when
+ * it is known, as for classpath and {@code file:} sources, so a changed
+ * original gets new URLs and variants can be cached by browsers forever.
+ * Variants of other originals, such as {@code http} URLs, are cached for an
+ * hour by browsers and produced again on the server after that.</p>
+ *
+ * <p>Each service is served by the {@link ImageVariantServlet} mapped to its
+ * {@linkplain #setBasePath(String) base path}. Services other than the
+ * default one must be given the path of their own servlet mapping. Variant
+ * URLs start with the {@linkplain #setContextPath(String) context path} of the
+ * application, which the servlet sets when it starts, so it must be loaded
+ * on startup.</p>
+ *
+ * <pre>{@code
+ * ImageVariantService variants = ImageVariantService.getDefault();
+ * avatar.setImage(variants.getUrl("ws://people/jane.jpg", 96));
+ * img.setAttribute("srcset", variants.getSrcset("ws://slides/1.jpg", 400, 800));
+ * }</pre>
+ *
+ * @see ImageVariantServlet
+ * @since 1.0.0
+ */
+public final class ImageVariantService {
+  /** The path the {@link ImageVariantServlet} is mapped to by default. */
+  public static final String DEFAULT_BASE_PATH = "/sl-variants";
+
+  private static final int MAX_SOURCES = 4096;
+  private static final long UNVERSIONED_MAX_AGE_MILLIS = 60 * 60 * 1000L;
+  private static final long VERSION_TTL_MILLIS = 10_000L;
+  private static final Map<String, ImageVariantService> BY_BASE_PATH = new ConcurrentHashMap<>();
+  private static volatile String contextPath = "";
+  private static final int[] WIDTHS = {32, 48, 64, 96, 128, 192, 256, 384, 512, 768, 1024, 1536, 2048};
+  private static final ImageVariantService DEFAULT = new ImageVariantService(
+      Path.of(System.getProperty("java.io.tmpdir"), "shoelace-image-variants"), 256L * 1024 * 1024, 0.8f);
+
+  private final Path cacheDir;
+  private final long maxBytes;
+  private final float quality;
+  private final Map<String, ImageSource> sources = Collections.synchronizedMap(
+      new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImageSource> eldest) {
+          return size() > MAX_SOURCES;
+        }
+      });
+  private final Map<String, Version> versions = Collections.synchronizedMap(
+      new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Version> eldest) {
+          return size() > MAX_SOURCES;
+        }
+      });
+  private final Map<String, Lock> locks = new ConcurrentHashMap<>();
+  private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(64, 0.75f, true);
+  private long totalBytes;
+  private volatile String basePath;
+
+  /**
+   * The modification time of an original as last read.
+   */
+  private record Version(long value, long checkedAt) {
+  }
+
+  /**
+   * Serializes the production of a variant, mapped while any thread holds or waits for it.
+   */
+  private static final class Lock {
+    private int holders;
+  }
+
+  static {
+    DEFAULT.setBasePath(DEFAULT_BASE_PATH);
+  }
+
+  /**
+   * Creates a new service. Its variants are only served once a
+   * {@linkplain #setBasePath(String) base path} is set, until then the
+   * original URLs are used.
+   *
+   * @param cacheDir the directory the variants are written to
+   * @param maxBytes the size the cache directory is kept under
+   * @param quality the JPEG quality between {@code 0} and {@code 1}
+   */
+  public ImageVariantService(Path cacheDir, long maxBytes, float quality) {
+    this.cacheDir = cacheDir;
+    this.maxBytes = maxBytes;
+    this.quality = quality;
+    loadIndex();
+  }
+
+  /**
+   * Gets the service shared by all components.
+   *
+   * <p>Its cache lives in {@code shoelace-image-variants} under the system temp
+   * directory and is limited to 256 MB.</p>
+   *
+   * @return the default service
+   */
+  public static ImageVariantService getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Gets the service whose variants are served under a path.
+   *
+   * @param basePath the path a {@link ImageVariantServlet} is mapped to
+   * @return the service, or {@code null} if none uses the path
+   */
+  public static ImageVariantService forBasePath(String basePath) {
+    return basePath == null ? null : BY_BASE_PATH.get(basePath);
+  }
+
+  /**
+   * Sets the context path of the application, which starts all variant URLs.
+   * Set by {@link ImageVariantServlet} when it starts.
+   *
+   * @param path the context path, empty for the root context
+   */
+  public static void setContextPath(String path) {
+    contextPath = path == null ? "" : path;
+  }
+
+  /**
+   * Gets the context path of the application, which starts all variant URLs.
+   *
+   * @return the context path, empty for the root context
+   */
+  public static String getContextPath() {
+    return contextPath;
+  }
+
+  /**
+   * Sets the path the variant servlet is mapped to. The servlet mapped to the
+   * path serves the variants of this service.
+   *
+   * @param basePath the path within the application, without a trailing slash
+   * @return this instance
+   */
+  public ImageVariantService setBasePath(String basePath) {
+    synchronized (BY_BASE_PATH) {
+      if (this.basePath != null) {
+        BY_BASE_PATH.remove(this.basePath, this);
+      }
+      this.basePath = basePath;
+      BY_BASE_PATH.put(basePath, this);
+    }
+    return this;
+  }
+
+  /**
+   * Gets the path the variant servlet is mapped to.
+   *
+   * @return the path, or {@code null} if not set
+   */
+  public String getBasePath() {
+    return basePath;
+  }
+
+  /**
+   * Registers an image under its URL so variants can be produced for it.
+   *
+   * <p>Only registered images are served, so the servlet cannot be used to
+   * fetch arbitrary resources. The most recently used images stay registered
+   * in memory.</p>
+   *
+   * @param src the original URL, used as the identity of the image
+   * @param source where to read the original from
+   * @return the id of the image
+   */
+  public String register(String src, ImageSource source) {
+    return register(src, source, false);
+  }
+
+  /**
+   * Gets the URL of a variant at least {@code width} pixels wide.
+   *
+   * <p>If the original cannot be read on the server the original URL is
+   * returned unchanged.</p>
+   *
+   * @param src the original URL, resolved with {@link ImageSource#forSrc(String)}
+   * @param width the rendered width in device pixels
+   * @return the variant URL
+   */
+  public String getUrl(String src, int width) {
+    return url(src, ImageSource.forSrc(src), width, true);
+  }
+
+  /**
+   * Gets the URL of a variant at least {@code width} pixels wide.
+   *
+   * @param src the original URL
+   * @param source where to read the original from, or {@code null} to serve the original
+   * @param width the rendered width in device pixels
+   * @return the variant URL
+   */
+  public String getUrl(String src, ImageSource source, int width) {
+    return url(src, source, width, false);
+  }
+
+  /**
+   * Builds a {@code srcset} with one candidate per width.
+   *
+   * @param src the original URL, resolved with {@link ImageSource#forSrc(String)}
+   * @param widths the rendered widths the image is needed at
+   * @return the srcset value, or the original URL if it cannot be read on the server
+   */
+  public String getSrcset(String src, int... widths) {
+    ImageSource source = ImageSource.forSrc(src);
+    if (source == null) {
+      return src;
+    }
+
+    StringBuilder srcset = new StringBuilder();
+    int previous = -1;
+    for (int width : widths) {
+      int snapped = snapWidth(width);
+      if (snapped == previous) {
+        continue;
+      }
+
+      if (srcset.length() > 0) {
+        srcset.append(", ");
+      }
+
+      srcset.append(url(src, source, snapped, true)).append(' ').append(snapped).append('w');
+      previous = snapped;
+    }
+
+    return srcset.toString();
+  }
+
+  /**
+   * Gets the file holding a variant, producing it if needed.
+   *
+   * @param id the id returned by {@link #register(String, ImageSource)}
+   * @param width the requested width
+   * @return the variant file, or {@code null} if the id is unknown or the image cannot be decoded
+   * @throws IOException if the original cannot be read or the variant cannot be written
+   */
+  public Path getVariant(String id, int width) throws IOException {
+    String prefix = id + "-" + snapWidth(width) + ".";
+    Path cached = touch(prefix, isImmutable(id));
+    if (cached != null) {
+      return cached;
+    }
+
+    ImageSource source = sourceOf(id);
+    if (source == null) {
+      return null;
+    }
+
+    Lock lock = locks.compute(prefix, (k, current) -> {
+      Lock held = current == null ? new Lock() : current;
+      held.holders++;
+      return held;
+    });
+    synchronized (lock) {
+      try {
+        cached = touch(prefix, isImmutable(id));
+        if (cached != null) {
+          return cached;
+        }
+
+        BufferedImage original = ImageCodec.readFirstFrame(source);
+        if (original == null) {
+          return null;
+        }
+
+        ImageCodec.Encoded encoded = ImageCodec.encode(ImageCodec.scaleToWidth(original, snapWidth(width)), quality);
+        Files.createDirectories(cacheDir);
+        Path target = cacheDir.resolve(prefix + encoded.extension());
+        Path temp = Files.createTempFile(cacheDir, prefix, ".tmp");
+        Files.write(temp, encoded.bytes());
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        store(target.getFileName().toString(), encoded.bytes().length);
+        return target;
+      } finally {
+        locks.computeIfPresent(prefix, (k, held) -> --held.holders == 0 ? null : held);
+      }
+    }
+  }
+
+  /**
+   * Checks whether the variants of an image never change, because its id
+   * includes the modification time of the original.
+   *
+   * @param id the id of the image
+   * @return true if the variants can be cached forever
+   */
+  public static boolean isImmutable(String id) {
+    return id.startsWith("v");
+  }
+
+  /**
+   * Rounds a width up to the next step of the variant ladder.
+   *
+   * @param width the requested width
+   * @return the width of the variant that will be served
+   */
+  static int snapWidth(int width) {
+    for (int step : WIDTHS) {
+      if (width <= step) {
+        return step;
+      }
+    }
+
+    return WIDTHS[WIDTHS.length - 1];
+  }
+
+  /**
+   * Converts a declared CSS length to CSS pixels.
+   *
+   * <p>Only absolute lengths can be resolved on the server: {@code px}, and
+   * {@code rem}/{@code em} assuming the default 16px root font size.</p>
+   *
+   * @param length the CSS length, may be {@code null}
+   * @param fallback the value used when the length cannot be resolved
+   * @return the length in CSS pixels
+   */
+  static int toPixels(String length, int fallback) {
+    if (length == null || length.isBlank()) {
+      return fallback;
+    }
+
+    String value = length.trim();
+    double factor = 1;
+    if (value.endsWith("rem")) {
+      value = value.substring(0, value.length() - 3);
+      factor = 16;
+    } else if (value.endsWith("em")) {
+      value = value.substring(0, value.length() - 2);
+      factor = 16;
+    } else if (value.endsWith("px")) {
+      value = value.substring(0, value.length() - 2);
+    }
+
+    try {
+      return (int) Math.ceil(Double.parseDouble(value.trim()) * factor);
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+
+  private String url(String src, ImageSource source, int width, boolean resolvable) {
+    if (source == null || basePath == null) {
+      return src;
+    }
+
+    return contextPath + basePath + "/" + register(src, source, resolvable) + "/" + snapWidth(width);
+  }
+
+  private String register(String src, ImageSource source, boolean resolvable) {
+    String id = idOf(src, versionOf(src, source));
+    if (sources.put(id, source) == null && resolvable) {
+      remember(id, src);
+    }
+    return id;
+  }
+
+  /**
+   * Gets the modification time of an original, read again at most every few seconds.
+   */
+  private long versionOf(String src, ImageSource source) {
+    long now = System.currentTimeMillis();
+    Version version = versions.get(src);
+    if (version == null || now - version.checkedAt() > VERSION_TTL_MILLIS) {
+      version = new Version(source.lastModified(), now);
+      versions.put(src, version);
+    }
+    return version.value();
+  }
+
+  /**
+   * Writes the URL of an image resolved with {@link ImageSource#forSrc(String)}
+   * next to its variants, so it can be resolved again after a restart.
+   */
+  private void remember(String id, String src) {
+    String name = id + ".src";
+    synchronized (index) {
+      if (index.get(name) != null) {
+        return;
+      }
+    }
+
+    try {
+      byte[] bytes = src.getBytes(StandardCharsets.UTF_8);
+      Files.createDirectories(cacheDir);
+      Files.write(cacheDir.resolve(name), bytes);
+      store(name, bytes.length);
+    } catch (IOException e) {
+      // Only variants already on disk are served for the image after a restart
+    }
+  }
+
+  private ImageSource sourceOf(String id) {
+    ImageSource source = sources.get(id);
+    if (source != null) {
+      return source;
+    }
+
+    String name = id + ".src";
+    synchronized (index) {
+      if (index.get(name) == null) {
+        return null;
+      }
+    }
+
+    try {
+      String src = Files.readString(cacheDir.resolve(name), StandardCharsets.UTF_8);
+      source = ImageSource.forSrc(src);
+      // The original changed since the id was handed out
+      if (source == null || !id.equals(idOf(src, source.lastModified()))) {
+        return null;
+      }
+      sources.put(id, source);
+      return source;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private Path touch(String prefix, boolean immutable) {
+    long expired = System.currentTimeMillis() - UNVERSIONED_MAX_AGE_MILLIS;
+    synchronized (index) {
+      for (String name : List.of(prefix + "jpg", prefix + "png")) {
+        if (index.get(name) != null) {
+          Path file = cacheDir.resolve(name);
+          if (Files.exists(file) && (immutable || file.toFile().lastModified() >= expired)) {
+            return file;
+          }
+
+          totalBytes -= index.remove(name);
+        }
+      }
+    }
+
+    return null;
+  }
+
+  private void store(String name, long size) {
+    List<String> evicted = new ArrayList<>();
+    synchronized (index) {
+      Long previous = index.put(name, size);
+      totalBytes += size - (previous == null ? 0 : previous);
+
+      Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+      while (totalBytes > maxBytes && it.hasNext()) {
+        Map.Entry<String, Long> eldest = it.next();
+        if (eldest.getKey().equals(name)) {
+          continue;
+        }
+
+        totalBytes -= eldest.getValue();
+        evicted.add(eldest.getKey());
+        it.remove();
+      }
+    }
+
+    for (String file : evicted) {
+      try {
+        Files.deleteIfExists(cacheDir.resolve(file));
+      } catch (IOException e) {
+        // Best effort, the file is no longer indexed either way
+      }
+    }
+  }
+
+  private void loadIndex() {
+    if (!Files.isDirectory(cacheDir)) {
+      return;
+    }
+
+    try (Stream<Path> files = Files.list(cacheDir)) {
+      files.filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+          .sorted(Comparator.comparing(file -> file.toFile().lastModified()))
+          .forEach(file -> store(file.getFileName().toString(), file.toFile().length()));
+    } catch (IOException | UncheckedIOException e) {
+      // Start with an empty index, unindexed files are overwritten when requested again
+    }
+  }
+
+  private static String idOf(String src, long version) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest((src + "\n" + version).getBytes(StandardCharsets.UTF_8));
+      return (version > 0 ? "v" : "u") + HexFormat.of().formatHex(digest, 0, 12);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.webforj.libraries.shoelace.components;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * Serves the image variants produced by {@link ImageVariantService}.
+ *
+ * <p>Requests have the form {@code <base-path>/<image-id>/<width>}. Variants of
+ * versioned images never change for a given id and width, so they are sent
+ * with a long-lived immutable cache header. Other variants are cached for an
+ * hour.</p>
+ *
+ * <p>The servlet serves the {@link ImageVariantService} whose base path is
+ * its servlet path, or the path given by the {@code basePath} init
+ * parameter. Register it next to the webforJ servlet in {@code web.xml},
+ * loaded on startup so it can pass the context path of the application to
+ * {@link ImageVariantService#setContextPath(String)} before URLs are made:</p>
+ * <pre>{@code
+ * <servlet>
+ *   <servlet-name>ImageVariantServlet</servlet-name>
+ *   <servlet-class>com.webforj.libraries.shoelace.components.ImageVariantServlet</servlet-class>
+ *   <load-on-startup>1</load-on-startup>
+ * </servlet>
+ * <servlet-mapping>
+ *   <servlet-name>ImageVariantServlet</servlet-name>
+ *   <url-pattern>/sl-variants/*</url-pattern>
+ * </servlet-mapping>
+ * }</pre>
+ *
+ * @see ImageVariantService
+ * @since 1.0.0
+ */
+public class ImageVariantServlet extends HttpServlet {
+
+  @Override
+  public void init() {
+    ImageVariantService.setContextPath(getServletContext().getContextPath());
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    String path = request.getPathInfo();
+    String[] parts = path == null ? new String[0] : path.substring(1).split("/");
+    if (parts.length != 2) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    int width;
+    try {
+      width = Integer.parseInt(parts[1]);
+    } catch (NumberFormatException e) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    String basePath = getInitParameter("basePath");
+    ImageVariantService service = ImageVariantService.forBasePath(
+        basePath != null ? basePath : request.getServletPath());
+    Path variant = service == null ? null : service.getVariant(parts[0], width);
+    if (variant == null) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(variant);
+    } catch (NoSuchFileException e) {
+      // Evicted between lookup and read
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    response.setContentType(variant.toString().endsWith(".png") ? "image/png" : "image/jpeg");
+    response.setContentLength(bytes.length);
+    response.setHeader("Cache-Control", ImageVariantService.isImmutable(parts[0])
+        ? "public, max-age=31536000, immutable"
+        : "public, max-age=3600");
+    response.getOutputStream().write(bytes);
+  }
+}
@@ -0,0 +1,464 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.Component;
+import com.webforj.component.ComponentLifecycleObserver;
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.element.event.ElementEventOptions;
+import com.webforj.component.html.elements.Div;
+import com.webforj.concern.HasStyle;
+import com.webforj.dispatcher.EventDispatcher;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.ArrayList;
+import java.util.EventObject;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A scrolling container that loads its items page by page as the user nears the end.
+ *
+ * <p>Pages are fetched from a {@link PageProvider} on a background thread
+ * through {@link UiAccess}, so a slow query never blocks the session. While a
+ * page loads, its place is held by {@link Skeleton} rows of the expected item
+ * height. As soon as a page is shown, the next one is fetched ahead of time,
+ * so that scrolling on usually finds it ready.</p>
+ *
+ * <p>Only {@link #setMaxPages(int)} pages are kept rendered. Pages far away
+ * from the viewport keep their height but lose their components, and are
+ * fetched again when they scroll back into view. A page with fewer items than
+ * the page size ends the list.</p>
+ *
+ * <pre>{@code
+ * InfiniteScroll<Activity> feed = new InfiniteScroll<>(
+ *     (offset, limit) -> activityRepository.findRecent(offset, limit),
+ *     ActivityCard::new);
+ *
+ * feed.setStyle("height", "100%");
+ * feed.setPageSize(30).setEstimatedItemHeight(96);
+ * }</pre>
+ *
+ * <p>The container must be given a height, since it scrolls its own content.</p>
+ *
+ * @param <T> the item type
+ * @since 1.0.0
+ */
+@NodeName("div")
+public class InfiniteScroll<T> extends ElementComposite implements HasStyle<InfiniteScroll<T>> {
+
+  /**
+   * Fetches the items of an {@link InfiniteScroll}. Called on a background thread.
+   *
+   * @param <T> the item type
+   */
+  @FunctionalInterface
+  public interface PageProvider<T> {
+
+    /**
+     * Fetches a page of items.
+     *
+     * @param offset the index of the first item
+     * @param limit the maximum number of items
+     * @return the items; fewer than {@code limit} items end the list
+     * @throws Exception if the items could not be fetched
+     */
+    List<T> fetch(int offset, int limit) throws Exception;
+  }
+
+  private static final class Page<T> {
+    private final int number;
+    private final Div wrapper = new Div();
+    private List<T> items;
+    private Future<List<T>> loading;
+    private boolean attached;
+    private boolean failed;
+
+    private Page(int number) {
+      this.number = number;
+      wrapper.setAttribute("data-slw-page", String.valueOf(number));
+    }
+  }
+
+  private final PageProvider<T> provider;
+  private final Function<? super T, ? extends Component> renderer;
+  private final EventDispatcher dispatcher = new EventDispatcher();
+  private final List<Page<T>> pages = new ArrayList<>();
+  private final Set<Integer> visible = new HashSet<>();
+  private Supplier<? extends Component> placeholder;
+  private Page<T> prefetched;
+  private int pageSize = 20;
+  private int maxPages = 10;
+  private int estimatedItemHeight = 48;
+  private boolean exhausted;
+
+  /**
+   * Create a new infinite scroll.
+   *
+   * @param provider fetches the pages
+   * @param renderer creates the component of an item
+   */
+  public InfiniteScroll(PageProvider<T> provider, Function<? super T, ? extends Component> renderer) {
+    super();
+    this.provider = provider;
+    this.renderer = renderer;
+    this.placeholder = () -> Skeleton.rectangle("100%", estimatedItemHeight + "px")
+        .setEffect(Skeleton.Effect.SHEEN);
+
+    getElement().executeJsVoidAsync(CLIENT_SCRIPT);
+    getElement().addEventListener("slw-pages",
+        e -> update(String.valueOf(e.getData().get("visible")), Boolean.TRUE.equals(e.getData().get("nearEnd"))),
+        new ElementEventOptions()
+            .addData("visible", "event.detail.visible")
+            .addData("nearEnd", "event.detail.nearEnd"));
+    addLifecycleObserver((component, event) -> {
+      if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+        cancelLoading();
+      }
+    });
+  }
+
+  /**
+   * Sets the number of items fetched at a time.
+   *
+   * @param pageSize the page size (default: 20)
+   * @return this instance
+   */
+  public InfiniteScroll<T> setPageSize(int pageSize) {
+    this.pageSize = Math.max(1, pageSize);
+    return this;
+  }
+
+  /**
+   * Gets the number of items fetched at a time.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Sets how many pages are kept rendered at most.
+   *
+   * @param maxPages the number of pages (default: 10)
+   * @return this instance
+   */
+  public InfiniteScroll<T> setMaxPages(int maxPages) {
+    this.maxPages = Math.max(2, maxPages);
+    trim();
+    return this;
+  }
+
+  /**
+   * Gets how many pages are kept rendered at most.
+   *
+   * @return the number of pages
+   */
+  public int getMaxPages() {
+    return maxPages;
+  }
+
+  /**
+   * Sets the height of the placeholder rows shown while a page loads.
+   *
+   * @param height the height in pixels (default: 48)
+   * @return this instance
+   */
+  public InfiniteScroll<T> setEstimatedItemHeight(int height) {
+    this.estimatedItemHeight = height;
+    return this;
+  }
+
+  /**
+   * Gets the height of the placeholder rows shown while a page loads.
+   *
+   * @return the height in pixels
+   */
+  public int getEstimatedItemHeight() {
+    return estimatedItemHeight;
+  }
+
+  /**
+   * Sets the factory of the placeholder rows shown while a page loads.
+   *
+   * @param placeholder creates one placeholder row
+   * @return this instance
+   */
+  public InfiniteScroll<T> setPlaceholder(Supplier<? extends Component> placeholder) {
+    this.placeholder = placeholder;
+    return this;
+  }
+
+  /**
+   * Checks whether the last page has been loaded.
+   *
+   * @return true if there are no more items
+   */
+  public boolean isExhausted() {
+    return exhausted;
+  }
+
+  /**
+   * Gets the number of pages currently rendered.
+   *
+   * @return the number of pages
+   */
+  public int getRenderedPageCount() {
+    return (int) pages.stream().filter(page -> page.items != null).count();
+  }
+
+  /**
+   * Removes all items and starts over with the first page.
+   */
+  public void reset() {
+    cancelLoading();
+    for (Page<T> page : pages) {
+      getBoundComponent().remove(page.wrapper);
+    }
+    pages.clear();
+    visible.clear();
+    prefetched = null;
+    exhausted = false;
+    getElement().callJsFunctionVoidAsync("__slwCheckPages");
+  }
+
+  /**
+   * Fetches the pages that failed to load again.
+   */
+  public void retry() {
+    for (Page<T> page : pages) {
+      if (page.failed) {
+        load(page);
+      }
+    }
+  }
+
+  /**
+   * Adds a listener called when a page fails to load.
+   *
+   * @param listener the listener
+   * @return the listener registration for removal
+   */
+  public ListenerRegistration<LoadErrorEvent> onLoadError(EventListener<LoadErrorEvent> listener) {
+    return dispatcher.addListener(LoadErrorEvent.class, listener);
+  }
+
+  private void update(String visibleJson, boolean nearEnd) {
+    visible.clear();
+    for (Object number : (List<?>) Json.parse(visibleJson)) {
+      visible.add(((Number) number).intValue());
+    }
+
+    for (Page<T> page : pages) {
+      if (page.items == null && page.loading == null && !page.failed && visible.contains(page.number)) {
+        load(page);
+      }
+    }
+
+    if (nearEnd) {
+      append();
+    }
+    trim();
+  }
+
+  private void append() {
+    Page<T> last = pages.isEmpty() ? null : pages.get(pages.size() - 1);
+    if ((exhausted && prefetched == null) || (last != null && (last.loading != null || last.failed))) {
+      return;
+    }
+
+    Page<T> page = prefetched != null ? prefetched : new Page<>(pages.size());
+    prefetched = null;
+    pages.add(page);
+    page.attached = true;
+    getBoundComponent().add(page.wrapper);
+    getElement().callJsFunctionVoidAsync("__slwObservePage", page.number);
+
+    if (page.items != null) {
+      show(page);
+    } else {
+      if (page.loading == null) {
+        load(page);
+      }
+      showPlaceholders(page);
+    }
+  }
+
+  private void load(Page<T> page) {
+    page.failed = false;
+    int offset = page.number * pageSize;
+    page.loading = UiAccess.getCurrent().runAsync(
+        () -> provider.fetch(offset, pageSize),
+        (items, error) -> loaded(page, items, error));
+  }
+
+  private void loaded(Page<T> page, List<T> items, Throwable error) {
+    page.loading = null;
+    if (error != null) {
+      page.failed = true;
+      if (page == prefetched) {
+        prefetched = null;
+      }
+      dispatcher.dispatchEvent(new LoadErrorEvent(this, page.number, error));
+      return;
+    }
+
+    if (items.size() < pageSize) {
+      exhausted = true;
+    }
+
+    page.items = items;
+    if (page.attached) {
+      show(page);
+    } else if (items.isEmpty()) {
+      prefetched = null;
+    }
+  }
+
+  private void show(Page<T> page) {
+    page.wrapper.removeAll();
+    for (T item : page.items) {
+      page.wrapper.add(renderer.apply(item));
+    }
+    getElement().callJsFunctionVoidAsync("__slwThawPage", page.number);
+
+    if (page.number == pages.size() - 1 && !exhausted && prefetched == null) {
+      prefetched = new Page<>(pages.size());
+      load(prefetched);
+    }
+    getElement().callJsFunctionVoidAsync("__slwCheckPages");
+  }
+
+  private void showPlaceholders(Page<T> page) {
+    for (int i = 0; i < pageSize; i++) {
+      page.wrapper.add(placeholder.get());
+    }
+  }
+
+  private void trim() {
+    List<Page<T>> rendered = new ArrayList<>();
+    for (Page<T> page : pages) {
+      if (page.items != null && page.loading == null) {
+        rendered.add(page);
+      }
+    }
+
+    int first = visible.stream().mapToInt(Integer::intValue).min().orElse(0);
+    int last = visible.stream().mapToInt(Integer::intValue).max().orElse(pages.size() - 1);
+    rendered.sort((a, b) -> Integer.compare(distance(b.number, first, last), distance(a.number, first, last)));
+
+    for (int i = 0; i < rendered.size() - maxPages; i++) {
+      Page<T> page = rendered.get(i);
+      if (distance(page.number, first, last) <= 1) {
+        break;
+      }
+      getElement().callJsFunctionVoidAsync("__slwFreezePage", page.number);
+      page.wrapper.removeAll();
+      page.items = null;
+    }
+  }
+
+  private static int distance(int number, int first, int last) {
+    return number < first ? first - number : Math.max(0, number - last);
+  }
+
+  private void cancelLoading() {
+    for (Page<T> page : pages) {
+      if (page.loading != null) {
+        page.loading.cancel(true);
+        page.loading = null;
+      }
+    }
+    if (prefetched != null && prefetched.loading != null) {
+      prefetched.loading.cancel(true);
+    }
+  }
+
+  /**
+   * Fired when a page could not be fetched.
+   */
+  public static class LoadErrorEvent extends EventObject {
+    private final int page;
+    private final Throwable exception;
+
+    /**
+     * Creates a new load error event.
+     *
+     * @param source the infinite scroll
+     * @param page the number of the page
+     * @param exception the exception thrown by the provider
+     */
+    public LoadErrorEvent(InfiniteScroll<?> source, int page, Throwable exception) {
+      super(source);
+      this.page = page;
+      this.exception = exception;
+    }
+
+    /**
+     * Gets the number of the page, starting at 0.
+     *
+     * @return the page number
+     */
+    public int getPage() {
+      return page;
+    }
+
+    /**
+     * Gets the exception thrown by the provider.
+     *
+     * @return the exception
+     */
+    public Throwable getException() {
+      return exception;
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "if (!component.__slwObservePage) {" +
+    "  component.style.overflowY = 'auto';" +
+    "  const sentinel = document.createElement('div');" +
+    "  sentinel.style.height = '1px';" +
+    "  const visible = new Set();" +
+    "  let nearEnd = false;" +
+    "  const page = (number) => component.querySelector(':scope > [data-slw-page=\"' + number + '\"]');" +
+    "  const report = () => component.dispatchEvent(new CustomEvent('slw-pages', {" +
+    "    detail: {visible: JSON.stringify(Array.from(visible)), nearEnd}" +
+    "  }));" +
+    "  const observer = new IntersectionObserver((entries) => {" +
+    "    entries.forEach((entry) => {" +
+    "      if (entry.target === sentinel) nearEnd = entry.isIntersecting;" +
+    "      else if (entry.isIntersecting) visible.add(Number(entry.target.dataset.slwPage));" +
+    "      else visible.delete(Number(entry.target.dataset.slwPage));" +
+    "    });" +
+    "    report();" +
+    "  }, {root: component, rootMargin: '100% 0px'});" +
+    "  component.append(sentinel);" +
+    "  observer.observe(sentinel);" +
+    "  component.__slwObservePage = (number, attempt = 0) => {" +
+    "    const el = page(number);" +
+    "    if (!el) {" +
+    "      if (attempt < 10) requestAnimationFrame(() => component.__slwObservePage(number, attempt + 1));" +
+    "      return;" +
+    "    }" +
+    "    observer.observe(el);" +
+    "    component.append(sentinel);" +
+    "  };" +
+    "  component.__slwCheckPages = () => requestAnimationFrame(() => requestAnimationFrame(() => {" +
+    "    visible.forEach((number) => { if (!page(number)) visible.delete(number); });" +
+    "    report();" +
+    "  }));" +
+    "  component.__slwFreezePage = (number) => {" +
+    "    const el = page(number);" +
+    "    if (el) el.style.height = el.offsetHeight + 'px';" +
+    "  };" +
+    "  component.__slwThawPage = (number) => {" +
+    "    const el = page(number);" +
+    "    if (el) el.style.height = '';" +
+    "  };" +
+    "}";
+}
@@ -72,6 +72,14 @@ import java.util.Map;
  * });
  * }</pre>
  * 
+ * <h2>Suggestions</h2>
+ * <p>Suggestions are answered from an in-memory {@link SuggestionIndex} and shown in a shared popup:</p>
+ * <pre>{@code
+ * Input productCode = new Input("Product code");
+ * productCode.setSuggestions(productIndex)
+ *            .onSelect(event -> showProduct(event.getValue()));
+ * }</pre>
+ * 
  * @author Shoelace Web Components
  * @see <a href="https://shoelace.style/components/input">Shoelace Input Documentation</a>
  */
@@ -100,6 +108,8 @@ public final class Input extends ElementComposite implements HasComponents, HasS
   private final PropertyDescriptor<String> MIN = PropertyDescriptor.property("min", "");
   private final PropertyDescriptor<String> MAX = PropertyDescriptor.property("max", "");
   private final PropertyDescriptor<String> STEP = PropertyDescriptor.property("step", "");
+  private Autocomplete autocomplete;
+  private AsyncValidation asyncValidation;
 
   /**
    * Input types
@@ -370,25 +380,81 @@ public final class Input extends ElementComposite implements HasComponents, HasS
     return this;
   }
 
+  /**
+   * Validates the value with a validator that may block, off the UI thread.
+   * 
+   * <p>The value is validated once the user stops typing for 300 milliseconds.</p>
+   * 
+   * <p>Replaces the validator set before.</p>
+   * 
+   * @param validator returns the error message for an invalid value, or {@code null} to stop validating
+   * @return the validation, for further configuration, or {@code null} if the validator is {@code null}
+   * @see AsyncValidation
+   */
+  public AsyncValidation setAsyncValidator(AsyncValidator validator) {
+    if (asyncValidation != null) {
+      asyncValidation.remove();
+      asyncValidation = null;
+    }
+    if (validator != null) {
+      asyncValidation = new AsyncValidation(this, "sl-input", 300, validator, this::getHelpText);
+    }
+    return asyncValidation;
+  }
+
+  /**
+   * Shows suggestions from the given index while the user types.
+   * 
+   * <p>Calling it again replaces the index of the current autocomplete, which
+   * keeps its settings and listeners.</p>
+   * 
+   * @param index the index answering the queries, or {@code null} to remove the suggestions
+   * @return the autocomplete, for further configuration, or {@code null} if removed
+   * @see Autocomplete
+   */
+  public Autocomplete setSuggestions(SuggestionIndex index) {
+    if (index == null) {
+      if (autocomplete != null) {
+        autocomplete.remove();
+      }
+      return null;
+    }
+
+    if (autocomplete != null) {
+      return autocomplete.setIndex(index);
+    }
+    autocomplete = new Autocomplete(this, index);
+    return autocomplete;
+  }
+
+  /**
+   * Forgets the autocomplete once it was removed.
+   */
+  void autocompleteRemoved(Autocomplete removed) {
+    if (autocomplete == removed) {
+      autocomplete = null;
+    }
+  }
+
   /**
    * Focus the input
    */
   public void focus() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "focus");
   }
 
   /**
    * Blur the input
    */
   public void blur() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "blur");
   }
 
   /**
    * Select all text in the input
    */
   public void select() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "select");
   }
   
   // Event handling
@@ -0,0 +1,321 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal JSON reader and writer for data exchanged with client-side scripts.
+ *
+ * <p>Supports {@code null}, strings, numbers, booleans, maps with string keys,
+ * collections and object arrays. {@code NaN} and infinite numbers have no JSON
+ * form and are written as {@code null}. The output is parsed on the client with
+ * {@code JSON.parse}, so a whole payload travels as a single string argument.
+ * Results coming back from the client are serialized with {@code JSON.stringify}
+ * and read with {@link #parse(String)}.</p>
+ */
+final class Json {
+
+  private Json() {
+    // Utility class
+  }
+
+  /**
+   * Serializes a value.
+   *
+   * @param value the value
+   * @return the JSON text
+   */
+  static String write(Object value) {
+    StringBuilder out = new StringBuilder();
+    write(out, value);
+    return out.toString();
+  }
+
+  /**
+   * Quotes a string as a JSON (and JavaScript) string literal.
+   *
+   * @param value the string
+   * @return the quoted literal, or {@code null} for a null string
+   */
+  static String quote(String value) {
+    if (value == null) {
+      return "null";
+    }
+
+    StringBuilder out = new StringBuilder(value.length() + 2);
+    quote(out, value);
+    return out.toString();
+  }
+
+  /**
+   * Parses JSON text. Objects become {@link LinkedHashMap}s, arrays become
+   * {@link List}s, integral numbers become {@link Long}s and other numbers
+   * {@link Double}s.
+   *
+   * @param text the JSON text
+   * @return the parsed value
+   * @throws IllegalArgumentException if the text is not valid JSON
+   */
+  static Object parse(String text) {
+    Reader reader = new Reader(text);
+    Object value = reader.readValue();
+    reader.skipWhitespace();
+    if (reader.position < text.length()) {
+      throw reader.error("Unexpected trailing content");
+    }
+    return value;
+  }
+
+  private static void write(StringBuilder out, Object value) {
+    if (value == null) {
+      out.append("null");
+    } else if (value instanceof CharSequence || value instanceof Character || value instanceof Enum<?>) {
+      quote(out, value.toString());
+    } else if ((value instanceof Double d && !Double.isFinite(d)) || (value instanceof Float f && !Float.isFinite(f))) {
+      out.append("null");
+    } else if (value instanceof Number || value instanceof Boolean) {
+      out.append(value);
+    } else if (value instanceof Map<?, ?> map) {
+      out.append('{');
+      boolean first = true;
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        if (!first) {
+          out.append(',');
+        }
+        first = false;
+        quote(out, String.valueOf(entry.getKey()));
+        out.append(':');
+        write(out, entry.getValue());
+      }
+      out.append('}');
+    } else if (value instanceof Collection<?> collection) {
+      writeArray(out, collection.toArray());
+    } else if (value instanceof Object[] array) {
+      writeArray(out, array);
+    } else if (value instanceof int[] array) {
+      out.append('[');
+      for (int i = 0; i < array.length; i++) {
+        if (i > 0) {
+          out.append(',');
+        }
+        out.append(array[i]);
+      }
+      out.append(']');
+    } else {
+      quote(out, value.toString());
+    }
+  }
+
+  private static void writeArray(StringBuilder out, Object[] values) {
+    out.append('[');
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        out.append(',');
+      }
+      write(out, values[i]);
+    }
+    out.append(']');
+  }
+
+  private static void quote(StringBuilder out, String value) {
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> out.append("\\\"");
+        case '\\' -> out.append("\\\\");
+        case '\n' -> out.append("\\n");
+        case '\r' -> out.append("\\r");
+        case '\t' -> out.append("\\t");
+        case '<' -> out.append("\\u003c");
+        case '\u2028' -> out.append("\\u2028");
+        case '\u2029' -> out.append("\\u2029");
+        default -> {
+          if (c < 0x20) {
+            out.append(String.format("\\u%04x", (int) c));
+          } else {
+            out.append(c);
+          }
+        }
+      }
+    }
+    out.append('"');
+  }
+
+  private static final Pattern NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+  private static final Pattern HEX = Pattern.compile("[0-9a-fA-F]{4}");
+
+  private static final class Reader {
+    private final String text;
+    private int position;
+
+    Reader(String text) {
+      this.text = text;
+    }
+
+    Object readValue() {
+      skipWhitespace();
+      if (position >= text.length()) {
+        throw error("Unexpected end of input");
+      }
+
+      return switch (text.charAt(position)) {
+        case '{' -> readObject();
+        case '[' -> readArray();
+        case '"' -> readString();
+        case 't' -> readLiteral("true", Boolean.TRUE);
+        case 'f' -> readLiteral("false", Boolean.FALSE);
+        case 'n' -> readLiteral("null", null);
+        default -> readNumber();
+      };
+    }
+
+    private Map<String, Object> readObject() {
+      Map<String, Object> map = new LinkedHashMap<>();
+      position++;
+      skipWhitespace();
+      if (peek() == '}') {
+        position++;
+        return map;
+      }
+
+      while (true) {
+        skipWhitespace();
+        if (peek() != '"') {
+          throw error("Expected a string key");
+        }
+        String key = readString();
+        skipWhitespace();
+        expect(':');
+        map.put(key, readValue());
+        skipWhitespace();
+        if (peek() == ',') {
+          position++;
+        } else {
+          expect('}');
+          return map;
+        }
+      }
+    }
+
+    private List<Object> readArray() {
+      List<Object> list = new ArrayList<>();
+      position++;
+      skipWhitespace();
+      if (peek() == ']') {
+        position++;
+        return list;
+      }
+
+      while (true) {
+        list.add(readValue());
+        skipWhitespace();
+        if (peek() == ',') {
+          position++;
+        } else {
+          expect(']');
+          return list;
+        }
+      }
+    }
+
+    private String readString() {
+      StringBuilder out = new StringBuilder();
+      position++;
+      while (position < text.length()) {
+        char c = text.charAt(position++);
+        if (c == '"') {
+          return out.toString();
+        }
+
+        if (c != '\\') {
+          out.append(c);
+          continue;
+        }
+
+        if (position >= text.length()) {
+          break;
+        }
+
+        char escape = text.charAt(position++);
+        switch (escape) {
+          case '"', '\\', '/' -> out.append(escape);
+          case 'b' -> out.append('\b');
+          case 'f' -> out.append('\f');
+          case 'n' -> out.append('\n');
+          case 'r' -> out.append('\r');
+          case 't' -> out.append('\t');
+          case 'u' -> {
+            if (position + 4 > text.length() || !HEX.matcher(text.substring(position, position + 4)).matches()) {
+              throw error("Invalid unicode escape");
+            }
+            out.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+            position += 4;
+          }
+          default -> throw error("Invalid escape '\\" + escape + "'");
+        }
+      }
+      throw error("Unterminated string");
+    }
+
+    private Object readLiteral(String literal, Object value) {
+      if (!text.startsWith(literal, position)) {
+        throw error("Unexpected token");
+      }
+      position += literal.length();
+      return value;
+    }
+
+    private Number readNumber() {
+      int start = position;
+      boolean integral = true;
+      while (position < text.length()) {
+        char c = text.charAt(position);
+        if (c == '.' || c == 'e' || c == 'E') {
+          integral = false;
+        } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+          break;
+        }
+        position++;
+      }
+
+      String number = text.substring(start, position);
+      if (!NUMBER.matcher(number).matches()) {
+        throw error("Invalid number '" + number + "'");
+      }
+      if (integral) {
+        try {
+          return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+          // Too large for a long
+        }
+      }
+      return Double.parseDouble(number);
+    }
+
+    private void expect(char c) {
+      if (peek() != c) {
+        throw error("Expected '" + c + "'");
+      }
+      position++;
+    }
+
+    private char peek() {
+      return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    void skipWhitespace() {
+      while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+        position++;
+      }
+    }
+
+    IllegalArgumentException error(String message) {
+      return new IllegalArgumentException(message + " at position " + position);
+    }
+  }
+}
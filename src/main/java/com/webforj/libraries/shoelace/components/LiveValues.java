@@ -0,0 +1,274 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.ComponentLifecycleObserver;
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.PropertyDescriptor;
+import com.webforj.environment.ObjectTable;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Connects component properties to {@link Flow.Publisher}s of live server data.
+ *
+ * <p>Each binding subscribes to its publisher and keeps only the latest value
+ * it received. It requests one item at a time and holds at most one pending
+ * value, so a fast publisher never builds up a backlog in the session. Once
+ * per frame, the session applies the latest value of every binding that
+ * changed, all in the same round of the UI thread. Property bindings record
+ * the value on the server, so the getters of the component return it too.</p>
+ *
+ * <p>Frames are run by the pump of the session, see {@link UiAccess}. While
+ * no binding has a new value, no frame runs and the pump falls back to its
+ * idle rate until a publisher delivers again.</p>
+ *
+ * <p>Bindings end when the publisher completes or fails, when
+ * {@link Binding#cancel()} is called, or when the component is destroyed,
+ * and in each case the subscription is cancelled.</p>
+ *
+ * <pre>{@code
+ * LiveValues live = LiveValues.getCurrent();
+ * live.bind(openTickets, PropertyDescriptor.property("textContent", ""), ticketService.openCountPublisher());
+ * live.bind(cpuRing, PropertyDescriptor.property("value", 0), metrics.cpuPercentPublisher());
+ * live.bind(ratingSummary, ratings.averagePublisher(), average -> ratingSummary.setValue(average));
+ * }</pre>
+ *
+ * <p>There is one instance per session, obtained with {@link #getCurrent()} from the UI thread.</p>
+ *
+ * @since 1.0.0
+ */
+public final class LiveValues {
+  private static final String KEY = LiveValues.class.getName();
+  private static final Object NONE = new Object();
+
+  /**
+   * A binding between a publisher and a component property.
+   */
+  public final class Binding implements Flow.Subscriber<Object> {
+    private final ElementComposite component;
+    private final Consumer<Object> setter;
+    private final AtomicReference<Object> pending = new AtomicReference<>(NONE);
+    private volatile Flow.Subscription subscription;
+    private volatile boolean active = true;
+
+    private Binding(ElementComposite component, Consumer<Object> setter) {
+      this.component = component;
+      this.setter = setter;
+    }
+
+    /**
+     * Gets the bound component.
+     *
+     * @return the component
+     */
+    public ElementComposite getComponent() {
+      return component;
+    }
+
+    /**
+     * Checks whether the binding still receives values.
+     *
+     * @return true while active
+     */
+    public boolean isActive() {
+      return active;
+    }
+
+    /**
+     * Ends the binding and cancels the subscription. The component keeps its last value.
+     */
+    public void cancel() {
+      active = false;
+      Flow.Subscription current = subscription;
+      if (current != null) {
+        current.cancel();
+      }
+      changed(this);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (active) {
+        subscription.request(1);
+      } else {
+        subscription.cancel();
+      }
+    }
+
+    @Override
+    public void onNext(Object value) {
+      if (pending.getAndSet(value) == NONE) {
+        changed(this);
+      }
+      if (active) {
+        subscription.request(1);
+      }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+      active = false;
+      changed(this);
+    }
+
+    @Override
+    public void onComplete() {
+      active = false;
+      changed(this);
+    }
+  }
+
+  private final Queue<Binding> changed = new ConcurrentLinkedQueue<>();
+  private final Set<Binding> bindings = new HashSet<>();
+  private final UiAccess access;
+  private final UiAccess.Source source = this::poll;
+  private int framesPerSecond = 10;
+  private long lastFrame;
+
+  private LiveValues(UiAccess access) {
+    this.access = access;
+  }
+
+  /**
+   * Gets the instance of the current session. Must be called on the UI thread.
+   *
+   * @return the instance
+   */
+  public static LiveValues getCurrent() {
+    if (ObjectTable.contains(KEY)) {
+      return (LiveValues) ObjectTable.get(KEY);
+    }
+
+    LiveValues live = new LiveValues(UiAccess.getCurrent());
+    ObjectTable.put(KEY, live);
+    return live;
+  }
+
+  /**
+   * Binds an element property of a component to a publisher. Each value is
+   * recorded on the server as if set through the property, so getters of the
+   * component backed by the same property return it.
+   *
+   * <p>The values must be strings, numbers, booleans or {@code null}.</p>
+   *
+   * @param <T> the value type
+   * @param component the component
+   * @param property the element property, for example {@code PropertyDescriptor.property("value", 0)}
+   * @param publisher the publisher of the values
+   * @return the binding
+   */
+  public <T> Binding bind(ElementComposite component, PropertyDescriptor<T> property,
+      Flow.Publisher<? extends T> publisher) {
+    String name = property.getName();
+    return subscribe(new Binding(component, value -> component.getElement().setProperty(name, value)), publisher);
+  }
+
+  /**
+   * Binds a component to a publisher through a setter, called on the UI thread
+   * with the latest value once per frame.
+   *
+   * @param <T> the value type
+   * @param component the component, whose destruction ends the binding
+   * @param publisher the publisher of the values
+   * @param setter applies a value to the component
+   * @return the binding
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Binding bind(ElementComposite component, Flow.Publisher<T> publisher, Consumer<? super T> setter) {
+    return subscribe(new Binding(component, value -> setter.accept((T) value)), publisher);
+  }
+
+  /**
+   * Sets how many times per second changed values are applied at most. The
+   * rate is also bounded by the pump of the session, which ticks 20 times per
+   * second.
+   *
+   * @param framesPerSecond the frame rate (default: 10)
+   * @return this instance
+   */
+  public LiveValues setFramesPerSecond(int framesPerSecond) {
+    this.framesPerSecond = Math.max(1, framesPerSecond);
+    return this;
+  }
+
+  /**
+   * Gets how many times per second changed values are applied at most.
+   *
+   * @return the frame rate
+   */
+  public int getFramesPerSecond() {
+    return framesPerSecond;
+  }
+
+  /**
+   * Gets the number of active bindings of the session.
+   *
+   * @return the number of bindings
+   */
+  public int getBindingCount() {
+    return bindings.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Binding subscribe(Binding binding, Flow.Publisher<?> publisher) {
+    if (bindings.isEmpty()) {
+      access.attach(source);
+    }
+    bindings.add(binding);
+    binding.component.addLifecycleObserver((component, event) -> {
+      if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+        binding.cancel();
+        bindings.remove(binding);
+        detachIfIdle();
+      }
+    });
+
+    ((Flow.Publisher<Object>) publisher).subscribe(binding);
+    return binding;
+  }
+
+  private void changed(Binding binding) {
+    changed.add(binding);
+    access.wake();
+  }
+
+  private boolean poll() {
+    long now = System.nanoTime();
+    if (!changed.isEmpty() && now - lastFrame >= TimeUnit.SECONDS.toNanos(1) / framesPerSecond) {
+      lastFrame = now;
+      applyFrame();
+    }
+    return !changed.isEmpty();
+  }
+
+  private void applyFrame() {
+    for (int i = changed.size(); i > 0; i--) {
+      Binding binding = changed.poll();
+      if (binding == null) {
+        break;
+      }
+      Object value = binding.pending.getAndSet(NONE);
+      if (value != NONE && bindings.contains(binding)) {
+        binding.setter.accept(value);
+      }
+      if (!binding.active) {
+        bindings.remove(binding);
+      }
+    }
+    detachIfIdle();
+  }
+
+  private void detachIfIdle() {
+    if (bindings.isEmpty()) {
+      changed.clear();
+      access.detach(source);
+    }
+  }
+}
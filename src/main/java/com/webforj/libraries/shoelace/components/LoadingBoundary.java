@@ -0,0 +1,349 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.Component;
+import com.webforj.component.ComponentLifecycleObserver;
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.html.elements.Div;
+import com.webforj.component.html.elements.Span;
+import com.webforj.concern.HasStyle;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shows a placeholder until asynchronously loaded content is ready.
+ *
+ * <p>A view can create its boundaries in the constructor and return at once.
+ * Each boundary shows a {@link Skeleton} or {@link Spinner} placeholder
+ * right away, and the data is loaded on a virtual thread through
+ * {@link UiAccess}. When the data arrives, the renderer turns it into the
+ * real content on the UI thread. Boundaries load independently, so several
+ * slow repository calls on one page run in parallel.</p>
+ *
+ * <p>If loading fails, the error content is shown instead, by default a
+ * danger {@link Alert} with a generic message. The message of the exception
+ * may reveal internals of the server, so it is only shown once enabled with
+ * {@link #setShowErrorDetails(boolean)}. If a timeout is
+ * set and the data does not arrive in time, the timeout content is shown and
+ * a late result is ignored. Either way, {@link #retry()} loads again.</p>
+ *
+ * <pre>{@code
+ * LoadingBoundary orders = new LoadingBoundary()
+ *     .setPlaceholder(LoadingBoundary.Placeholder.SKELETON)
+ *     .setTimeout(Duration.ofSeconds(5));
+ * orders.load(() -> orderRepository.findOpen(customer), OrderTable::new);
+ *
+ * LoadingBoundary stats = new LoadingBoundary();
+ * stats.load(statisticsService.computeAsync(customer), StatisticsPanel::new);
+ *
+ * add(orders, stats);
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@NodeName("div")
+public class LoadingBoundary extends ElementComposite implements HasStyle<LoadingBoundary> {
+  private static final String ERROR_MESSAGE = "The content could not be loaded.";
+  private static final String TIMEOUT_MESSAGE = "Loading took too long.";
+
+
+  /**
+   * The built-in placeholders.
+   */
+  public enum Placeholder {
+    /** A few lines of {@link Skeleton} text. */
+    SKELETON,
+    /** A centered {@link Spinner}. */
+    SPINNER
+  }
+
+  /**
+   * The state of a boundary.
+   */
+  public enum State {
+    /** Nothing was loaded yet. */
+    IDLE,
+    /** The placeholder is shown while the data loads. */
+    LOADING,
+    /** The content is shown. */
+    LOADED,
+    /** Loading failed and the error content is shown. */
+    FAILED,
+    /** Loading took too long and the timeout content is shown. */
+    TIMED_OUT
+  }
+
+  private Supplier<? extends Component> placeholder = () -> createPlaceholder(Placeholder.SKELETON);
+  private Function<? super Throwable, ? extends Component> errorContent = this::createError;
+  private Supplier<? extends Component> timeoutContent = () -> createAlert(TIMEOUT_MESSAGE);
+  private boolean showErrorDetails;
+  private Duration timeout;
+  private State state = State.IDLE;
+  private Runnable lastLoad;
+  private Future<?> running;
+  private CompletableFuture<Void> timer;
+  private int generation;
+
+  /**
+   * Create a new loading boundary.
+   */
+  public LoadingBoundary() {
+    super();
+    addLifecycleObserver((component, event) -> {
+      if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+        cancel();
+      }
+    });
+  }
+
+  /**
+   * Loads data on a virtual thread and shows the content rendered from it.
+   *
+   * @param <T> the data type
+   * @param loader loads the data, off the UI thread
+   * @param renderer creates the content from the data, on the UI thread
+   * @return this instance
+   */
+  public <T> LoadingBoundary load(Callable<? extends T> loader, Function<? super T, ? extends Component> renderer) {
+    lastLoad = () -> {
+      int current = start();
+      running = UiAccess.getCurrent().runAsync(loader, (data, error) -> finish(current, data, error, renderer));
+    };
+    lastLoad.run();
+    return this;
+  }
+
+  /**
+   * Shows the content rendered from the result of a stage once it completes.
+   * A {@link #retry()} renders the outcome of the same stage again.
+   *
+   * @param <T> the data type
+   * @param stage the stage providing the data, completed on any thread
+   * @param renderer creates the content from the data, on the UI thread
+   * @return this instance
+   */
+  public <T> LoadingBoundary load(CompletionStage<? extends T> stage, Function<? super T, ? extends Component> renderer) {
+    lastLoad = () -> {
+      int current = start();
+      running = UiAccess.getCurrent().whenComplete(stage, (data, error) -> finish(current, data, error, renderer));
+    };
+    lastLoad.run();
+    return this;
+  }
+
+  /**
+   * Loads again with the last loader, for example after an error or timeout.
+   */
+  public void retry() {
+    if (lastLoad != null) {
+      lastLoad.run();
+    }
+  }
+
+  /**
+   * Stops waiting for the data. The boundary keeps showing what it shows.
+   */
+  public void cancel() {
+    generation++;
+    if (running != null) {
+      running.cancel(true);
+      running = null;
+    }
+    stopTimer();
+    if (state == State.LOADING) {
+      state = State.IDLE;
+    }
+  }
+
+  /**
+   * Gets the state.
+   *
+   * @return the state
+   */
+  public State getState() {
+    return state;
+  }
+
+  /**
+   * Sets one of the built-in placeholders.
+   *
+   * @param placeholder the placeholder (default: {@link Placeholder#SKELETON})
+   * @return this instance
+   */
+  public LoadingBoundary setPlaceholder(Placeholder placeholder) {
+    this.placeholder = () -> createPlaceholder(placeholder);
+    return this;
+  }
+
+  /**
+   * Sets the factory of the placeholder shown while loading.
+   *
+   * @param placeholder creates the placeholder
+   * @return this instance
+   */
+  public LoadingBoundary setPlaceholder(Supplier<? extends Component> placeholder) {
+    this.placeholder = placeholder;
+    return this;
+  }
+
+  /**
+   * Sets the factory of the content shown when loading fails.
+   *
+   * @param errorContent creates the error content from the exception
+   * @return this instance
+   */
+  public LoadingBoundary setErrorContent(Function<? super Throwable, ? extends Component> errorContent) {
+    this.errorContent = errorContent;
+    return this;
+  }
+
+  /**
+   * Sets whether the default error content shows the message of the exception
+   * instead of a generic message. Has no effect on custom error content.
+   *
+   * @param showErrorDetails true to show the message of the exception (default: false)
+   * @return this instance
+   */
+  public LoadingBoundary setShowErrorDetails(boolean showErrorDetails) {
+    this.showErrorDetails = showErrorDetails;
+    return this;
+  }
+
+  /**
+   * Checks whether the default error content shows the message of the exception.
+   *
+   * @return true if the message of the exception is shown
+   */
+  public boolean isShowErrorDetails() {
+    return showErrorDetails;
+  }
+
+  /**
+   * Sets the factory of the content shown when loading takes too long.
+   *
+   * @param timeoutContent creates the timeout content
+   * @return this instance
+   */
+  public LoadingBoundary setTimeoutContent(Supplier<? extends Component> timeoutContent) {
+    this.timeoutContent = timeoutContent;
+    return this;
+  }
+
+  /**
+   * Sets how long to wait for the data before showing the timeout content.
+   * Applies to the next load.
+   *
+   * @param timeout the timeout, or {@code null} to wait indefinitely (default)
+   * @return this instance
+   */
+  public LoadingBoundary setTimeout(Duration timeout) {
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * Gets how long to wait for the data before showing the timeout content.
+   *
+   * @return the timeout, or {@code null} if waiting indefinitely
+   */
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  private int start() {
+    cancel();
+    int current = generation;
+    state = State.LOADING;
+    show(placeholder.get());
+
+    if (timeout != null) {
+      CompletableFuture<Void> deadline = new CompletableFuture<Void>()
+          .completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS);
+      timer = deadline;
+      UiAccess.getCurrent().whenComplete(deadline, (ignored, error) -> {
+        if (current == generation && state == State.LOADING) {
+          cancel();
+          state = State.TIMED_OUT;
+          show(timeoutContent.get());
+        }
+      });
+    }
+    return current;
+  }
+
+  private <T> void finish(int current, T data, Throwable error, Function<? super T, ? extends Component> renderer) {
+    if (current != generation || state != State.LOADING) {
+      return;
+    }
+
+    running = null;
+    stopTimer();
+    if (error != null) {
+      state = State.FAILED;
+      show(errorContent.apply(error));
+      return;
+    }
+
+    try {
+      show(renderer.apply(data));
+      state = State.LOADED;
+    } catch (RuntimeException e) {
+      state = State.FAILED;
+      show(errorContent.apply(e));
+    }
+  }
+
+  private void stopTimer() {
+    if (timer != null) {
+      timer.complete(null);
+      timer = null;
+    }
+  }
+
+  private void show(Component content) {
+    getBoundComponent().removeAll();
+    if (content != null) {
+      getBoundComponent().add(content);
+    }
+  }
+
+  private static Component createPlaceholder(Placeholder placeholder) {
+    if (placeholder == Placeholder.SPINNER) {
+      Spinner spinner = Spinner.large();
+      spinner.setStyle("display", "block");
+      spinner.setStyle("margin", "var(--sl-spacing-large) auto");
+      return spinner;
+    }
+
+    Div lines = new Div();
+    lines.setStyle("display", "flex");
+    lines.setStyle("flex-direction", "column");
+    lines.setStyle("gap", "var(--sl-spacing-small)");
+    lines.add(Skeleton.text("60%").setEffect(Skeleton.Effect.SHEEN),
+        Skeleton.text("100%").setEffect(Skeleton.Effect.SHEEN),
+        Skeleton.text("80%").setEffect(Skeleton.Effect.SHEEN));
+    return lines;
+  }
+
+  private Component createError(Throwable error) {
+    if (!showErrorDetails) {
+      return createAlert(ERROR_MESSAGE);
+    }
+    return createAlert(error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName());
+  }
+
+  private static Component createAlert(String message) {
+    Alert alert = new Alert();
+    alert.setVariant(Alert.Variant.DANGER);
+    alert.add(new Span(message));
+    alert.setOpen(true);
+    return alert;
+  }
+}
@@ -0,0 +1,238 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.ComponentLifecycleObserver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams log lines into a read-only {@link Textarea}.
+ *
+ * <p>Lines are kept in a fixed-capacity ring buffer on the server. Instead of
+ * resending the whole text on every update, the stream periodically sends only
+ * the lines appended since the last update, and the browser trims the oldest
+ * lines at the same capacity. Updates are coalesced to at most
+ * {@code maxUpdatesPerSecond} and sent by the pump of the session, see
+ * {@link UiAccess}, and the browser keeps the view scrolled to the bottom
+ * unless the user scrolled up.</p>
+ *
+ * <p>{@link #append(String)} and {@link #close()} may be called from any
+ * thread. The stream stops after the update following {@link #close()}, or
+ * immediately when the textarea is destroyed.</p>
+ *
+ * <pre>{@code
+ * Textarea log = new Textarea("Build output");
+ * LogStream stream = log.startLogStream(10_000, 4);
+ *
+ * job.onOutput(stream::append);
+ * }</pre>
+ *
+ * @see Textarea#startLogStream(int, int)
+ * @since 1.0.0
+ */
+public final class LogStream {
+  private final Textarea textarea;
+  private final int capacity;
+  private final String[] ring;
+  private final UiAccess access;
+  private final UiAccess.Source source = this::poll;
+  private final long updateNanos;
+  private long lastUpdate;
+  private int head;
+  private int size;
+  private final List<String> pending = new ArrayList<>();
+  private boolean replacePending;
+  private boolean closing;
+  private boolean closed;
+
+  LogStream(Textarea textarea, int capacity, int maxUpdatesPerSecond) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be at least 1");
+    }
+
+    if (maxUpdatesPerSecond < 1) {
+      throw new IllegalArgumentException("maxUpdatesPerSecond must be at least 1");
+    }
+
+    this.textarea = textarea;
+    this.capacity = capacity;
+    this.ring = new String[capacity];
+
+    textarea.setReadonly(true);
+    textarea.getElement().executeJsVoidAsync(CLIENT_SCRIPT);
+    updateNanos = TimeUnit.SECONDS.toNanos(1) / maxUpdatesPerSecond;
+    access = UiAccess.getCurrent();
+    access.attach(source);
+    textarea.addLifecycleObserver((component, event) -> {
+      if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+        stop();
+      }
+    });
+  }
+
+  /**
+   * Appends a line. Text containing line breaks is split into several lines.
+   *
+   * @param line the line to append
+   */
+  public void append(String line) {
+    String text = line == null ? "" : line;
+    synchronized (this) {
+      if (closing || closed) {
+        return;
+      }
+
+      for (String part : text.split("\r?\n", -1)) {
+        push(part);
+      }
+    }
+    access.wake();
+  }
+
+  /**
+   * Appends several lines.
+   *
+   * @param lines the lines to append
+   */
+  public void appendAll(Collection<String> lines) {
+    for (String line : lines) {
+      append(line);
+    }
+  }
+
+  /**
+   * Removes all lines.
+   */
+  public void clear() {
+    synchronized (this) {
+      head = 0;
+      size = 0;
+      pending.clear();
+      replacePending = true;
+    }
+    access.wake();
+  }
+
+  /**
+   * Gets a snapshot of the retained lines, oldest first.
+   *
+   * @return the lines
+   */
+  public synchronized List<String> getLines() {
+    List<String> lines = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      lines.add(ring[(head + i) % capacity]);
+    }
+    return lines;
+  }
+
+  /**
+   * Gets the number of lines kept before the oldest are dropped.
+   *
+   * @return the capacity
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Stops streaming once the pending lines have been sent. Later appends are ignored.
+   */
+  public void close() {
+    synchronized (this) {
+      closing = true;
+    }
+    access.wake();
+  }
+
+  private void stop() {
+    synchronized (this) {
+      closed = true;
+    }
+    access.detach(source);
+  }
+
+  private boolean poll() {
+    long now = System.nanoTime();
+    if (now - lastUpdate >= updateNanos) {
+      lastUpdate = now;
+      flush();
+    }
+    synchronized (this) {
+      return !closed && (closing || replacePending || !pending.isEmpty());
+    }
+  }
+
+  private void push(String line) {
+    ring[(head + size) % capacity] = line;
+    if (size < capacity) {
+      size++;
+    } else {
+      head = (head + 1) % capacity;
+    }
+
+    if (replacePending) {
+      return;
+    }
+
+    pending.add(line);
+    if (pending.size() >= capacity) {
+      // Everything the client has would be trimmed anyway, resend the buffer instead
+      pending.clear();
+      replacePending = true;
+    }
+  }
+
+  private void flush() {
+    String chunk;
+    int lineCount;
+    boolean replace;
+    boolean last;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+
+      last = closing;
+      if (!replacePending && pending.isEmpty()) {
+        if (last) {
+          stop();
+        }
+        return;
+      }
+
+      replace = replacePending;
+      List<String> lines = replace ? getLines() : pending;
+      chunk = String.join("\n", lines);
+      lineCount = lines.size();
+      pending.clear();
+      replacePending = false;
+    }
+
+    textarea.getElement().callJsFunctionVoidAsync("__slwAppendLines", chunk, lineCount, capacity, replace);
+    if (last) {
+      stop();
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "let lineCount = 0;" +
+    "component.__slwAppendLines = (chunk, count, capacity, replace) => {" +
+    "  const area = component.shadowRoot && component.shadowRoot.querySelector('textarea');" +
+    "  const stick = !area || area.scrollHeight - area.scrollTop - area.clientHeight < 4;" +
+    "  let value = replace || lineCount === 0 ? chunk : component.value + '\\n' + chunk;" +
+    "  lineCount = replace ? count : lineCount + count;" +
+    "  if (lineCount > capacity) {" +
+    "    let cut = 0;" +
+    "    for (let i = lineCount - capacity; i > 0; i--) cut = value.indexOf('\\n', cut) + 1;" +
+    "    value = value.slice(cut);" +
+    "    lineCount = capacity;" +
+    "  }" +
+    "  component.value = value;" +
+    "  if (stick && area) {" +
+    "    component.updateComplete.then(() => { area.scrollTop = area.scrollHeight; });" +
+    "  }" +
+    "};";
+}
@@ -333,6 +333,18 @@ public final class MenuItem extends ElementComposite implements HasStyle<MenuIte
     return addEventListener(SelectEvent.class, listener);
   }
 
+  /**
+   * Runs an action in the browser when the menu item is clicked or chosen with the
+   * keyboard, without a server round trip.
+   * 
+   * @param action the action, for example {@code Actions.showTab(tabGroup, "general")}
+   * @return the binding, to be removed when no longer needed
+   * @see Actions
+   */
+  public Action.Binding onClientClick(Action action) {
+    return action.bind(this, "click");
+  }
+
   // ==================== Events ====================
 
   /**
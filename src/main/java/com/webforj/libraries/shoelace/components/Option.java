@@ -1,5 +1,6 @@
 package com.webforj.libraries.shoelace.components;
 
+import com.webforj.PendingResult;
 import com.webforj.annotation.Attribute;
 import com.webforj.annotation.JavaScript;
 import com.webforj.annotation.StyleSheet;
@@ -120,13 +121,21 @@ public final class Option extends ElementComposite implements HasComponents, Has
   }
 
   /**
-   * Get the text label of the option
-   * Note: This would need JavaScript interop to call getTextLabel()
+   * Get the label of the option as set on the server. Use
+   * {@link #getTextLabelAsync()} for the text label rendered in the browser.
    *
-   * @return the text label
+   * @return the label
    */
   public String getTextLabel() {
-    // Note: Would need JavaScript interop to call the component's getTextLabel() method
     return getHtml();
   }
+
+  /**
+   * Get the text label of the option as rendered in the browser, without prefix, suffix or markup.
+   *
+   * @return the pending text label
+   */
+  public PendingResult<String> getTextLabelAsync() {
+    return ElementMethods.callAsync(this, "getTextLabel").thenApply(label -> label == null ? "" : String.valueOf(label));
+  }
 }
\ No newline at end of file
@@ -0,0 +1,381 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.Environment;
+import com.webforj.Page;
+import com.webforj.component.ComponentLifecycleObserver;
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.event.ElementEventOptions;
+import com.webforj.environment.ObjectTable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A named list of options shared by many {@link Select} and {@link RadioGroup} components.
+ *
+ * <p>Adding the same long list of {@link Option}s to every select of a form or
+ * grid editor creates one server component and one DOM element per option and
+ * select. An option list is held once on the server and sent to the browser
+ * once per session. Components reference it by id with
+ * {@link Select#setOptionList(OptionList)} or
+ * {@link RadioGroup#setOptionList(OptionList)}. A select only creates its
+ * option elements when it is about to open, and until then only holds the
+ * options matching its value.</p>
+ *
+ * <p>Changing the items with {@link #setItems(List)} sends the new list with a
+ * single update per session, and all components referencing it pick it up.
+ * The session making the change receives the new version at once. Other
+ * sessions with a component referencing the list receive it on the next tick
+ * of their {@link UiAccess} pump while it runs for other work, or else the
+ * next time the user focuses one of those components. Lists do not keep the
+ * pump running on their own.</p>
+ *
+ * <pre>{@code
+ * OptionList countries = OptionList.register("countries", countryRepository.findAll().stream()
+ *     .map(c -> new OptionList.Item(c.getCode(), c.getName()))
+ *     .toList());
+ *
+ * for (Row row : rows) {
+ *   editor.add(new Select("Country").setOptionList(countries).setValue(row.getCountry()));
+ * }
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class OptionList {
+  private static final Map<String, OptionList> REGISTRY = new ConcurrentHashMap<>();
+
+  /**
+   * An option.
+   *
+   * @param value the value of the option
+   * @param label the text shown for the option
+   */
+  public record Item(String value, String label) {
+    /**
+     * Creates an option whose label is its value.
+     *
+     * @param value the value and label
+     */
+    public Item(String value) {
+      this(value, value);
+    }
+  }
+
+  private final String id;
+  private final Set<SessionLists> sessions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+  private volatile List<Item> items;
+  private volatile int version;
+
+  private OptionList(String id, List<Item> items) {
+    this.id = id;
+    this.items = List.copyOf(items);
+  }
+
+  /**
+   * Registers a list, or replaces the items of the list already registered under the id.
+   *
+   * @param id the id of the list
+   * @param items the options
+   * @return the list
+   */
+  public static OptionList register(String id, List<Item> items) {
+    OptionList created = new OptionList(id, items);
+    OptionList existing = REGISTRY.putIfAbsent(id, created);
+    if (existing == null) {
+      return created;
+    }
+
+    existing.setItems(items);
+    return existing;
+  }
+
+  /**
+   * Gets a registered list.
+   *
+   * @param id the id of the list
+   * @return the list, or {@code null} if no list is registered under the id
+   */
+  public static OptionList get(String id) {
+    return REGISTRY.get(id);
+  }
+
+  /**
+   * Removes a list from the registry. Components referencing it keep their options.
+   *
+   * @param id the id of the list
+   */
+  public static void unregister(String id) {
+    REGISTRY.remove(id);
+  }
+
+  /**
+   * Gets the id of the list.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the options.
+   *
+   * @return the options
+   */
+  public List<Item> getItems() {
+    return items;
+  }
+
+  /**
+   * Replaces the options. May be called from any thread. The session calling
+   * it receives the new options at once, other sessions as described above.
+   *
+   * @param items the options
+   */
+  public void setItems(List<Item> items) {
+    synchronized (this) {
+      this.items = List.copyOf(items);
+      version++;
+    }
+
+    SessionLists[] subscribed;
+    synchronized (sessions) {
+      subscribed = sessions.toArray(new SessionLists[0]);
+    }
+    for (SessionLists session : subscribed) {
+      session.access.wake();
+    }
+    if (Environment.isPresent() && SessionLists.isPresent()) {
+      SessionLists.getCurrent().poll();
+    }
+  }
+
+  /**
+   * Gets the version of the options, incremented on every change.
+   *
+   * @return the version
+   */
+  public int getVersion() {
+    return version;
+  }
+
+  /**
+   * Makes a component show the options of a list.
+   *
+   * @param component the select or radio group
+   * @param list the list, or {@code null} to remove the options of the previous list
+   * @param tag the tag of the option elements
+   * @param module the module defining the option elements
+   * @param lazy true to only create all options once the component is about to open
+   */
+  static void bind(ElementComposite component, OptionList list, String tag, String module, boolean lazy) {
+    int subscriber = SessionLists.getCurrent().bind(component, list);
+
+    component.getElement().executeJsVoidAsync(CLIENT_SCRIPT
+        .replace("$TAG", Json.quote(tag))
+        .replace("$MODULE", Json.quote(module))
+        .replace("$LAZY", String.valueOf(lazy)));
+    component.getElement().callJsFunctionVoidAsync("__slwSetOptionList", list == null ? null : list.getId(),
+        subscriber);
+  }
+
+  /**
+   * Updates the options shown by a lazily bound component after its value
+   * changed, as it only holds the options matching its value until opened.
+   *
+   * @param component the select
+   */
+  static void refresh(ElementComposite component) {
+    component.getElement().callJsFunctionVoidAsync("__slwRefreshOptionList");
+  }
+
+  /**
+   * The lists referenced by the components of a session, and the versions its browser has.
+   */
+  private static final class SessionLists {
+    private static final String KEY = SessionLists.class.getName();
+
+    private final UiAccess access;
+    private final UiAccess.Source source = this::poll;
+    private final Map<ElementComposite, OptionList> components = new HashMap<>();
+    private final Map<ElementComposite, Integer> subscribers = new HashMap<>();
+    private final Map<OptionList, Integer> references = new HashMap<>();
+    private final Map<String, Integer> sent = new HashMap<>();
+    private int nextSubscriber;
+
+    private SessionLists(UiAccess access) {
+      this.access = access;
+    }
+
+    static boolean isPresent() {
+      return ObjectTable.contains(KEY);
+    }
+
+    static SessionLists getCurrent() {
+      if (ObjectTable.contains(KEY)) {
+        return (SessionLists) ObjectTable.get(KEY);
+      }
+
+      SessionLists lists = new SessionLists(UiAccess.getCurrent());
+      ObjectTable.put(KEY, lists);
+      return lists;
+    }
+
+    /**
+     * Records the list referenced by a component.
+     *
+     * @return the id of the component in the subscribers of the browser
+     */
+    int bind(ElementComposite component, OptionList list) {
+      Integer subscriber = subscribers.get(component);
+      if (subscriber == null) {
+        subscriber = nextSubscriber++;
+        subscribers.put(component, subscriber);
+        int id = subscriber;
+        component.addLifecycleObserver((source, event) -> {
+          if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+            subscribers.remove(component);
+            OptionList bound = components.remove(component);
+            if (bound != null) {
+              release(bound);
+            }
+            Page.getCurrent().executeJsVoidAsync(
+                "if (window.__slwOptionListSubscribers) window.__slwOptionListSubscribers.delete(" + id + ");");
+          }
+        });
+        // Lists changed in another session while the pump was stopped arrive on interaction
+        component.getElement().addEventListener("focusin", e -> poll(),
+            new ElementEventOptions().setDebounce(500));
+      }
+
+      OptionList previous = list == null ? components.remove(component) : components.put(component, list);
+      if (previous == list) {
+        return subscriber;
+      }
+      if (previous != null) {
+        release(previous);
+      }
+      if (list == null) {
+        return subscriber;
+      }
+
+      if (references.isEmpty()) {
+        access.observe(source);
+      }
+      if (references.merge(list, 1, Integer::sum) == 1) {
+        list.sessions.add(this);
+      }
+      send(list);
+      return subscriber;
+    }
+
+    private void release(OptionList list) {
+      if (references.merge(list, -1, Integer::sum) == 0) {
+        references.remove(list);
+        list.sessions.remove(this);
+        if (references.isEmpty()) {
+          access.unobserve(source);
+        }
+      }
+    }
+
+    boolean poll() {
+      for (OptionList list : references.keySet()) {
+        if (!Integer.valueOf(list.version).equals(sent.get(list.id))) {
+          send(list);
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Sends a list to the browser of the session unless it already has the current version.
+     */
+    void send(OptionList list) {
+      List<Item> current;
+      int currentVersion;
+      synchronized (list) {
+        current = list.items;
+        currentVersion = list.version;
+      }
+
+      Integer previous = sent.put(list.id, currentVersion);
+      if (previous != null && previous == currentVersion) {
+        return;
+      }
+
+      List<Map<String, String>> payload = current.stream().map(item -> {
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("value", item.value());
+        entry.put("label", item.label());
+        return entry;
+      }).toList();
+
+      Page.getCurrent().executeJsVoidAsync(
+          "window.__slwOptionLists = window.__slwOptionLists || {};"
+          + "window.__slwOptionLists[" + Json.quote(list.id) + "] = {version: " + currentVersion
+          + ", items: " + Json.write(payload) + "};"
+          + "window.dispatchEvent(new CustomEvent('slw-option-list', {detail: " + Json.quote(list.id) + "}));");
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "if (!window.__slwOptionListSubscribers) {" +
+    "  const subscribers = window.__slwOptionListSubscribers = new Map();" +
+    "  window.addEventListener('slw-option-list', (e) => subscribers.forEach((entry, key) => {" +
+    "    const el = entry.ref.deref();" +
+    "    if (!el) subscribers.delete(key);" +
+    "    else if (entry.listId === e.detail) el.__slwRefreshOptionList();" +
+    "  }));" +
+    "}" +
+    "if (!component.__slwSetOptionList) {" +
+    "  const tag = $TAG;" +
+    "  if (!customElements.get(tag)) import($MODULE);" +
+    "  let listId = null;" +
+    "  let stamped = null;" +
+    "  const current = () => listId === null ? null : (window.__slwOptionLists || {})[listId];" +
+    "  const clear = () => component.querySelectorAll(':scope > [data-slw-stamped]').forEach((el) => el.remove());" +
+    "  const create = (item) => {" +
+    "    const el = document.createElement(tag);" +
+    "    el.setAttribute('value', item.value);" +
+    "    el.textContent = item.label;" +
+    "    el.setAttribute('data-slw-stamped', '');" +
+    "    return el;" +
+    "  };" +
+    "  const stamp = () => {" +
+    "    const list = current();" +
+    "    if (!list || stamped === list) return;" +
+    "    clear();" +
+    "    component.append(...list.items.map(create));" +
+    "    stamped = list;" +
+    "  };" +
+    "  const stampSelected = () => {" +
+    "    const list = current();" +
+    "    const values = [].concat(component.value);" +
+    "    clear();" +
+    "    stamped = null;" +
+    "    if (list) component.append(...list.items.filter((item) => values.includes(item.value)).map(create));" +
+    "  };" +
+    "  const refresh = () => $LAZY && !stamped ? stampSelected() : stamp();" +
+    "  if ($LAZY) ['focusin', 'mouseenter', 'sl-show'].forEach((type) => component.addEventListener(type, stamp));" +
+    "  component.__slwRefreshOptionList = refresh;" +
+    "  component.__slwSetOptionList = (id, key) => {" +
+    "    listId = id;" +
+    "    stamped = null;" +
+    "    if (id === null) {" +
+    "      window.__slwOptionListSubscribers.delete(key);" +
+    "      clear();" +
+    "    } else {" +
+    "      window.__slwOptionListSubscribers.set(key, {listId: id, ref: new WeakRef(component)});" +
+    "      refresh();" +
+    "    }" +
+    "  };" +
+    "}";
+}
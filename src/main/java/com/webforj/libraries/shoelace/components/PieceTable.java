@@ -0,0 +1,212 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A mutable text document stored as a piece table.
+ *
+ * <p>The original text is kept as-is and every insertion is appended to a
+ * single add buffer. The document itself is a list of pieces pointing into
+ * either buffer, so an edit only touches a few pieces instead of copying the
+ * whole text. This keeps the cost of small edits to large documents
+ * proportional to the edit, which is what {@link Textarea#setIncrementalSync(boolean)}
+ * relies on.</p>
+ *
+ * <p>When many small edits have fragmented the document, it is compacted back
+ * into a single piece.</p>
+ *
+ * <pre>{@code
+ * PieceTable doc = new PieceTable("Hello world");
+ * doc.replace(6, 5, "there");
+ * doc.toString(); // "Hello there"
+ * }</pre>
+ *
+ * <p>Instances are not thread safe.</p>
+ *
+ * @since 1.0.0
+ */
+public final class PieceTable {
+  private static final int COMPACT_THRESHOLD = 4096;
+
+  private String original;
+  private final StringBuilder added = new StringBuilder();
+  private final List<Piece> pieces = new ArrayList<>();
+  private int length;
+
+  private record Piece(boolean inAdded, int start, int length) {
+  }
+
+  /**
+   * Creates an empty document.
+   */
+  public PieceTable() {
+    this("");
+  }
+
+  /**
+   * Creates a document with the given initial text.
+   *
+   * @param text the initial text
+   */
+  public PieceTable(String text) {
+    reset(text);
+  }
+
+  /**
+   * Replaces the whole document.
+   *
+   * @param text the new text
+   */
+  public void reset(String text) {
+    original = text == null ? "" : text;
+    added.setLength(0);
+    pieces.clear();
+    length = original.length();
+    if (length > 0) {
+      pieces.add(new Piece(false, 0, length));
+    }
+  }
+
+  /**
+   * Gets the length of the document in UTF-16 code units.
+   *
+   * @return the length
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Inserts text at the given offset.
+   *
+   * @param offset the offset to insert at
+   * @param text the text to insert
+   */
+  public void insert(int offset, String text) {
+    replace(offset, 0, text);
+  }
+
+  /**
+   * Deletes a range of text.
+   *
+   * @param offset the start of the range
+   * @param deleteCount the number of code units to delete
+   */
+  public void delete(int offset, int deleteCount) {
+    replace(offset, deleteCount, "");
+  }
+
+  /**
+   * Replaces a range of text.
+   *
+   * @param offset the start of the range
+   * @param deleteCount the number of code units to remove
+   * @param text the text to insert in place of the range
+   * @throws IndexOutOfBoundsException if the range is not within the document
+   */
+  public void replace(int offset, int deleteCount, String text) {
+    if (offset < 0 || deleteCount < 0 || offset + deleteCount > length) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + offset + ", " + (offset + deleteCount) + ") outside of document of length " + length);
+    }
+
+    String insert = text == null ? "" : text;
+    if (deleteCount == 0 && insert.isEmpty()) {
+      return;
+    }
+
+    int index = split(offset);
+    int end = split(offset + deleteCount);
+    pieces.subList(index, end).clear();
+
+    if (!insert.isEmpty()) {
+      pieces.add(index, new Piece(true, added.length(), insert.length()));
+      added.append(insert);
+    }
+
+    length += insert.length() - deleteCount;
+    if (pieces.size() > COMPACT_THRESHOLD) {
+      reset(toString());
+    }
+  }
+
+  /**
+   * Gets a range of the document.
+   *
+   * @param start the start offset, inclusive
+   * @param end the end offset, exclusive
+   * @return the text in the range
+   */
+  public String substring(int start, int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") outside of document of length " + length);
+    }
+
+    StringBuilder out = new StringBuilder(end - start);
+    int position = 0;
+    for (Piece piece : pieces) {
+      int pieceEnd = position + piece.length();
+      if (pieceEnd > start && position < end) {
+        int from = piece.start() + Math.max(0, start - position);
+        int to = piece.start() + Math.min(piece.length(), end - position);
+        out.append(buffer(piece), from, to);
+      }
+
+      if (pieceEnd >= end) {
+        break;
+      }
+      position = pieceEnd;
+    }
+
+    return out.toString();
+  }
+
+  /**
+   * Gets the number of pieces the document is currently split into.
+   *
+   * @return the piece count
+   */
+  int getPieceCount() {
+    return pieces.size();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder out = new StringBuilder(length);
+    for (Piece piece : pieces) {
+      out.append(buffer(piece), piece.start(), piece.start() + piece.length());
+    }
+    return out.toString();
+  }
+
+  private CharSequence buffer(Piece piece) {
+    return piece.inAdded() ? added : original;
+  }
+
+  /**
+   * Makes sure a piece boundary exists at the given offset.
+   *
+   * @return the index of the piece starting at the offset
+   */
+  private int split(int offset) {
+    int position = 0;
+    for (int i = 0; i < pieces.size(); i++) {
+      Piece piece = pieces.get(i);
+      if (offset == position) {
+        return i;
+      }
+
+      if (offset < position + piece.length()) {
+        int head = offset - position;
+        pieces.set(i, new Piece(piece.inAdded(), piece.start(), head));
+        pieces.add(i + 1, new Piece(piece.inAdded(), piece.start() + head, piece.length() - head));
+        return i + 1;
+      }
+
+      position += piece.length();
+    }
+
+    return pieces.size();
+  }
+}
@@ -0,0 +1,160 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Extracts and caches static poster frames for animated images.
+ *
+ * <p>The first frame of the animation is decoded with {@code javax.imageio},
+ * re-encoded as a compressed JPEG (or PNG when the frame has transparency) and
+ * returned as a {@code data:} URL. Posters are small, so inlining them saves a
+ * request per image and lets {@link AnimatedImage} show a preview without the
+ * browser ever downloading the full animation.</p>
+ *
+ * <p>Decoding is limited to the formats the JDK can read. Animated GIFs are
+ * supported out of the box; WEBP sources yield no poster unless an ImageIO
+ * WEBP plugin is on the classpath, in which case callers fall back to the
+ * original source.</p>
+ *
+ * <p>Extraction reads and decodes the whole source, so {@link #getPoster}
+ * blocks and must not be called on the UI thread. Concurrent requests for the
+ * same key share a single extraction.</p>
+ *
+ * <pre>{@code
+ * UiAccess.getCurrent().runAsync(
+ *     () -> PosterFrameCache.getDefault().getPoster(src, ImageSource.forSrc(src)),
+ *     (poster, error) -> preview.setSrc(poster == null ? src : poster.orElse(src)));
+ * }</pre>
+ *
+ * @see AnimatedImage#setDeferredSrc(String)
+ * @since 1.0.0
+ */
+public final class PosterFrameCache {
+  private static final PosterFrameCache DEFAULT = new PosterFrameCache(256, 320, 0.75f);
+
+  private final int maxEdge;
+  private final float quality;
+  private final Map<String, CompletableFuture<Optional<String>>> entries;
+
+  /**
+   * Creates a new cache.
+   *
+   * @param maxEntries the number of posters kept before the least recently used is evicted
+   * @param maxEdge the longest edge of the poster in pixels, or {@code 0} to keep the frame size
+   * @param quality the JPEG quality between {@code 0} and {@code 1}
+   */
+  public PosterFrameCache(int maxEntries, int maxEdge, float quality) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be at least 1");
+    }
+
+    this.maxEdge = Math.max(0, maxEdge);
+    this.quality = Math.max(0f, Math.min(1f, quality));
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Optional<String>>> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Gets the cache shared by all components.
+   *
+   * @return the default cache
+   */
+  public static PosterFrameCache getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Gets the poster for the given key, extracting it on first use. Blocks
+   * until the poster is extracted, possibly by another thread asking for the
+   * same key.
+   *
+   * <p>Failures are cached as well, so a source that cannot be decoded is not
+   * read again on every render.</p>
+   *
+   * @param key the cache key, usually the image URL
+   * @param source where to read the animation from
+   * @return the poster as a {@code data:} URL, or empty if no frame could be extracted
+   */
+  public Optional<String> getPoster(String key, ImageSource source) {
+    CompletableFuture<Optional<String>> created = new CompletableFuture<>();
+    CompletableFuture<Optional<String>> poster;
+    synchronized (entries) {
+      poster = entries.computeIfAbsent(key, k -> created);
+    }
+
+    if (poster == created) {
+      try {
+        created.complete(source == null ? Optional.empty() : extract(source));
+      } finally {
+        // Errors escaping extract must not leave the waiters blocked
+        created.complete(Optional.empty());
+      }
+    }
+    return poster.join();
+  }
+
+  /**
+   * Gets the poster for the given key if it was already extracted. Never blocks.
+   *
+   * @param key the cache key
+   * @return the poster, or an empty optional if there is none or it was not
+   *     extracted yet, see {@link #isExtracted(String)}
+   */
+  public Optional<String> peekPoster(String key) {
+    CompletableFuture<Optional<String>> poster = entry(key);
+    return poster != null && poster.isDone() ? poster.join() : Optional.empty();
+  }
+
+  /**
+   * Checks whether the extraction for the given key has finished, with or without a poster. Never blocks.
+   *
+   * @param key the cache key
+   * @return true if {@link #peekPoster(String)} returns the final outcome
+   */
+  public boolean isExtracted(String key) {
+    CompletableFuture<Optional<String>> poster = entry(key);
+    return poster != null && poster.isDone();
+  }
+
+  /**
+   * Removes a cached poster, for example after the source image changed.
+   *
+   * @param key the cache key
+   */
+  public void invalidate(String key) {
+    synchronized (entries) {
+      entries.remove(key);
+    }
+  }
+
+  private CompletableFuture<Optional<String>> entry(String key) {
+    synchronized (entries) {
+      return entries.get(key);
+    }
+  }
+
+  private Optional<String> extract(ImageSource source) {
+    try {
+      BufferedImage frame = ImageCodec.readFirstFrame(source);
+      if (frame == null) {
+        return Optional.empty();
+      }
+
+      ImageCodec.Encoded poster = ImageCodec.encode(ImageCodec.scaleToFit(frame, maxEdge), quality);
+      return Optional.of("data:" + poster.mimeType() + ";base64,"
+          + Base64.getEncoder().encodeToString(poster.bytes()));
+    } catch (IOException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+}
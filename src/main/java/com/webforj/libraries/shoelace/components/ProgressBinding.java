@@ -0,0 +1,119 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.ComponentLifecycleObserver;
+import com.webforj.component.element.ElementComposite;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Shows the progress of a {@link ProgressTracker} on a component at a bounded frame rate.
+ *
+ * <p>Created with {@link ProgressTracker#bind(ProgressBar)} or
+ * {@link ProgressTracker#bind(ProgressRing)}. On every frame the binding
+ * reads the tracker and sends the value only if it changed. Frames are run by
+ * the pump of the session, see {@link UiAccess}. The binding stops after
+ * the frame following completion or cancellation of the tracker, when the
+ * component is destroyed, or when {@link #stop()} is called.</p>
+ *
+ * @see ProgressTracker
+ * @since 1.0.0
+ */
+public final class ProgressBinding {
+
+  /**
+   * The default number of updates per second.
+   */
+  public static final int DEFAULT_FRAMES_PER_SECOND = 10;
+
+  private final ProgressTracker tracker;
+  private final IntConsumer value;
+  private final Consumer<Boolean> indeterminate;
+  private final UiAccess access;
+  private final UiAccess.Source source = this::poll;
+  private final long frameNanos;
+  private long lastFrame;
+  private int lastPercent = Integer.MIN_VALUE;
+  private Boolean lastIndeterminate;
+  private boolean stopped;
+
+  ProgressBinding(ProgressTracker tracker, ElementComposite component, IntConsumer value,
+      Consumer<Boolean> indeterminate, int framesPerSecond) {
+    this.tracker = tracker;
+    this.value = value;
+    this.indeterminate = indeterminate;
+    this.access = UiAccess.getCurrent();
+    this.frameNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, framesPerSecond);
+
+    component.addLifecycleObserver((source, event) -> {
+      if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+        stop();
+      }
+    });
+    update();
+    if (!stopped) {
+      lastFrame = System.nanoTime();
+      access.attach(source);
+    }
+  }
+
+  /**
+   * Gets the tracker.
+   *
+   * @return the tracker
+   */
+  public ProgressTracker getTracker() {
+    return tracker;
+  }
+
+  /**
+   * Checks whether the binding still updates the component.
+   *
+   * @return true while active
+   */
+  public boolean isActive() {
+    return !stopped;
+  }
+
+  /**
+   * Stops updating the component. It keeps its last value.
+   */
+  public void stop() {
+    stopped = true;
+    access.detach(source);
+  }
+
+  private boolean poll() {
+    long now = System.nanoTime();
+    if (now - lastFrame >= frameNanos) {
+      lastFrame = now;
+      update();
+    }
+    return !stopped;
+  }
+
+  private void update() {
+    boolean finished = tracker.isCompleted() || tracker.isCancelled();
+    int percent = tracker.getPercent();
+    if (percent != lastPercent) {
+      setIndeterminate(percent < 0);
+      if (percent >= 0) {
+        value.accept(percent);
+      }
+      lastPercent = percent;
+    }
+
+    if (finished) {
+      setIndeterminate(false);
+      stop();
+    }
+  }
+
+  private void setIndeterminate(boolean state) {
+    if (indeterminate != null && !Boolean.valueOf(state).equals(lastIndeterminate)) {
+      indeterminate.accept(state);
+      lastIndeterminate = state;
+    }
+  }
+}
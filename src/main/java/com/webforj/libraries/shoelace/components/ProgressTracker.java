@@ -0,0 +1,221 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accumulates the progress of background work, to be shown by a {@link ProgressBar} or {@link ProgressRing}.
+ *
+ * <p>Work may report progress from any thread and at any rate, for example
+ * once per imported record. Reporting only updates an atomic counter and
+ * never sends anything to the browser. A {@link ProgressBinding} created
+ * with {@link #bind(ProgressBar)} samples the counter on the UI thread a few
+ * times per second and sends only the latest value, and only if it changed,
+ * so the number of updates sent is bounded by the frame rate, not by how
+ * often the work reports.</p>
+ *
+ * <p>While the total is {@link #UNKNOWN}, a bound progress bar is
+ * indeterminate. Bindings stop by themselves once the tracker is completed or
+ * cancelled.</p>
+ *
+ * <pre>{@code
+ * ProgressTracker progress = new ProgressTracker(records.size());
+ * progress.bind(importProgress);
+ *
+ * TaskExecutor.getCurrent().submit(() -> {
+ *   for (Record record : records) {
+ *     importer.write(record);
+ *     progress.increment();
+ *   }
+ *   progress.complete();
+ *   return null;
+ * });
+ * }</pre>
+ *
+ * <p>Tasks of a {@link TaskExecutor} have a tracker of their own, see
+ * {@link TaskExecutor.Context#getProgress()}.</p>
+ *
+ * @since 1.0.0
+ */
+public final class ProgressTracker {
+
+  /**
+   * The total of a tracker whose amount of work is not known.
+   */
+  public static final long UNKNOWN = -1;
+
+  private final AtomicLong done = new AtomicLong();
+  private final AtomicLong total;
+  private volatile boolean completed;
+  private volatile boolean cancelled;
+
+  /**
+   * Creates a tracker with an unknown total.
+   */
+  public ProgressTracker() {
+    this(UNKNOWN);
+  }
+
+  /**
+   * Creates a tracker.
+   *
+   * @param total the amount of work, or {@link #UNKNOWN}
+   */
+  public ProgressTracker(long total) {
+    this.total = new AtomicLong(total);
+  }
+
+  /**
+   * Sets the amount of work.
+   *
+   * @param total the amount of work, or {@link #UNKNOWN}
+   * @return this instance
+   */
+  public ProgressTracker setTotal(long total) {
+    this.total.set(total);
+    return this;
+  }
+
+  /**
+   * Gets the amount of work.
+   *
+   * @return the amount of work, or {@link #UNKNOWN}
+   */
+  public long getTotal() {
+    return total.get();
+  }
+
+  /**
+   * Adds to the work done.
+   *
+   * @param amount the amount of work done since the last report
+   */
+  public void advance(long amount) {
+    done.addAndGet(amount);
+  }
+
+  /**
+   * Adds one to the work done.
+   */
+  public void increment() {
+    done.incrementAndGet();
+  }
+
+  /**
+   * Sets the work done.
+   *
+   * @param amount the total amount of work done so far
+   */
+  public void setDone(long amount) {
+    done.set(amount);
+  }
+
+  /**
+   * Gets the work done.
+   *
+   * @return the amount of work done
+   */
+  public long getDone() {
+    return done.get();
+  }
+
+  /**
+   * Gets the work done as a percentage of the total.
+   *
+   * @return the percentage between 0 and 100, or -1 if the total is unknown
+   */
+  public int getPercent() {
+    long all = total.get();
+    if (all < 0) {
+      return completed ? 100 : -1;
+    }
+    if (all == 0 || completed) {
+      return 100;
+    }
+    long current = Math.max(0, Math.min(all, done.get()));
+    if (current <= Long.MAX_VALUE / 100) {
+      return (int) (current * 100 / all);
+    }
+    // Multiplying by 100 would overflow
+    return BigInteger.valueOf(current).multiply(BigInteger.valueOf(100)).divide(BigInteger.valueOf(all)).intValue();
+  }
+
+  /**
+   * Marks the work as completed. Bound components show 100% and their bindings stop.
+   */
+  public void complete() {
+    completed = true;
+  }
+
+  /**
+   * Marks the work as cancelled. Bound components keep their last value and their bindings stop.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Checks whether the work was completed.
+   *
+   * @return true if completed
+   */
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  /**
+   * Checks whether the work was cancelled.
+   *
+   * @return true if cancelled
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Shows the progress on a progress bar, updated at most
+   * {@value ProgressBinding#DEFAULT_FRAMES_PER_SECOND} times per second.
+   * Must be called on the UI thread.
+   *
+   * @param bar the progress bar
+   * @return the binding
+   */
+  public ProgressBinding bind(ProgressBar bar) {
+    return bind(bar, ProgressBinding.DEFAULT_FRAMES_PER_SECOND);
+  }
+
+  /**
+   * Shows the progress on a progress bar. Must be called on the UI thread.
+   *
+   * @param bar the progress bar
+   * @param framesPerSecond how many times per second the bar is updated at most
+   * @return the binding
+   */
+  public ProgressBinding bind(ProgressBar bar, int framesPerSecond) {
+    return new ProgressBinding(this, bar, bar::setValue, bar::setIndeterminate, framesPerSecond);
+  }
+
+  /**
+   * Shows the progress on a progress ring, updated at most
+   * {@value ProgressBinding#DEFAULT_FRAMES_PER_SECOND} times per second.
+   * Must be called on the UI thread.
+   *
+   * @param ring the progress ring
+   * @return the binding
+   */
+  public ProgressBinding bind(ProgressRing ring) {
+    return bind(ring, ProgressBinding.DEFAULT_FRAMES_PER_SECOND);
+  }
+
+  /**
+   * Shows the progress on a progress ring. Must be called on the UI thread.
+   * Rings have no indeterminate state and keep their value while the total is unknown.
+   *
+   * @param ring the progress ring
+   * @param framesPerSecond how many times per second the ring is updated at most
+   * @return the binding
+   */
+  public ProgressBinding bind(ProgressRing ring, int framesPerSecond) {
+    return new ProgressBinding(this, ring, ring::setValue, null, framesPerSecond);
+  }
+}
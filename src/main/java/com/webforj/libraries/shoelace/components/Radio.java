@@ -47,13 +47,15 @@ import java.util.Map;
   attributes = {@Attribute(name = "type", value = "module")})
 @NodeName("sl-radio")
 @StyleSheet("https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/themes/light.css")
-public final class Radio extends ElementComposite implements HasComponents, HasHtml<Radio> {
+public final class Radio extends ElementComposite implements HasClientBindings, HasComponents, HasHtml<Radio> {
   private final PropertyDescriptor<String> nameProp = PropertyDescriptor.property("name", "");
   private final PropertyDescriptor<String> valueProp = PropertyDescriptor.property("value", "");
   private final PropertyDescriptor<String> sizeProp = PropertyDescriptor.property("size", "medium");
   private final PropertyDescriptor<Boolean> disabledProp = PropertyDescriptor.property("disabled", false);
   private final PropertyDescriptor<Boolean> checkedProp = PropertyDescriptor.property("checked", false);
   private final PropertyDescriptor<Boolean> requiredProp = PropertyDescriptor.property("required", false);
+  private final ClientBinding.Group bindings =
+      new ClientBinding.Group(this, "component.checked", true, this::isChecked);
 
   /**
    * Radio sizes available for the component.
@@ -228,6 +230,7 @@ public final class Radio extends ElementComposite implements HasComponents, HasH
    */
   public Radio setChecked(boolean checked) {
     set(checkedProp, checked);
+    bindings.sync(checked);
     return this;
   }
 
@@ -255,14 +258,28 @@ public final class Radio extends ElementComposite implements HasComponents, HasH
    * Focus the radio programmatically.
    */
   public void focus() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "focus");
   }
 
   /**
    * Remove focus from the radio programmatically.
    */
   public void blur() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "blur");
+  }
+
+  @Override
+  public ClientBinding controls(ElementComposite target, ClientBinding.Property property, boolean inverted) {
+    return bindings.add(target, property, inverted);
+  }
+
+  /**
+   * Applies the value of the enclosing group, set on the server, to the bindings of this radio.
+   *
+   * @param value the value of the group
+   */
+  void syncGroupValue(String value) {
+    bindings.sync(value != null && value.equals(getValue()));
   }
 
   /**
@@ -48,13 +48,15 @@ import java.util.Map;
   attributes = {@Attribute(name = "type", value = "module")})
 @NodeName("sl-radio-button")
 @StyleSheet("https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/themes/light.css")
-public final class RadioButton extends ElementComposite implements HasComponents, HasHtml<RadioButton> {
+public final class RadioButton extends ElementComposite implements HasClientBindings, HasComponents, HasHtml<RadioButton> {
   private final PropertyDescriptor<String> nameProp = PropertyDescriptor.property("name", "");
   private final PropertyDescriptor<String> valueProp = PropertyDescriptor.property("value", "");
   private final PropertyDescriptor<String> sizeProp = PropertyDescriptor.property("size", "medium");
   private final PropertyDescriptor<Boolean> disabledProp = PropertyDescriptor.property("disabled", false);
   private final PropertyDescriptor<Boolean> checkedProp = PropertyDescriptor.property("checked", false);
   private final PropertyDescriptor<Boolean> pillProp = PropertyDescriptor.property("pill", false);
+  private final ClientBinding.Group bindings =
+      new ClientBinding.Group(this, "component.checked", true, this::isChecked);
 
   /**
    * Radio button sizes
@@ -212,6 +214,7 @@ public final class RadioButton extends ElementComposite implements HasComponents
    */
   public RadioButton setChecked(boolean checked) {
     set(checkedProp, checked);
+    bindings.sync(checked);
     return this;
   }
 
@@ -261,14 +264,28 @@ public final class RadioButton extends ElementComposite implements HasComponents
    * Focus the radio button.
    */
   public void focus() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "focus");
   }
 
   /**
    * Blur the radio button.
    */
   public void blur() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "blur");
+  }
+
+  @Override
+  public ClientBinding controls(ElementComposite target, ClientBinding.Property property, boolean inverted) {
+    return bindings.add(target, property, inverted);
+  }
+
+  /**
+   * Applies the value of the enclosing group, set on the server, to the bindings of this radio.
+   *
+   * @param value the value of the group
+   */
+  void syncGroupValue(String value) {
+    bindings.sync(value != null && value.equals(getValue()));
   }
 
   /**
@@ -1,5 +1,6 @@
 package com.webforj.libraries.shoelace.components;
 
+import com.webforj.PendingResult;
 import com.webforj.annotation.Attribute;
 import com.webforj.annotation.JavaScript;
 import com.webforj.annotation.StyleSheet;
@@ -59,6 +60,7 @@ public final class RadioGroup extends ElementComposite implements HasComponents
   private final PropertyDescriptor<String> sizeProp = PropertyDescriptor.property("size", "medium");
   private final PropertyDescriptor<String> formProp = PropertyDescriptor.property("form", "");
   private final PropertyDescriptor<Boolean> requiredProp = PropertyDescriptor.property("required", false);
+  private OptionList optionList;
 
   /**
    * Radio group sizes available for all child radios.
@@ -178,6 +180,13 @@ public final class RadioGroup extends ElementComposite implements HasComponents
    */
   public RadioGroup setValue(String value) {
     set(valueProp, value);
+    for (com.webforj.component.Component component : getComponents()) {
+      if (component instanceof Radio radio) {
+        radio.syncGroupValue(value);
+      } else if (component instanceof RadioButton button) {
+        button.syncGroupValue(value);
+      }
+    }
     return this;
   }
 
@@ -297,23 +306,71 @@ public final class RadioGroup extends ElementComposite implements HasComponents
   }
 
   /**
-   * Check validity
+   * Shows a radio for each option of a shared list instead of individual {@link Radio} components.
+   *
+   * @param optionList the shared list, or {@code null} to remove its radios
+   * @return this instance for method chaining
+   * @see OptionList
+   */
+  public RadioGroup setOptionList(OptionList optionList) {
+    OptionList.bind(this, optionList, "sl-radio", "https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/components/radio/radio.js", false);
+    this.optionList = optionList;
+    return this;
+  }
+
+  /**
+   * Get the shared option list.
+   *
+   * @return the option list, or {@code null} if none is set
+   */
+  public OptionList getOptionList() {
+    return optionList;
+  }
+
+  /**
+   * Checks the validity of the value in the browser, and waits for the result.
+   *
+   * <p>Blocks the UI thread for a full round trip to the browser, during which
+   * the session handles no other events.</p>
    *
    * @return true if valid
+   * @deprecated Use {@link #checkValidityAsync()} instead, which does not block the UI thread
    */
+  @Deprecated
   public boolean checkValidity() {
-    // Note: Would need JavaScript interop
-    return true;
+    return ElementMethods.callForBooleanAndWait(this, "checkValidity");
+  }
+
+  /**
+   * Checks the validity of the value in the browser.
+   *
+   * @return the pending result, true if valid
+   */
+  public PendingResult<Boolean> checkValidityAsync() {
+    return ElementMethods.callForBoolean(this, "checkValidity");
   }
 
   /**
-   * Report validity
+   * Checks and reports the validity of the value in the browser, showing the validation message to the user, and waits for the result.
+   *
+   * <p>Blocks the UI thread for a full round trip to the browser, during which
+   * the session handles no other events.</p>
    *
    * @return true if valid
+   * @deprecated Use {@link #reportValidityAsync()} instead, which does not block the UI thread
    */
+  @Deprecated
   public boolean reportValidity() {
-    // Note: Would need JavaScript interop
-    return true;
+    return ElementMethods.callForBooleanAndWait(this, "reportValidity");
+  }
+
+  /**
+   * Checks and reports the validity of the value in the browser, showing the validation message to the user.
+   *
+   * @return the pending result, true if valid
+   */
+  public PendingResult<Boolean> reportValidityAsync() {
+    return ElementMethods.callForBoolean(this, "reportValidity");
   }
 
   /**
@@ -322,14 +379,14 @@ public final class RadioGroup extends ElementComposite implements HasComponents
    * @param message the validation message
    */
   public void setCustomValidity(String message) {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "setCustomValidity", message == null ? "" : message);
   }
 
   /**
    * Focus the radio group.
    */
   public void focus() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "focus");
   }
 
   /**
@@ -1,5 +1,6 @@
 package com.webforj.libraries.shoelace.components;
 
+import com.webforj.PendingResult;
 import com.webforj.annotation.Attribute;
 import com.webforj.annotation.JavaScript;
 import com.webforj.annotation.StyleSheet;
@@ -371,48 +372,74 @@ public final class Range extends ElementComposite implements HasComponents, HasS
    * Focus the range
    */
   public void focus() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "focus");
   }
 
   /**
    * Blur the range
    */
   public void blur() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "blur");
   }
 
   /**
    * Increment the value by one step
    */
   public void stepUp() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "stepUp");
   }
 
   /**
    * Decrement the value by one step
    */
   public void stepDown() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "stepDown");
   }
 
   /**
-   * Check validity
+   * Checks the validity of the value in the browser, and waits for the result.
+   *
+   * <p>Blocks the UI thread for a full round trip to the browser, during which
+   * the session handles no other events.</p>
    *
    * @return true if valid
+   * @deprecated Use {@link #checkValidityAsync()} instead, which does not block the UI thread
    */
+  @Deprecated
   public boolean checkValidity() {
-    // Note: Would need JavaScript interop
-    return true;
+    return ElementMethods.callForBooleanAndWait(this, "checkValidity");
+  }
+
+  /**
+   * Checks the validity of the value in the browser.
+   *
+   * @return the pending result, true if valid
+   */
+  public PendingResult<Boolean> checkValidityAsync() {
+    return ElementMethods.callForBoolean(this, "checkValidity");
   }
 
   /**
-   * Report validity
+   * Checks and reports the validity of the value in the browser, showing the validation message to the user, and waits for the result.
+   *
+   * <p>Blocks the UI thread for a full round trip to the browser, during which
+   * the session handles no other events.</p>
    *
    * @return true if valid
+   * @deprecated Use {@link #reportValidityAsync()} instead, which does not block the UI thread
    */
+  @Deprecated
   public boolean reportValidity() {
-    // Note: Would need JavaScript interop
-    return true;
+    return ElementMethods.callForBooleanAndWait(this, "reportValidity");
+  }
+
+  /**
+   * Checks and reports the validity of the value in the browser, showing the validation message to the user.
+   *
+   * @return the pending result, true if valid
+   */
+  public PendingResult<Boolean> reportValidityAsync() {
+    return ElementMethods.callForBoolean(this, "reportValidity");
   }
 
   /**
@@ -421,7 +448,7 @@ public final class Range extends ElementComposite implements HasComponents, HasS
    * @param message the validation message
    */
   public void setCustomValidity(String message) {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "setCustomValidity", message == null ? "" : message);
   }
 
   /**
@@ -48,7 +48,7 @@ import java.util.Map;
   attributes = {@Attribute(name = "type", value = "module")})
 @NodeName("sl-rating")
 @StyleSheet("https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/themes/light.css")
-public final class Rating extends ElementComposite implements HasComponents, HasStyle<Rating> {
+public final class Rating extends ElementComposite implements HasClientBindings, HasComponents, HasStyle<Rating> {
   private final PropertyDescriptor<String> labelProp = PropertyDescriptor.property("label", "");
   private final PropertyDescriptor<Double> valueProp = PropertyDescriptor.property("value", 0.0);
   private final PropertyDescriptor<Integer> maxProp = PropertyDescriptor.property("max", 5);
@@ -56,6 +56,8 @@ public final class Rating extends ElementComposite implements HasComponents, Has
   private final PropertyDescriptor<Boolean> readonlyProp = PropertyDescriptor.property("readonly", false);
   private final PropertyDescriptor<Boolean> disabledProp = PropertyDescriptor.property("disabled", false);
   private final PropertyDescriptor<String> getSymbolProp = PropertyDescriptor.property("get-symbol", null);
+  private final ClientBinding.Group bindings =
+      new ClientBinding.Group(this, "component.value > 0", false, () -> getValue() > 0);
 
   /**
    * Create a new Rating component.
@@ -123,6 +125,7 @@ public final class Rating extends ElementComposite implements HasComponents, Has
    */
   public Rating setValue(double value) {
     set(valueProp, value);
+    bindings.sync(value > 0);
     return this;
   }
 
@@ -214,14 +217,14 @@ public final class Rating extends ElementComposite implements HasComponents, Has
    * Focus the rating
    */
   public void focus() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "focus");
   }
 
   /**
    * Blur the rating
    */
   public void blur() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "blur");
   }
 
   /**
@@ -269,6 +272,11 @@ public final class Rating extends ElementComposite implements HasComponents, Has
     return this;
   }
 
+  @Override
+  public ClientBinding controls(ElementComposite target, ClientBinding.Property property, boolean inverted) {
+    return bindings.add(target, property, inverted);
+  }
+
   /**
    * Add a listener for the change event.
    * 
@@ -1,5 +1,6 @@
 package com.webforj.libraries.shoelace.components;
 
+import com.webforj.PendingResult;
 import com.webforj.annotation.Attribute;
 import com.webforj.annotation.JavaScript;
 import com.webforj.annotation.StyleSheet;
@@ -67,6 +68,8 @@ public final class Select extends ElementComposite implements HasComponents {
   private final PropertyDescriptor<Boolean> hoistselectProp = PropertyDescriptor.property("hoist", false);
   private final PropertyDescriptor<Boolean> filledProp = PropertyDescriptor.property("filled", false);
   private final PropertyDescriptor<Boolean> pillProp = PropertyDescriptor.property("pill", false);
+  private OptionList optionList;
+  private AsyncValidation asyncValidation;
 
   /**
    * Select sizes available for the component.
@@ -164,6 +167,9 @@ public final class Select extends ElementComposite implements HasComponents {
    */
   public Select setValue(String value) {
     set(valueProp, value);
+    if (optionList != null) {
+      OptionList.refresh(this);
+    }
     return this;
   }
 
@@ -188,6 +194,9 @@ public final class Select extends ElementComposite implements HasComponents {
    */
   public Select setValues(String... values) {
     set(valueProp, String.join(",", values));
+    if (optionList != null) {
+      OptionList.refresh(this);
+    }
     return this;
   }
 
@@ -464,6 +473,31 @@ public final class Select extends ElementComposite implements HasComponents {
     return this;
   }
 
+  /**
+   * Shows the options of a shared list instead of individual {@link Option} components.
+   * 
+   * <p>The option elements are only created when the select is about to open.
+   * Until then, only the options matching the value exist.</p>
+   *
+   * @param optionList the shared list, or {@code null} to remove its options
+   * @return this instance
+   * @see OptionList
+   */
+  public Select setOptionList(OptionList optionList) {
+    OptionList.bind(this, optionList, "sl-option", "https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/components/option/option.js", true);
+    this.optionList = optionList;
+    return this;
+  }
+
+  /**
+   * Gets the shared option list.
+   *
+   * @return the option list, or {@code null} if none is set
+   */
+  public OptionList getOptionList() {
+    return optionList;
+  }
+
   /**
    * Add an option to the select
    *
@@ -537,24 +571,69 @@ public final class Select extends ElementComposite implements HasComponents {
    * Focus the select
    */
   public void focus() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "focus");
   }
 
   /**
    * Blur the select
    */
   public void blur() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "blur");
   }
 
   /**
-   * Check validity.
+   * Checks the validity of the value in the browser, and waits for the result.
+   *
+   * <p>Blocks the UI thread for a full round trip to the browser, during which
+   * the session handles no other events.</p>
    *
    * @return true if valid
+   * @deprecated Use {@link #checkValidityAsync()} instead, which does not block the UI thread
    */
+  @Deprecated
   public boolean checkValidity() {
-    // Note: Would need JavaScript interop
-    return true;
+    return ElementMethods.callForBooleanAndWait(this, "checkValidity");
+  }
+
+  /**
+   * Checks the validity of the value in the browser.
+   *
+   * @return the pending result, true if valid
+   */
+  public PendingResult<Boolean> checkValidityAsync() {
+    return ElementMethods.callForBoolean(this, "checkValidity");
+  }
+
+  /**
+   * Checks and reports the validity of the value in the browser, showing the
+   * validation message to the user.
+   *
+   * @return the pending result, true if valid
+   */
+  public PendingResult<Boolean> reportValidityAsync() {
+    return ElementMethods.callForBoolean(this, "reportValidity");
+  }
+
+  /**
+   * Validates the value with a validator that may block, off the UI thread.
+   * 
+   * <p>The value is validated each time the selection changes.</p>
+   * 
+   * <p>Replaces the validator set before.</p>
+   * 
+   * @param validator returns the error message for an invalid value, or {@code null} to stop validating
+   * @return the validation, for further configuration, or {@code null} if the validator is {@code null}
+   * @see AsyncValidation
+   */
+  public AsyncValidation setAsyncValidator(AsyncValidator validator) {
+    if (asyncValidation != null) {
+      asyncValidation.remove();
+      asyncValidation = null;
+    }
+    if (validator != null) {
+      asyncValidation = new AsyncValidation(this, "sl-change", 0, validator, this::getHelpText);
+    }
+    return asyncValidation;
   }
 
   /**
@@ -0,0 +1,198 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A value computed once and observed by many sessions, such as the progress of a shared job.
+ *
+ * <p>The value is a {@link Flow.Publisher} that always delivers the latest
+ * value. Setting it never blocks: subscribers are notified on a virtual
+ * thread, and values set faster than a subscriber requests them are
+ * conflated. Each subscriber receives its signals one at a time, never
+ * concurrently, as Reactive Streams requires. Sessions usually observe it through {@link LiveValues}, which
+ * applies it to their components at most once per frame.</p>
+ *
+ * <pre>{@code
+ * static final SharedValue<Integer> REINDEX_PROGRESS = new SharedValue<>(0);
+ *
+ * // In the job, on any thread
+ * REINDEX_PROGRESS.set(percent);
+ *
+ * // In every view showing the job
+ * LiveValues.getCurrent().bind(progressBar, PropertyDescriptor.property("value", 0), REINDEX_PROGRESS);
+ * }</pre>
+ *
+ * @param <T> the value type
+ * @see BroadcastHub
+ * @since 1.0.0
+ */
+public final class SharedValue<T> implements Flow.Publisher<T> {
+  private final AtomicReference<T> value;
+  private final AtomicLong version = new AtomicLong();
+  private final AtomicBoolean notifying = new AtomicBoolean();
+  private final Set<ValueSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates a shared value without a value. Subscribers receive the first value set.
+   */
+  public SharedValue() {
+    this(null);
+  }
+
+  /**
+   * Creates a shared value.
+   *
+   * @param initial the initial value, delivered to new subscribers
+   */
+  public SharedValue(T initial) {
+    this.value = new AtomicReference<>(initial);
+    if (initial != null) {
+      version.incrementAndGet();
+    }
+  }
+
+  /**
+   * Sets the value and notifies the subscribers. May be called from any thread.
+   *
+   * @param newValue the value, not {@code null}
+   */
+  public void set(T newValue) {
+    if (newValue == null) {
+      throw new IllegalArgumentException("Shared values cannot be null");
+    }
+
+    value.set(newValue);
+    version.incrementAndGet();
+    notifySubscribers();
+  }
+
+  /**
+   * Gets the current value.
+   *
+   * @return the value, or {@code null} if none was set
+   */
+  public T get() {
+    return value.get();
+  }
+
+  /**
+   * Gets the number of subscribers.
+   *
+   * @return the number of subscribers
+   */
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    ValueSubscription subscription = new ValueSubscription(subscriber);
+    subscriptions.add(subscription);
+    subscriber.onSubscribe(subscription);
+  }
+
+  private void notifySubscribers() {
+    if (!notifying.compareAndSet(false, true)) {
+      return;
+    }
+
+    UiAccess.EXECUTOR.execute(() -> {
+      long seen;
+      try {
+        do {
+          seen = version.get();
+          subscriptions.forEach(ValueSubscription::deliver);
+        } while (seen != version.get());
+      } finally {
+        notifying.set(false);
+      }
+      if (seen != version.get()) {
+        notifySubscribers();
+      }
+    });
+  }
+
+  private final class ValueSubscription implements Flow.Subscription {
+    private final Flow.Subscriber<? super T> subscriber;
+    private final AtomicInteger wip = new AtomicInteger();
+    private long demand;
+    private long delivered;
+    private boolean cancelled;
+    private Throwable error;
+
+    private ValueSubscription(Flow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      synchronized (this) {
+        if (cancelled) {
+          return;
+        }
+        if (n <= 0) {
+          cancelled = true;
+          error = new IllegalArgumentException("Requested " + n + " items");
+        } else {
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+      }
+      if (n <= 0) {
+        subscriptions.remove(this);
+      }
+      deliver();
+    }
+
+    @Override
+    public void cancel() {
+      synchronized (this) {
+        cancelled = true;
+      }
+      subscriptions.remove(this);
+    }
+
+    /**
+     * Signals the subscriber from whichever thread gets here first. Callers
+     * arriving while it is busy only leave a note, and it loops once more for
+     * them, so signals are never concurrent and never reordered.
+     */
+    private void deliver() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+
+      int missed = 1;
+      while (true) {
+        T current = null;
+        Throwable failure;
+        synchronized (this) {
+          failure = error;
+          error = null;
+          long latest = version.get();
+          if (failure == null && !cancelled && demand > 0 && latest != delivered) {
+            current = value.get();
+            delivered = latest;
+            demand--;
+          }
+        }
+
+        if (failure != null) {
+          subscriber.onError(failure);
+        } else if (current != null) {
+          subscriber.onNext(current);
+        } else {
+          missed = wip.addAndGet(-missed);
+          if (missed == 0) {
+            return;
+          }
+        }
+      }
+    }
+  }
+}
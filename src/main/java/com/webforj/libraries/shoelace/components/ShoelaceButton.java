@@ -574,6 +574,17 @@ public class ShoelaceButton extends ElementComposite implements HasHtml<Shoelace
     return addEventListener(ClickEvent.class, listener);
   }
 
+  /**
+   * Runs an action in the browser when the button is clicked, without a server round trip.
+   * 
+   * @param action the action, for example {@code Actions.open(dialog)}
+   * @return the binding, to be removed when no longer needed
+   * @see Actions
+   */
+  public Action.Binding onClientClick(Action action) {
+    return action.bind(this, "click");
+  }
+
   /**
    * Adds a double-click event listener to the button.
    * 
@@ -0,0 +1,200 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.PendingResult;
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.concern.HasComponents;
+import com.webforj.concern.HasStyle;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.Map;
+
+/**
+ * A form container that reads and writes all of its Shoelace fields at once.
+ *
+ * <p>Reading a form field by field costs one round trip per field. The form
+ * instead collects the name, value and validity of every named {@link Input},
+ * {@link Select}, {@link Checkbox}, {@link Switch}, {@link RadioGroup},
+ * {@link Range}, {@link Rating}, {@link ColorPicker} and {@link Textarea}
+ * inside it with a single client call, and {@link #setValues(Map)} writes
+ * values back in a single call. Fields may be nested at any depth, for example
+ * inside layouts or cards.</p>
+ *
+ * <p>Submitting the form, by pressing Enter in a field or clicking a
+ * {@link ShoelaceButton} of type submit, does not reload the page. Instead a
+ * {@link SubmitEvent} carrying the snapshot is sent to the server, so a submit
+ * takes exactly one round trip.</p>
+ *
+ * <pre>{@code
+ * ShoelaceForm form = new ShoelaceForm();
+ * form.add(new Input("Inspector").setName("inspector"),
+ *          new Switch("Passed").setName("passed"),
+ *          new ShoelaceButton("Save").setType("submit"));
+ *
+ * form.onSubmit(event -> {
+ *   FormSnapshot snapshot = event.getSnapshot();
+ *   if (snapshot.isValid()) {
+ *     save(snapshot.toValueMap());
+ *   }
+ * });
+ * }</pre>
+ *
+ * <p>Field values are read from the browser, so components changed through
+ * {@link #setValues(Map)} report their new value in the next snapshot rather
+ * than through their own getters.</p>
+ *
+ * @since 1.0.0
+ */
+@NodeName("form")
+public class ShoelaceForm extends ElementComposite implements HasStyle<ShoelaceForm>, HasComponents {
+
+  /**
+   * Creates a new form.
+   */
+  public ShoelaceForm() {
+    super();
+    getElement().setAttribute("novalidate", "");
+    getElement().executeJsVoidAsync(CLIENT_SCRIPT);
+  }
+
+  /**
+   * Adds fields or other content to the form.
+   */
+  @Override
+  public void add(com.webforj.component.Component... components) {
+    getBoundComponent().add(components);
+  }
+
+  /**
+   * Reads the values and validity of all named fields.
+   *
+   * @return the snapshot, once the client has answered
+   */
+  public PendingResult<FormSnapshot> snapshot() {
+    return readSnapshot(false);
+  }
+
+  /**
+   * Reads the values and validity of all named fields and shows the validation
+   * messages of the invalid ones.
+   *
+   * @return the snapshot, once the client has answered
+   */
+  public PendingResult<FormSnapshot> validate() {
+    return readSnapshot(true);
+  }
+
+  /**
+   * Sets the values of the named fields in a single update. Fields not in the map keep their value.
+   *
+   * <p>Checkboxes and switches take booleans, multiple selects take a collection
+   * or a space separated string, and all other fields take their value as text
+   * or number.</p>
+   *
+   * @param values the values by field name
+   * @return this instance
+   */
+  public ShoelaceForm setValues(Map<String, ?> values) {
+    getElement().callJsFunctionVoidAsync("__slwApplyValues", Json.write(values));
+    return this;
+  }
+
+  /**
+   * Add a listener for the submit event.
+   *
+   * <p>Fired when the form is submitted.
+   *
+   * @param listener the submit event listener
+   * @return the listener registration for removal
+   */
+  public ListenerRegistration<SubmitEvent> onSubmit(EventListener<SubmitEvent> listener) {
+    return addEventListener(SubmitEvent.class, listener);
+  }
+
+  private PendingResult<FormSnapshot> readSnapshot(boolean report) {
+    return getElement().callJsFunctionAsync("__slwSnapshot", report)
+        .thenApply(json -> FormSnapshot.fromJson(String.valueOf(json)));
+  }
+
+  /**
+   * Submit event, carrying a snapshot of all fields.
+   */
+  @EventName("slw-submit")
+  @EventOptions(data = {
+    @EventOptions.EventData(key = "snapshot", exp = "event.detail")
+  })
+  public static class SubmitEvent extends ComponentEvent<ShoelaceForm> {
+    private FormSnapshot snapshot;
+
+    public SubmitEvent(ShoelaceForm component, Map<String, Object> eventData) {
+      super(component, eventData);
+    }
+
+    /**
+     * Gets the snapshot taken when the form was submitted.
+     *
+     * @return the snapshot
+     */
+    public FormSnapshot getSnapshot() {
+      if (snapshot == null) {
+        snapshot = FormSnapshot.fromJson(String.valueOf(getData().get("snapshot")));
+      }
+      return snapshot;
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "const selector = 'sl-input, sl-select, sl-checkbox, sl-switch, sl-radio-group, sl-range, " +
+    "sl-rating, sl-color-picker, sl-textarea';" +
+    "const isToggle = (el) => el.localName === 'sl-checkbox' || el.localName === 'sl-switch';" +
+    "const fields = () => Array.from(component.querySelectorAll(selector)).filter((el) => el.name);" +
+    "component.__slwSnapshot = (report) => {" +
+    "  const result = fields().map((el) => {" +
+    "    const valid = !el.validity || el.validity.valid;" +
+    "    return {" +
+    "      name: el.name," +
+    "      value: isToggle(el) ? el.checked : el.value," +
+    "      toggle: isToggle(el)," +
+    "      checkedValue: isToggle(el) ? (el.value || 'on') : null," +
+    "      valid: valid," +
+    "      message: valid ? '' : (el.validationMessage || '')" +
+    "    };" +
+    "  });" +
+    "  if (report) {" +
+    "    const invalid = fields().filter((el) => el.validity && !el.validity.valid);" +
+    "    invalid.forEach((el) => el.checkValidity());" +
+    "    if (invalid.length) invalid[0].reportValidity();" +
+    "  }" +
+    "  return JSON.stringify(result);" +
+    "};" +
+    "component.__slwApplyValues = (json) => {" +
+    "  const values = JSON.parse(json);" +
+    "  const all = fields();" +
+    "  const counts = {};" +
+    "  all.forEach((el) => { counts[el.name] = (counts[el.name] || 0) + 1; });" +
+    "  const seen = {};" +
+    "  all.forEach((el) => {" +
+    "    if (!Object.prototype.hasOwnProperty.call(values, el.name)) return;" +
+    "    const occurrence = seen[el.name] = (seen[el.name] === undefined ? 0 : seen[el.name] + 1);" +
+    "    let value = values[el.name];" +
+    // A list for a shared name holds the checked toggle values, or one value per control
+    "    if (counts[el.name] > 1 && Array.isArray(value)) {" +
+    "      if (isToggle(el)) { el.checked = value.includes(el.value || 'on'); return; }" +
+    "      value = value[occurrence];" +
+    "    }" +
+    "    if (isToggle(el)) el.checked = !!value;" +
+    "    else if (el.localName === 'sl-select' && el.multiple) " +
+    "      el.value = Array.isArray(value) ? value : String(value == null ? '' : value).split(' ').filter(Boolean);" +
+    "    else if (el.localName === 'sl-range' || el.localName === 'sl-rating') el.value = Number(value) || 0;" +
+    "    else el.value = value == null ? '' : String(value);" +
+    "  });" +
+    "};" +
+    "component.addEventListener('submit', (e) => {" +
+    "  e.preventDefault();" +
+    "  component.dispatchEvent(new CustomEvent('slw-submit', {detail: component.__slwSnapshot(false)}));" +
+    "});";
+}
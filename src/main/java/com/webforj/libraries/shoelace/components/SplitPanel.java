@@ -5,12 +5,31 @@ import com.webforj.annotation.JavaScript;
 import com.webforj.annotation.StyleSheet;
 import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
 import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.event.ComponentEvent;
 import com.webforj.concern.HasComponents;
 import com.webforj.concern.HasStyle;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.Map;
 
 /**
  * Split Panel component for resizable panels
+ *
+ * <p>The position is reported to the server with a {@link RepositionEvent},
+ * as often as the {@link RepositionMode} allows. By default it is sent once
+ * when the user releases the divider rather than for every pointer move, so
+ * panels with costly content, such as charts, are not re-rendered on every
+ * pixel. {@link #getPosition()} and {@link #getPositionInPixels()} return the
+ * last reported position without asking the browser.</p>
+ *
+ * <pre>{@code
+ * SplitPanel split = new SplitPanel().setRepositionMode(SplitPanel.RepositionMode.throttled(200));
+ * split.onReposition(e -> chart.resize(e.getPositionInPixels()));
+ * }</pre>
  */
 @JavaScript(
   value = "https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/components/split-panel/split-panel.js",
@@ -25,6 +44,9 @@ public final class SplitPanel extends ElementComposite implements HasComponents,
   private final PropertyDescriptor<String> PRIMARY = PropertyDescriptor.property("primary", null);
   private final PropertyDescriptor<String> SNAP = PropertyDescriptor.property("snap", null);
   private final PropertyDescriptor<Integer> SNAP_THRESHOLD = PropertyDescriptor.property("snap-threshold", 12);
+  private double position = 50.0;
+  private Double positionInPixels;
+  private RepositionMode repositionMode = RepositionMode.DRAG_END;
 
   /**
    * Primary panel options
@@ -44,20 +66,62 @@ public final class SplitPanel extends ElementComposite implements HasComponents,
     }
   }
 
+  /**
+   * How often a moving divider reports its position to the server
+   */
+  public static final class RepositionMode {
+    /** Once when the user releases the divider, and after other changes settle */
+    public static final RepositionMode DRAG_END = new RepositionMode("drag-end", 100);
+    /** At most once per animation frame */
+    public static final RepositionMode EVERY_FRAME = new RepositionMode("frame", 0);
+
+    private final String value;
+    private final int interval;
+
+    private RepositionMode(String value, int interval) {
+      this.value = value;
+      this.interval = interval;
+    }
+
+    /**
+     * At most once per interval while the divider moves, and once more with the final position
+     *
+     * @param millis the interval in milliseconds
+     * @return the mode
+     */
+    public static RepositionMode throttled(int millis) {
+      return new RepositionMode("throttled", Math.max(0, millis));
+    }
+
+    public String getValue() {
+      return value;
+    }
+
+    public int getInterval() {
+      return interval;
+    }
+  }
+
   /**
    * Create a new SplitPanel
    */
   public SplitPanel() {
     super();
+    getElement().executeJsVoidAsync(CLIENT_SCRIPT);
+    addEventListener(RepositionEvent.class, e -> {
+      position = e.getPosition();
+      positionInPixels = e.getPositionInPixels();
+    });
   }
 
   /**
-   * Get the position percentage
+   * Get the position percentage, as last reported by the browser or set on the server
    *
-   * @return the position (0-100)
+   * @return the position (0-100), or {@code NaN} after setting the position in pixels
+   *     until the browser reports it
    */
   public double getPosition() {
-    return get(POSITION);
+    return position;
   }
 
   /**
@@ -67,17 +131,21 @@ public final class SplitPanel extends ElementComposite implements HasComponents,
    * @return this instance
    */
   public SplitPanel setPosition(double position) {
+    this.position = position;
+    // The browser computes the other unit and reports it with the next reposition event
+    this.positionInPixels = null;
     set(POSITION, position);
     return this;
   }
 
   /**
-   * Get the position in pixels
+   * Get the position in pixels, as last reported by the browser or set on the server
    *
-   * @return the position in pixels
+   * @return the position in pixels, or null if not known yet, such as after
+   *     setting the position percentage until the browser reports it
    */
   public Double getPositionInPixels() {
-    return get(POSITION_IN_PIXELS);
+    return positionInPixels;
   }
 
   /**
@@ -87,10 +155,45 @@ public final class SplitPanel extends ElementComposite implements HasComponents,
    * @return this instance
    */
   public SplitPanel setPositionInPixels(double pixels) {
+    this.positionInPixels = pixels;
+    this.position = Double.NaN;
     set(POSITION_IN_PIXELS, pixels);
     return this;
   }
 
+  /**
+   * Set how often the position is reported while the divider moves
+   *
+   * @param mode the mode (default: {@link RepositionMode#DRAG_END})
+   * @return this instance
+   */
+  public SplitPanel setRepositionMode(RepositionMode mode) {
+    this.repositionMode = mode;
+    getElement().callJsFunctionVoidAsync("__slwSetRepositionMode", mode.getValue(), mode.getInterval());
+    return this;
+  }
+
+  /**
+   * Get how often the position is reported while the divider moves
+   *
+   * @return the mode
+   */
+  public RepositionMode getRepositionMode() {
+    return repositionMode;
+  }
+
+  /**
+   * Add a listener for the reposition event.
+   *
+   * <p>Fired when the divider has moved, as often as the {@link RepositionMode} allows.
+   *
+   * @param listener the reposition event listener
+   * @return the listener registration for removal
+   */
+  public ListenerRegistration<RepositionEvent> onReposition(EventListener<RepositionEvent> listener) {
+    return addEventListener(RepositionEvent.class, listener);
+  }
+
   /**
    * Check if the split panel is vertical
    *
@@ -285,4 +388,85 @@ public final class SplitPanel extends ElementComposite implements HasComponents,
   public static SplitPanel vertical() {
     return new SplitPanel().setVertical(true);
   }
-}
\ No newline at end of file
+
+  /**
+   * Reposition event, carrying the new position of the divider.
+   */
+  @EventName("slw-reposition")
+  @EventOptions(data = {
+    @EventOptions.EventData(key = "position", exp = "event.detail.position"),
+    @EventOptions.EventData(key = "positionInPixels", exp = "event.detail.positionInPixels")
+  })
+  public static class RepositionEvent extends ComponentEvent<SplitPanel> {
+    public RepositionEvent(SplitPanel component, Map<String, Object> eventData) {
+      super(component, eventData);
+    }
+
+    /**
+     * Get the position percentage.
+     *
+     * @return the position (0-100)
+     */
+    public double getPosition() {
+      Object value = getEventMap().get("position");
+      return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    /**
+     * Get the position in pixels.
+     *
+     * @return the position in pixels
+     */
+    public double getPositionInPixels() {
+      Object value = getEventMap().get("positionInPixels");
+      return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "if (!component.__slwReposition) {" +
+    "  const state = component.__slwReposition = { mode: 'drag-end', interval: 100, last: 0, timer: null, frame: null, dragging: false, pending: false };" +
+    "  const send = () => {" +
+    "    clearTimeout(state.timer);" +
+    "    cancelAnimationFrame(state.frame);" +
+    "    state.timer = state.frame = null;" +
+    "    state.pending = false;" +
+    "    state.last = performance.now();" +
+    "    component.dispatchEvent(new CustomEvent('slw-reposition', {" +
+    "      detail: { position: component.position, positionInPixels: component.positionInPixels }" +
+    "    }));" +
+    "  };" +
+    "  const later = (delay) => {" +
+    "    clearTimeout(state.timer);" +
+    "    state.timer = setTimeout(send, delay);" +
+    "  };" +
+    "  component.addEventListener('sl-reposition', (event) => {" +
+    "    if (event.target !== component) return;" +
+    "    state.pending = true;" +
+    "    if (state.mode === 'frame') {" +
+    "      if (!state.frame) state.frame = requestAnimationFrame(send);" +
+    "    } else if (state.mode === 'throttled') {" +
+    "      const wait = state.last + state.interval - performance.now();" +
+    "      if (wait <= 0) send(); else if (!state.timer) later(wait);" +
+    "    } else if (!state.dragging) {" +
+    "      later(state.interval);" +
+    "    }" +
+    "  });" +
+    "  component.addEventListener('pointerdown', (event) => {" +
+    "    if (!event.composedPath().some((el) => el.part && el.part.contains('divider'))) return;" +
+    "    state.dragging = true;" +
+    "    const end = () => {" +
+    "      document.removeEventListener('pointerup', end);" +
+    "      document.removeEventListener('pointercancel', end);" +
+    "      state.dragging = false;" +
+    "      if (state.pending) send();" +
+    "    };" +
+    "    document.addEventListener('pointerup', end);" +
+    "    document.addEventListener('pointercancel', end);" +
+    "  });" +
+    "  component.__slwSetRepositionMode = (mode, interval) => {" +
+    "    state.mode = mode;" +
+    "    state.interval = interval;" +
+    "  };" +
+    "}";
+}
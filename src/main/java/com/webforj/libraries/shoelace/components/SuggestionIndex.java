@@ -0,0 +1,456 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory prefix index answering top-K suggestion queries.
+ *
+ * <p>Every word start of every label is stored in one sorted array as a pair of
+ * the suggestion and the offset of the word in its label, so the index holds
+ * no copies of the label text. A query is a binary
+ * search for the prefix range followed by a bounded top-K selection by weight,
+ * so lookups take microseconds and never touch the data source. The top
+ * results for all one and two character prefixes are precomputed, because
+ * those ranges are the largest, and longer prefixes that still match many
+ * keys are cached the first time they are queried.</p>
+ *
+ * <p>The index is immutable between updates. {@link #refresh()} reloads it from
+ * the supplier, and {@link #update(Collection, Collection)} merges the sorted
+ * word starts of changed suggestions into the existing array and recomputes
+ * only the precomputed prefixes they touch. Both swap in a new snapshot
+ * atomically, so queries can run concurrently from any session.</p>
+ *
+ * <pre>{@code
+ * SuggestionIndex products = new SuggestionIndex(() -> repository.findAll().stream()
+ *     .map(p -> new SuggestionIndex.Suggestion(p.getCode(), p.getCode() + " " + p.getName(), p.getSales()))
+ *     .toList());
+ *
+ * products.query("ab-1", 8);
+ * }</pre>
+ *
+ * @see Autocomplete
+ * @since 1.0.0
+ */
+public final class SuggestionIndex {
+  private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+  private static final int PRECOMPUTED_RESULTS = 32;
+  private static final int CACHED_RANGE_THRESHOLD = 1024;
+  private static final int MAX_CACHED_PREFIXES = 4096;
+
+  /**
+   * A suggestion.
+   *
+   * @param value the value put into the input when the suggestion is chosen, also its identity
+   * @param label the text shown and searched
+   * @param weight the ranking weight, higher values are suggested first
+   */
+  public record Suggestion(String value, String label, double weight) {
+    /**
+     * Creates a suggestion whose label is its value.
+     *
+     * @param value the value and label
+     */
+    public Suggestion(String value) {
+      this(value, value, 0);
+    }
+  }
+
+  /**
+   * The searchable state. Removed suggestions leave a {@code null} slot until
+   * the next compaction, so the ids of the other suggestions stay stable
+   * across updates. Each entry packs a suggestion id in its upper and the
+   * offset of a word start in its lower 32 bits, sorted by the label text from
+   * that offset on.
+   */
+  private record Snapshot(Suggestion[] suggestions, String[] labels, int live, long[] entries,
+      Map<String, int[]> precomputed) {
+  }
+
+  private final Supplier<? extends Collection<Suggestion>> loader;
+  private final Map<String, Integer> ids = new HashMap<>();
+  private volatile Snapshot snapshot;
+
+  /**
+   * Creates an index and loads it from the supplier.
+   *
+   * @param loader supplies all suggestions, called now and on every {@link #refresh()}
+   */
+  public SuggestionIndex(Supplier<? extends Collection<Suggestion>> loader) {
+    this.loader = loader;
+    refresh();
+  }
+
+  /**
+   * Reloads all suggestions from the supplier.
+   */
+  public synchronized void refresh() {
+    snapshot = build(loader.get());
+  }
+
+  /**
+   * Applies changes without reloading from the supplier.
+   *
+   * @param upserts suggestions to add, replacing existing ones with the same value
+   * @param removals values of suggestions to remove
+   */
+  public synchronized void update(Collection<Suggestion> upserts, Collection<String> removals) {
+    Snapshot current = snapshot;
+    int first = current.suggestions().length;
+    Suggestion[] suggestions = Arrays.copyOf(current.suggestions(), first + upserts.size());
+    String[] labels = Arrays.copyOf(current.labels(), first + upserts.size());
+    Set<Integer> removed = new HashSet<>();
+    Set<String> touched = new HashSet<>();
+    int live = current.live();
+
+    for (String value : removals) {
+      Integer id = ids.remove(value);
+      if (id != null) {
+        remove(suggestions, labels, id, removed, touched);
+        live--;
+      }
+    }
+
+    int next = first;
+    for (Suggestion suggestion : upserts) {
+      Integer previous = ids.put(suggestion.value(), next);
+      if (previous != null) {
+        remove(suggestions, labels, previous, removed, touched);
+        live--;
+      }
+      suggestions[next] = suggestion;
+      labels[next] = normalize(suggestion.label());
+      addPrefixes(labels[next], touched);
+      live++;
+      next++;
+    }
+
+    long[] added = entriesOf(labels, first, next);
+    sort(added, labels);
+    Map<String, int[]> precomputed = new ConcurrentHashMap<>();
+    current.precomputed().forEach((prefix, top) -> {
+      if (prefix.length() <= PRECOMPUTED_PREFIX_LENGTH && !touched.contains(prefix)) {
+        precomputed.put(prefix, top);
+      }
+    });
+
+    Snapshot updated = new Snapshot(suggestions, labels, live, merge(current.entries(), added, removed, labels), precomputed);
+    if (suggestions.length - live > Math.max(live, 1024)) {
+      snapshot = compact(updated);
+      return;
+    }
+
+    for (String prefix : touched) {
+      precompute(updated, prefix);
+    }
+    snapshot = updated;
+  }
+
+  /**
+   * Gets the number of suggestions in the index.
+   *
+   * @return the size
+   */
+  public int size() {
+    return snapshot.live();
+  }
+
+  /**
+   * Finds the best suggestions having a word that starts with the query, ignoring case.
+   *
+   * @param query the text typed so far
+   * @param limit the maximum number of results
+   * @return the suggestions, highest weight first
+   */
+  public List<Suggestion> query(String query, int limit) {
+    Snapshot current = snapshot;
+    String prefix = normalize(query).trim();
+    if (prefix.isEmpty() || limit <= 0) {
+      return Collections.emptyList();
+    }
+
+    int[] cached = current.precomputed().get(prefix);
+    if (cached != null && (limit <= cached.length || cached.length < PRECOMPUTED_RESULTS)) {
+      List<Suggestion> results = new ArrayList<>(Math.min(limit, cached.length));
+      for (int i = 0; i < cached.length && i < limit; i++) {
+        results.add(current.suggestions()[cached[i]]);
+      }
+      return results;
+    }
+
+    int from = lowerBound(current, prefix);
+    int to = upperBound(current, prefix, from);
+    if (to - from < CACHED_RANGE_THRESHOLD || limit > PRECOMPUTED_RESULTS) {
+      return toSuggestions(current, topK(current, from, to, limit));
+    }
+
+    int[] top = topK(current, from, to, PRECOMPUTED_RESULTS);
+    if (current.precomputed().size() < MAX_CACHED_PREFIXES) {
+      current.precomputed().put(prefix, top);
+    }
+    return toSuggestions(current, Arrays.copyOf(top, Math.min(limit, top.length)));
+  }
+
+  private static int[] topK(Snapshot current, int from, int to, int limit) {
+    Suggestion[] suggestions = current.suggestions();
+    long[] entries = current.entries();
+    PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1,
+        (a, b) -> Double.compare(suggestions[a].weight(), suggestions[b].weight()));
+    // A suggestion with several matching words is only added once. One that
+    // was dropped from the queue cannot come back, as its weight is at most
+    // the lowest weight kept.
+    Set<Integer> inBest = new HashSet<>(limit * 2);
+    for (int i = from; i < to; i++) {
+      int owner = ownerOf(entries[i]);
+      if (inBest.contains(owner)) {
+        continue;
+      }
+
+      if (best.size() < limit) {
+        best.add(owner);
+        inBest.add(owner);
+      } else if (suggestions[owner].weight() > suggestions[best.peek()].weight()) {
+        inBest.remove(best.poll());
+        best.add(owner);
+        inBest.add(owner);
+      }
+    }
+
+    int[] result = new int[best.size()];
+    for (int i = result.length - 1; i >= 0; i--) {
+      result[i] = best.poll();
+    }
+    return result;
+  }
+
+  private static List<Suggestion> toSuggestions(Snapshot current, int[] indexes) {
+    List<Suggestion> results = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      results.add(current.suggestions()[index]);
+    }
+    return results;
+  }
+
+  private Snapshot build(Collection<Suggestion> source) {
+    Suggestion[] suggestions = source.toArray(new Suggestion[0]);
+    String[] labels = new String[suggestions.length];
+    ids.clear();
+    int live = 0;
+    for (int i = 0; i < suggestions.length; i++) {
+      Integer previous = ids.put(suggestions[i].value(), i);
+      if (previous != null) {
+        suggestions[previous] = null;
+        labels[previous] = null;
+        live--;
+      }
+      labels[i] = normalize(suggestions[i].label());
+      live++;
+    }
+
+    long[] entries = entriesOf(labels, 0, labels.length);
+    sort(entries, labels);
+    Snapshot snapshot = new Snapshot(suggestions, labels, live, entries, new ConcurrentHashMap<>());
+    Set<String> prefixes = new HashSet<>();
+    for (String label : labels) {
+      addPrefixes(label, prefixes);
+    }
+    for (String prefix : prefixes) {
+      precompute(snapshot, prefix);
+    }
+    return snapshot;
+  }
+
+  private Snapshot compact(Snapshot current) {
+    List<Suggestion> live = new ArrayList<>(current.live());
+    for (Suggestion suggestion : current.suggestions()) {
+      if (suggestion != null) {
+        live.add(suggestion);
+      }
+    }
+    return build(live);
+  }
+
+  private static void remove(Suggestion[] suggestions, String[] labels, int id, Set<Integer> removed,
+      Set<String> touched) {
+    addPrefixes(labels[id], touched);
+    suggestions[id] = null;
+    labels[id] = null;
+    removed.add(id);
+  }
+
+  private static void precompute(Snapshot snapshot, String prefix) {
+    int from = lowerBound(snapshot, prefix);
+    int to = upperBound(snapshot, prefix, from);
+    if (to > from) {
+      snapshot.precomputed().put(prefix, topK(snapshot, from, to, PRECOMPUTED_RESULTS));
+    }
+  }
+
+  /**
+   * Collects the precomputed prefixes of all word starts of a label.
+   */
+  private static void addPrefixes(String label, Set<String> prefixes) {
+    if (label == null) {
+      return;
+    }
+    for (int start = 0; start < label.length(); start++) {
+      if (isWordStart(label, start)) {
+        for (int length = 1; length <= PRECOMPUTED_PREFIX_LENGTH && start + length <= label.length(); length++) {
+          prefixes.add(label.substring(start, start + length));
+        }
+      }
+    }
+  }
+
+  private static long[] entriesOf(String[] labels, int from, int to) {
+    long[] entries = new long[16];
+    int size = 0;
+    for (int id = from; id < to; id++) {
+      String label = labels[id];
+      if (label == null) {
+        continue;
+      }
+      for (int start = 0; start < label.length(); start++) {
+        if (isWordStart(label, start)) {
+          if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+          }
+          entries[size++] = ((long) id << 32) | start;
+        }
+      }
+    }
+    return Arrays.copyOf(entries, size);
+  }
+
+  private static long[] merge(long[] existing, long[] added, Set<Integer> removed, String[] labels) {
+    long[] merged = new long[existing.length + added.length];
+    int size = 0;
+    int j = 0;
+    for (long entry : existing) {
+      if (removed.contains(ownerOf(entry))) {
+        continue;
+      }
+      while (j < added.length && compare(added[j], entry, labels) < 0) {
+        merged[size++] = added[j++];
+      }
+      merged[size++] = entry;
+    }
+    while (j < added.length) {
+      merged[size++] = added[j++];
+    }
+    return size == merged.length ? merged : Arrays.copyOf(merged, size);
+  }
+
+  private static void sort(long[] entries, String[] labels) {
+    long[] buffer = new long[entries.length];
+    for (int width = 1; width < entries.length; width *= 2) {
+      for (int low = 0; low < entries.length - width; low += 2 * width) {
+        int mid = low + width;
+        int high = Math.min(low + 2 * width, entries.length);
+        int i = low;
+        int j = mid;
+        int k = low;
+        while (i < mid && j < high) {
+          buffer[k++] = compare(entries[j], entries[i], labels) < 0 ? entries[j++] : entries[i++];
+        }
+        while (i < mid) {
+          buffer[k++] = entries[i++];
+        }
+        while (j < high) {
+          buffer[k++] = entries[j++];
+        }
+        System.arraycopy(buffer, low, entries, low, high - low);
+      }
+    }
+  }
+
+  private static int compare(long a, long b, String[] labels) {
+    String left = labels[ownerOf(a)];
+    String right = labels[ownerOf(b)];
+    int i = offsetOf(a);
+    int j = offsetOf(b);
+    while (i < left.length() && j < right.length()) {
+      char x = left.charAt(i++);
+      char y = right.charAt(j++);
+      if (x != y) {
+        return x - y;
+      }
+    }
+    return (left.length() - i) - (right.length() - j);
+  }
+
+  /**
+   * Compares the text of an entry to a prefix, treating a text that starts with the prefix as equal.
+   */
+  private static int compareToPrefix(long entry, String prefix, String[] labels) {
+    String label = labels[ownerOf(entry)];
+    int offset = offsetOf(entry);
+    int length = Math.min(label.length() - offset, prefix.length());
+    for (int i = 0; i < length; i++) {
+      char x = label.charAt(offset + i);
+      char y = prefix.charAt(i);
+      if (x != y) {
+        return x - y;
+      }
+    }
+    return label.length() - offset < prefix.length() ? -1 : 0;
+  }
+
+  private static int lowerBound(Snapshot snapshot, String prefix) {
+    long[] entries = snapshot.entries();
+    int low = 0;
+    int high = entries.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compareToPrefix(entries[mid], prefix, snapshot.labels()) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static int upperBound(Snapshot snapshot, String prefix, int from) {
+    long[] entries = snapshot.entries();
+    int low = from;
+    int high = entries.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compareToPrefix(entries[mid], prefix, snapshot.labels()) == 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static boolean isWordStart(String label, int start) {
+    return Character.isLetterOrDigit(label.charAt(start))
+        && (start == 0 || !Character.isLetterOrDigit(label.charAt(start - 1)));
+  }
+
+  private static int ownerOf(long entry) {
+    return (int) (entry >>> 32);
+  }
+
+  private static int offsetOf(long entry) {
+    return (int) entry;
+  }
+
+  private static String normalize(String text) {
+    return text == null ? "" : text.toLowerCase(Locale.ROOT);
+  }
+}
@@ -44,7 +44,7 @@ import java.util.Map;
   attributes = {@Attribute(name = "type", value = "module")})
 @NodeName("sl-switch")
 @StyleSheet("https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/themes/light.css")
-public final class Switch extends ElementComposite implements HasHtml<Switch> {
+public final class Switch extends ElementComposite implements HasClientBindings, HasHtml<Switch> {
   private final PropertyDescriptor<Boolean> checkedProp = PropertyDescriptor.property("checked", false);
   private final PropertyDescriptor<Boolean> disabledProp = PropertyDescriptor.property("disabled", false);
   private final PropertyDescriptor<String> sizeProp = PropertyDescriptor.property("size", "medium");
@@ -52,6 +52,8 @@ public final class Switch extends ElementComposite implements HasHtml<Switch> {
   private final PropertyDescriptor<String> nameProp = PropertyDescriptor.property("name", "");
   private final PropertyDescriptor<String> valueProp = PropertyDescriptor.property("value", "on");
   private final PropertyDescriptor<Boolean> requiredProp = PropertyDescriptor.property("required", false);
+  private final ClientBinding.Group bindings =
+      new ClientBinding.Group(this, "component.checked", false, this::isChecked);
 
   /**
    * Switch sizes available for the component.
@@ -121,6 +123,7 @@ public final class Switch extends ElementComposite implements HasHtml<Switch> {
    */
   public Switch setChecked(boolean checked) {
     set(checkedProp, checked);
+    bindings.sync(checked);
     return this;
   }
 
@@ -259,14 +262,19 @@ public final class Switch extends ElementComposite implements HasHtml<Switch> {
    * Focus the switch programmatically.
    */
   public void focus() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "focus");
   }
 
   /**
    * Remove focus from the switch programmatically.
    */
   public void blur() {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "blur");
+  }
+
+  @Override
+  public ClientBinding controls(ElementComposite target, ClientBinding.Property property, boolean inverted) {
+    return bindings.add(target, property, inverted);
   }
 
   /**
@@ -240,7 +240,7 @@ public final class TabGroup extends ElementComposite implements HasComponents, H
    * @param panel the panel name to show
    */
   public void show(String panel) {
-    // Note: Would need JavaScript interop
+    ElementMethods.call(this, "show", panel);
   }
 
   /**
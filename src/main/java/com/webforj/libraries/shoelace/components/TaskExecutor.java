@@ -0,0 +1,457 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.Component;
+import com.webforj.component.ComponentLifecycleObserver;
+import com.webforj.environment.ObjectTable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Runs background tasks of a session on virtual threads, with a bound on how many run at once.
+ *
+ * <p>Tasks never touch components themselves. Their outcome is passed to
+ * callbacks on the UI thread through {@link UiAccess}, and intermediate
+ * updates can be sent with {@link Context#access(Runnable)}. Tasks beyond
+ * {@link #setMaxConcurrency(int)} wait in a queue, so a burst of clicks in one
+ * session cannot start an unbounded number of threads.</p>
+ *
+ * <p>A task can be tied to a component with {@link Task#cancelWith(Component)},
+ * which cancels it when the component, typically the view, is destroyed. The
+ * loading state of a {@link ShoelaceButton}, {@link MenuItem},
+ * {@link Spinner} or {@link ProgressBar} can be bound to a task and is reset
+ * when the task ends, however it ends.</p>
+ *
+ * <pre>{@code
+ * TaskExecutor.getCurrent()
+ *     .submit(() -> invoiceService.send(invoice))
+ *     .cancelWith(this)
+ *     .bindLoading(sendButton)
+ *     .onSuccess(receipt -> status.setText("Sent " + receipt.getNumber()))
+ *     .onError(error -> status.setText("Failed: " + error.getMessage()));
+ * }</pre>
+ *
+ * <p>There is one executor per session, obtained with {@link #getCurrent()}
+ * from the UI thread. All methods must be called on the UI thread, except
+ * those of {@link Context}.</p>
+ *
+ * @since 1.0.0
+ */
+public final class TaskExecutor {
+  private static final String KEY = TaskExecutor.class.getName();
+
+  /**
+   * Work that receives a {@link Context} to interact with the UI while it runs.
+   *
+   * @param <T> the result type
+   */
+  @FunctionalInterface
+  public interface Work<T> {
+
+    /**
+     * Runs the work. Called on a virtual thread.
+     *
+     * @param context the context of the task
+     * @return the result
+     * @throws Exception if the work failed
+     */
+    T run(Context context) throws Exception;
+  }
+
+  /**
+   * Gives running work access to its task. Its methods other than
+   * {@link #access(Runnable)} may be called from any thread.
+   */
+  public static final class Context {
+    private final UiAccess access;
+    private final ProgressTracker progress = new ProgressTracker();
+    private volatile boolean cancelled;
+
+    private Context(UiAccess access) {
+      this.access = access;
+    }
+
+    /**
+     * Runs an update on the UI thread. Must be called on the thread running the
+     * work, as described in {@link UiAccess#access(Runnable)}.
+     *
+     * @param update the update
+     * @throws IllegalStateException if called from another thread
+     */
+    public void access(Runnable update) {
+      access.access(() -> {
+        if (!cancelled) {
+          update.run();
+        }
+      });
+    }
+
+    /**
+     * Gets the tracker to report the progress of the work to. Components bound
+     * with {@link Task#bindProgress(ProgressBar)} show it. The tracker is
+     * completed or cancelled together with the task.
+     *
+     * @return the tracker
+     */
+    public ProgressTracker getProgress() {
+      return progress;
+    }
+
+    /**
+     * Checks whether the task was cancelled. Long loops should stop when it was.
+     *
+     * @return true if cancelled
+     */
+    public boolean isCancelled() {
+      return cancelled || Thread.currentThread().isInterrupted();
+    }
+  }
+
+  /**
+   * A submitted task.
+   *
+   * @param <T> the result type
+   */
+  public static final class Task<T> {
+    private final TaskExecutor executor;
+    private final Work<T> work;
+    private final Context context;
+    private final List<BiConsumer<? super T, Throwable>> callbacks = new ArrayList<>();
+    private final List<Consumer<Boolean>> bindings = new ArrayList<>();
+    private final Map<Component, ComponentLifecycleObserver> owners = new IdentityHashMap<>();
+    private Future<T> future;
+    private boolean done;
+
+    private Task(TaskExecutor executor, Work<T> work) {
+      this.executor = executor;
+      this.work = work;
+      this.context = new Context(executor.access);
+    }
+
+    /**
+     * Adds a callback receiving the outcome on the UI thread. Not called when the task is cancelled.
+     *
+     * @param callback receives the result and {@code null}, or {@code null} and the exception
+     * @return this instance
+     */
+    public Task<T> whenComplete(BiConsumer<? super T, Throwable> callback) {
+      callbacks.add(callback);
+      return this;
+    }
+
+    /**
+     * Adds a callback receiving the result on the UI thread when the task succeeds.
+     *
+     * @param callback receives the result
+     * @return this instance
+     */
+    public Task<T> onSuccess(Consumer<? super T> callback) {
+      return whenComplete((result, error) -> {
+        if (error == null) {
+          callback.accept(result);
+        }
+      });
+    }
+
+    /**
+     * Adds a callback receiving the exception on the UI thread when the task fails.
+     *
+     * @param callback receives the exception
+     * @return this instance
+     */
+    public Task<T> onError(Consumer<? super Throwable> callback) {
+      return whenComplete((result, error) -> {
+        if (error != null) {
+          callback.accept(error);
+        }
+      });
+    }
+
+    /**
+     * Cancels the task when the component is destroyed. The component is
+     * released once the task is done.
+     *
+     * @param owner the component, typically the view starting the task
+     * @return this instance
+     */
+    public Task<T> cancelWith(Component owner) {
+      if (done || owners.containsKey(owner)) {
+        return this;
+      }
+
+      ComponentLifecycleObserver observer = (component, event) -> {
+        if (event == ComponentLifecycleObserver.LifecycleEvent.DESTROY) {
+          cancel();
+        }
+      };
+      owners.put(owner, observer);
+      owner.addLifecycleObserver(observer);
+      return this;
+    }
+
+    /**
+     * Shows the loading state of the button while the task is queued or running.
+     *
+     * @param button the button
+     * @return this instance
+     */
+    public Task<T> bindLoading(ShoelaceButton button) {
+      return bind(button::setLoading);
+    }
+
+    /**
+     * Shows the loading state of the menu item while the task is queued or running.
+     *
+     * @param item the menu item
+     * @return this instance
+     */
+    public Task<T> bindLoading(MenuItem item) {
+      return bind(item::setLoading);
+    }
+
+    /**
+     * Shows the spinner only while the task is queued or running.
+     *
+     * @param spinner the spinner
+     * @return this instance
+     */
+    public Task<T> bindLoading(Spinner spinner) {
+      return bind(running -> spinner.setStyle("visibility", running ? "visible" : "hidden"));
+    }
+
+    /**
+     * Makes the progress bar indeterminate while the task is queued or running.
+     *
+     * @param bar the progress bar
+     * @return this instance
+     */
+    public Task<T> bindLoading(ProgressBar bar) {
+      return bind(bar::setIndeterminate);
+    }
+
+    /**
+     * Shows the progress the work reports to {@link Context#getProgress()} on a progress bar.
+     *
+     * @param bar the progress bar
+     * @return this instance
+     */
+    public Task<T> bindProgress(ProgressBar bar) {
+      context.progress.bind(bar);
+      return this;
+    }
+
+    /**
+     * Shows the progress the work reports to {@link Context#getProgress()} on a progress ring.
+     *
+     * @param ring the progress ring
+     * @return this instance
+     */
+    public Task<T> bindProgress(ProgressRing ring) {
+      context.progress.bind(ring);
+      return this;
+    }
+
+    /**
+     * Adds a binding called with {@code true} now, unless the task is already
+     * done, and with {@code false} when the task ends.
+     *
+     * @param binding receives whether the task is queued or running
+     * @return this instance
+     */
+    public Task<T> bind(Consumer<Boolean> binding) {
+      if (!done) {
+        bindings.add(binding);
+        binding.accept(true);
+      }
+      return this;
+    }
+
+    /**
+     * Cancels the task, interrupting it if it is running. Its bindings are reset
+     * at once, but a running task keeps counting towards the maximum concurrency
+     * until its thread has actually ended.
+     */
+    public void cancel() {
+      if (done) {
+        return;
+      }
+
+      context.cancelled = true;
+      if (future != null) {
+        future.cancel(true);
+      }
+      executor.finish(this);
+    }
+
+    /**
+     * Checks whether the task has ended, by completing or by being cancelled.
+     *
+     * @return true if done
+     */
+    public boolean isDone() {
+      return done;
+    }
+
+    /**
+     * Checks whether the task was cancelled.
+     *
+     * @return true if cancelled
+     */
+    public boolean isCancelled() {
+      return context.cancelled;
+    }
+
+    /**
+     * Checks whether the task is running, as opposed to waiting in the queue.
+     *
+     * @return true if running
+     */
+    public boolean isRunning() {
+      return future != null && !done;
+    }
+
+    private void start() {
+      future = executor.access.runAsync(() -> work.run(context), (result, error) -> {
+        if (error != null) {
+          context.progress.cancel();
+        }
+        executor.finish(this);
+        for (BiConsumer<? super T, Throwable> callback : callbacks) {
+          callback.accept(result, error);
+        }
+      }, executor::exited);
+    }
+  }
+
+  private final UiAccess access;
+  private final Deque<Task<?>> queued = new ArrayDeque<>();
+  private int running;
+  private int maxConcurrency = 16;
+
+  private TaskExecutor(UiAccess access) {
+    this.access = access;
+  }
+
+  /**
+   * Gets the executor of the current session. Must be called on the UI thread.
+   *
+   * @return the executor
+   */
+  public static TaskExecutor getCurrent() {
+    if (ObjectTable.contains(KEY)) {
+      return (TaskExecutor) ObjectTable.get(KEY);
+    }
+
+    TaskExecutor executor = new TaskExecutor(UiAccess.getCurrent());
+    ObjectTable.put(KEY, executor);
+    return executor;
+  }
+
+  /**
+   * Submits blocking work.
+   *
+   * @param <T> the result type
+   * @param work the work, run on a virtual thread
+   * @return the task
+   */
+  public <T> Task<T> submit(Callable<T> work) {
+    return submit(context -> work.call());
+  }
+
+  /**
+   * Submits blocking work that interacts with the UI while it runs.
+   *
+   * @param <T> the result type
+   * @param work the work, run on a virtual thread
+   * @return the task
+   */
+  public <T> Task<T> submit(Work<T> work) {
+    Task<T> task = new Task<>(this, work);
+    if (running < maxConcurrency) {
+      running++;
+      task.start();
+    } else {
+      queued.add(task);
+    }
+    return task;
+  }
+
+  /**
+   * Sets how many tasks of the session run at once. Further tasks wait in a queue.
+   *
+   * @param maxConcurrency the number of tasks (default: 16)
+   * @return this instance
+   */
+  public TaskExecutor setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    startQueued();
+    return this;
+  }
+
+  /**
+   * Gets how many tasks of the session run at once.
+   *
+   * @return the number of tasks
+   */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * Gets the number of running tasks, including cancelled tasks whose thread has not ended yet.
+   *
+   * @return the number of tasks
+   */
+  public int getRunningCount() {
+    return running;
+  }
+
+  /**
+   * Gets the number of tasks waiting to run.
+   *
+   * @return the number of tasks
+   */
+  public int getQueuedCount() {
+    return queued.size();
+  }
+
+  private void finish(Task<?> task) {
+    if (task.done) {
+      return;
+    }
+
+    task.done = true;
+    if (task.context.cancelled) {
+      task.context.progress.cancel();
+    } else if (!task.context.progress.isCancelled()) {
+      task.context.progress.complete();
+    }
+    queued.remove(task);
+    for (Consumer<Boolean> binding : task.bindings) {
+      binding.accept(false);
+    }
+    task.owners.forEach(Component::removeLifecycleObserver);
+    task.owners.clear();
+    startQueued();
+  }
+
+  private void exited() {
+    running--;
+    startQueued();
+  }
+
+  private void startQueued() {
+    while (running < maxConcurrency && !queued.isEmpty()) {
+      running++;
+      queued.poll().start();
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.Page;
+import com.webforj.environment.ObjectTable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Markup with placeholders, stamped in the browser once per data row by a {@link TemplateList}.
+ *
+ * <p>Placeholders are written as {@code {{field}}} and may appear in text and
+ * attribute values. Text is always inserted as text, never as HTML. A boolean
+ * attribute whose whole value is a placeholder is removed when the value is
+ * {@code false} or empty, so {@code pill="{{vip}}"} works as expected.
+ * Placeholders in event handler attributes are ignored.</p>
+ *
+ * <p>Elements marked with {@code data-action} report clicks to the server as
+ * a {@link TemplateList.ActionEvent} carrying the row index, without being
+ * server components themselves. An element reports another event instead
+ * with {@code data-action-on}, such as {@code data-action-on="sl-remove"}.
+ * The event names are read from the markup, so they cannot be placeholders.
+ * The Shoelace components used in the markup are loaded automatically.</p>
+ *
+ * <pre>{@code
+ * Template userCard = new Template(
+ *     "<sl-card>"
+ *   + "  <sl-avatar slot=\"header\" image=\"{{avatar}}\" label=\"{{name}}\"></sl-avatar>"
+ *   + "  <strong>{{name}}</strong>"
+ *   + "  <sl-badge variant=\"{{status}}\" pill>{{openTickets}}</sl-badge>"
+ *   + "  <sl-tag size=\"small\">{{role}}</sl-tag>"
+ *   + "  <sl-button slot=\"footer\" data-action=\"open\">Open</sl-button>"
+ *   + "</sl-card>");
+ * }</pre>
+ *
+ * <p>The markup is sent to the browser once per session, the first time a list uses it.</p>
+ *
+ * @see TemplateList
+ * @since 1.0.0
+ */
+public final class Template {
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([\\w.-]+)\\s*\\}\\}");
+  private static final Pattern SHOELACE_TAG = Pattern.compile("<(sl-[a-z-]+)");
+  private static final Pattern ACTION_ON = Pattern.compile("data-action-on\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s>]+))");
+  private static final String SENT_KEY = Template.class.getName() + ".sent";
+  private static final String CDN = "https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/components/";
+
+  private final String id;
+  private final String html;
+  private final List<String> fields;
+  private final List<String> tags;
+  private final List<String> actionEvents;
+
+  /**
+   * Creates a template.
+   *
+   * @param html the markup, with {@code {{field}}} placeholders
+   * @throws IllegalArgumentException if a {@code data-action-on} attribute is empty or a placeholder
+   */
+  public Template(String html) {
+    this.html = html;
+    this.id = "t" + hash(html);
+
+    Set<String> names = new LinkedHashSet<>();
+    Matcher placeholders = PLACEHOLDER.matcher(html);
+    while (placeholders.find()) {
+      names.add(placeholders.group(1));
+    }
+    this.fields = List.copyOf(names);
+
+    Set<String> found = new LinkedHashSet<>();
+    Matcher elements = SHOELACE_TAG.matcher(html);
+    while (elements.find()) {
+      found.add(elements.group(1));
+    }
+    this.tags = List.copyOf(found);
+
+    Set<String> events = new LinkedHashSet<>();
+    events.add("click");
+    Matcher actions = ACTION_ON.matcher(html);
+    while (actions.find()) {
+      String event = actions.group(1) != null ? actions.group(1)
+          : actions.group(2) != null ? actions.group(2) : actions.group(3);
+      if (event.isBlank() || event.contains("{{")) {
+        throw new IllegalArgumentException("data-action-on must name an event, found '" + event + "'");
+      }
+      events.add(event.trim());
+    }
+    this.actionEvents = List.copyOf(events);
+  }
+
+  /**
+   * Gets the markup.
+   *
+   * @return the markup
+   */
+  public String getHtml() {
+    return html;
+  }
+
+  /**
+   * Gets the placeholder names, in order of first appearance.
+   *
+   * @return the field names
+   */
+  public List<String> getFields() {
+    return fields;
+  }
+
+  /**
+   * Gets the events reported by action elements: {@code click} and the
+   * events named by {@code data-action-on} attributes.
+   *
+   * @return the event names
+   */
+  List<String> getActionEvents() {
+    return actionEvents;
+  }
+
+  /**
+   * Gets the id the browser knows the template by, derived from its markup.
+   *
+   * @return the id
+   */
+  String getId() {
+    return id;
+  }
+
+  /**
+   * Converts the values of a row into an array in field order.
+   *
+   * @param values the values by field name
+   * @return the row
+   */
+  Object[] toRow(Map<String, ?> values) {
+    Object[] row = new Object[fields.size()];
+    for (int i = 0; i < row.length; i++) {
+      row[i] = values.get(fields.get(i));
+    }
+    return row;
+  }
+
+  /**
+   * Sends the template to the browser of the current session, unless it was already sent.
+   */
+  void send() {
+    if (!sentTemplates().add(id)) {
+      return;
+    }
+
+    List<String> modules = new ArrayList<>();
+    for (String tag : tags) {
+      String name = tag.substring(3);
+      modules.add(CDN + name + "/" + name + ".js");
+    }
+
+    Page.getCurrent().executeJsVoidAsync(String.format(CLIENT_SCRIPT,
+        Json.quote(id), Json.quote(html), Json.write(fields), Json.write(tags), Json.write(modules)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<String> sentTemplates() {
+    if (ObjectTable.contains(SENT_KEY)) {
+      return (Set<String>) ObjectTable.get(SENT_KEY);
+    }
+
+    Set<String> sent = new HashSet<>();
+    ObjectTable.put(SENT_KEY, sent);
+    return sent;
+  }
+
+  private static String hash(String text) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest, 0, 8);
+    } catch (NoSuchAlgorithmException e) {
+      return Integer.toHexString(text.hashCode());
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "(() => {" +
+    "const templates = window.__slwTemplates = window.__slwTemplates || {};" +
+    "const id = %s;" +
+    "const template = document.createElement('template');" +
+    "template.innerHTML = %s;" +
+    "const fields = %s;" +
+    "const tags = %s;" +
+    "const modules = %s;" +
+    "tags.forEach((tag, i) => { if (!customElements.get(tag)) import(modules[i]); });" +
+    "const split = (text) => text.split(/\\{\\{\\s*([\\w.-]+)\\s*\\}\\}/)" +
+    "  .map((part, i) => i %% 2 ? fields.indexOf(part) : part);" +
+    "const bindings = [];" +
+    "const walk = (node, path) => {" +
+    "  if (node.nodeType === Node.TEXT_NODE) {" +
+    "    if (node.data.includes('{{')) bindings.push({path, attr: null, parts: split(node.data)});" +
+    "    return;" +
+    "  }" +
+    "  if (node.nodeType !== Node.ELEMENT_NODE) return;" +
+    "  Array.from(node.attributes).forEach((attr) => {" +
+    "    if (attr.value.includes('{{') && !attr.name.startsWith('on')) {" +
+    "      bindings.push({path, attr: attr.name, parts: split(attr.value)});" +
+    "    }" +
+    "  });" +
+    "  Array.from(node.childNodes).forEach((child, i) => walk(child, path.concat(i)));" +
+    "};" +
+    "Array.from(template.content.childNodes).forEach((child, i) => walk(child, [i]));" +
+    "templates[id] = {" +
+    "  stamp: (row) => {" +
+    "    const fragment = template.content.cloneNode(true);" +
+    "    const nodes = bindings.map((binding) => binding.path.reduce((node, i) => node.childNodes[i], fragment));" +
+    "    bindings.forEach((binding, b) => {" +
+    "      const value = binding.parts.map((part, i) => i %% 2 ? (row[part] == null ? '' : String(row[part])) : part).join('');" +
+    "      const node = nodes[b];" +
+    "      if (!binding.attr) node.data = value;" +
+    "      else if (binding.parts.length === 3 && !binding.parts[0] && !binding.parts[2] && (value === '' || value === 'false')) node.removeAttribute(binding.attr);" +
+    "      else node.setAttribute(binding.attr, value);" +
+    "    });" +
+    "    return fragment;" +
+    "  }" +
+    "};" +
+    "window.dispatchEvent(new CustomEvent('slw-template', {detail: id}));" +
+    "})();";
+}
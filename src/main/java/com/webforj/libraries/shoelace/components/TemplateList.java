@@ -0,0 +1,300 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.concern.HasStyle;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Renders a list of items by stamping a {@link Template} once per item in the browser.
+ *
+ * <p>Rendering a dense grid of cards from components means creating and
+ * transmitting every component and property of every card. A template list
+ * sends the rows as a compact array of values in a single message, and the
+ * browser clones the template for each of them. The rows are plain DOM, not
+ * server components, so the cost of rendering grows with the data, not with
+ * the number of components in the template.</p>
+ *
+ * <p>Clicks on elements marked with {@code data-action} are reported as an
+ * {@link ActionEvent} carrying the row index. An element can report another
+ * event instead of clicks with {@code data-action-on}, for example
+ * {@code data-action-on="sl-remove"} on a removable tag. Rows that need a real
+ * server component can be replaced with one through
+ * {@link #setRowComponent(int, ElementComposite)}.</p>
+ *
+ * <pre>{@code
+ * TemplateList<Customer> cards = new TemplateList<>(userCard, customer -> Map.of(
+ *     "avatar", customer.getAvatarUrl(),
+ *     "name", customer.getName(),
+ *     "status", customer.isActive() ? "success" : "neutral",
+ *     "openTickets", customer.getOpenTickets(),
+ *     "role", customer.getRole()));
+ *
+ * cards.setStyle("display", "grid");
+ * cards.setStyle("grid-template-columns", "repeat(auto-fill, minmax(260px, 1fr))");
+ * cards.setItems(customerRepository.findAll());
+ * cards.onAction(event -> openCustomer((Customer) event.getItem()));
+ * }</pre>
+ *
+ * @param <T> the item type
+ * @see Template
+ * @since 1.0.0
+ */
+@NodeName("div")
+public class TemplateList<T> extends ElementComposite implements HasStyle<TemplateList<T>> {
+  private final Template template;
+  private final Function<? super T, ? extends Map<String, ?>> mapper;
+  private final List<T> items = new ArrayList<>();
+  private final Map<Integer, ElementComposite> rowComponents = new HashMap<>();
+
+  /**
+   * Create a new template list.
+   *
+   * @param template the template stamped for each item
+   * @param mapper maps an item to the values of the template fields
+   */
+  public TemplateList(Template template, Function<? super T, ? extends Map<String, ?>> mapper) {
+    super();
+    this.template = template;
+    this.mapper = mapper;
+
+    template.send();
+    getElement().executeJsVoidAsync(CLIENT_SCRIPT);
+    getElement().callJsFunctionVoidAsync("__slwUseTemplate", template.getId(), Json.write(template.getActionEvents()));
+  }
+
+  /**
+   * Gets the template.
+   *
+   * @return the template
+   */
+  public Template getTemplate() {
+    return template;
+  }
+
+  /**
+   * Replaces all items.
+   *
+   * @param items the items
+   * @return this instance
+   */
+  public TemplateList<T> setItems(Collection<? extends T> items) {
+    removeRowComponents();
+    this.items.clear();
+    this.items.addAll(items);
+    getElement().callJsFunctionVoidAsync("__slwStamp", toRows(items), true);
+    return this;
+  }
+
+  /**
+   * Appends items.
+   *
+   * @param items the items to append
+   * @return this instance
+   */
+  public TemplateList<T> addItems(Collection<? extends T> items) {
+    this.items.addAll(items);
+    getElement().callJsFunctionVoidAsync("__slwStamp", toRows(items), false);
+    return this;
+  }
+
+  /**
+   * Replaces a single item and stamps its row again.
+   *
+   * @param index the row index
+   * @param item the new item
+   * @return this instance
+   */
+  public TemplateList<T> setItem(int index, T item) {
+    items.set(index, item);
+    removeRowComponent(index);
+    getElement().callJsFunctionVoidAsync("__slwRestamp", index, Json.write(template.toRow(mapper.apply(item))));
+    return this;
+  }
+
+  /**
+   * Gets an item.
+   *
+   * @param index the row index
+   * @return the item
+   */
+  public T getItem(int index) {
+    return items.get(index);
+  }
+
+  /**
+   * Gets all items.
+   *
+   * @return the items, in row order
+   */
+  public List<T> getItems() {
+    return Collections.unmodifiableList(items);
+  }
+
+  /**
+   * Gets the number of rows.
+   *
+   * @return the number of rows
+   */
+  public int size() {
+    return items.size();
+  }
+
+  /**
+   * Replaces the stamped content of a row with a server component, for rows that need
+   * full component behavior. The component is removed when the row is stamped again.
+   *
+   * @param index the row index
+   * @param component the component shown in place of the stamped content
+   * @return this instance
+   */
+  public TemplateList<T> setRowComponent(int index, ElementComposite component) {
+    if (index < 0 || index >= items.size()) {
+      throw new IndexOutOfBoundsException("Index " + index + " outside of " + items.size() + " rows");
+    }
+
+    removeRowComponent(index);
+    rowComponents.put(index, component);
+    getBoundComponent().add(component);
+    getElement().callJsFunctionVoidAsync("__slwPlace", index, ClientBinding.refOf(component));
+    return this;
+  }
+
+  /**
+   * Add a listener for the action event.
+   *
+   * <p>Fired when an element marked with {@code data-action} is clicked, or fires
+   * the event named by its {@code data-action-on} attribute.
+   *
+   * @param listener the action event listener
+   * @return the listener registration for removal
+   */
+  public ListenerRegistration<ActionEvent> onAction(EventListener<ActionEvent> listener) {
+    return addEventListener(ActionEvent.class, listener);
+  }
+
+  private String toRows(Collection<? extends T> items) {
+    List<Object[]> rows = new ArrayList<>(items.size());
+    for (T item : items) {
+      rows.add(template.toRow(mapper.apply(item)));
+    }
+    return Json.write(rows);
+  }
+
+  private void removeRowComponent(int index) {
+    ElementComposite previous = rowComponents.remove(index);
+    if (previous != null) {
+      getBoundComponent().remove(previous);
+    }
+  }
+
+  private void removeRowComponents() {
+    for (ElementComposite component : rowComponents.values()) {
+      getBoundComponent().remove(component);
+    }
+    rowComponents.clear();
+  }
+
+  /**
+   * Event fired when an action element in a row is used.
+   */
+  @EventName("slw-template-action")
+  @EventOptions(data = {
+    @EventOptions.EventData(key = "index", exp = "event.detail.index"),
+    @EventOptions.EventData(key = "action", exp = "event.detail.action")
+  })
+  public static class ActionEvent extends ComponentEvent<TemplateList<?>> {
+    public ActionEvent(TemplateList<?> component, Map<String, Object> eventData) {
+      super(component, eventData);
+    }
+
+    /**
+     * Gets the index of the row.
+     *
+     * @return the row index
+     */
+    public int getIndex() {
+      return ((Number) getEventMap().get("index")).intValue();
+    }
+
+    /**
+     * Gets the value of the {@code data-action} attribute.
+     *
+     * @return the action name
+     */
+    public String getAction() {
+      return (String) getEventMap().get("action");
+    }
+
+    /**
+     * Gets the item of the row.
+     *
+     * @return the item
+     */
+    public Object getItem() {
+      return getComponent().getItem(getIndex());
+    }
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "if (!component.__slwStamp) {" +
+    "  let templateId = null;" +
+    "  const queued = [];" +
+    "  const template = () => (window.__slwTemplates || {})[templateId];" +
+    "  const row = (index) => component.querySelector(':scope > [data-slw-row=\"' + index + '\"]');" +
+    "  const wrap = (values, index) => {" +
+    "    const el = document.createElement('div');" +
+    "    el.style.display = 'contents';" +
+    "    el.setAttribute('data-slw-row', index);" +
+    "    el.append(template().stamp(values));" +
+    "    return el;" +
+    "  };" +
+    "  const stamp = (json, replace) => {" +
+    "    if (!template()) { queued.push([json, replace]); return; }" +
+    "    if (replace) component.querySelectorAll(':scope > [data-slw-row]').forEach((el) => el.remove());" +
+    "    const start = component.querySelectorAll(':scope > [data-slw-row]').length;" +
+    "    const fragment = document.createDocumentFragment();" +
+    "    JSON.parse(json).forEach((values, i) => fragment.append(wrap(values, start + i)));" +
+    "    component.append(fragment);" +
+    "  };" +
+    "  window.addEventListener('slw-template', (e) => {" +
+    "    if (e.detail === templateId) queued.splice(0).forEach(([json, replace]) => stamp(json, replace));" +
+    "  });" +
+    "  const onAction = (e) => {" +
+    "    const el = e.target.closest && e.target.closest('[data-action]');" +
+    "    const owner = el && el.closest('[data-slw-row]');" +
+    "    if (!owner || owner.parentElement !== component || (el.dataset.actionOn || 'click') !== e.type) return;" +
+    "    component.dispatchEvent(new CustomEvent('slw-template-action', {" +
+    "      detail: {index: Number(owner.getAttribute('data-slw-row')), action: el.dataset.action}" +
+    "    }));" +
+    "  };" +
+    "  component.__slwUseTemplate = (id, events) => {" +
+    "    templateId = id;" +
+    // Capturing also sees events that do not bubble
+    "    JSON.parse(events).forEach((type) => component.addEventListener(type, onAction, true));" +
+    "  };" +
+    "  component.__slwStamp = stamp;" +
+    "  component.__slwRestamp = (index, json) => {" +
+    "    const el = row(index);" +
+    "    if (el) el.replaceChildren(template().stamp(JSON.parse(json)));" +
+    "  };" +
+    "  component.__slwPlace = (index, ref, attempt = 0) => {" +
+    "    const el = row(index);" +
+    "    const target = document.querySelector('[data-slw-ref=\"' + ref + '\"]');" +
+    "    if (el && target) el.replaceChildren(target);" +
+    "    else if (attempt < 10) requestAnimationFrame(() => component.__slwPlace(index, ref, attempt + 1));" +
+    "  };" +
+    "}";
+}
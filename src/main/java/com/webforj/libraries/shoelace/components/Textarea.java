@@ -5,7 +5,10 @@ import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.annotation.EventName;
 import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.event.ElementEvent;
+import com.webforj.component.element.event.ElementEventOptions;
 import com.webforj.component.event.ComponentEvent;
+import com.webforj.dispatcher.EventDispatcher;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.annotation.Attribute;
@@ -14,6 +17,8 @@ import com.webforj.annotation.StyleSheet;
 import com.webforj.concern.HasComponents;
 import com.webforj.concern.HasStyle;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -54,6 +59,32 @@ import java.util.Map;
  * });
  * }</pre>
  * 
+ * <p><strong>Large Documents:</strong>
+ * <p>{@link ChangeEvent}, {@link InputEvent} and {@link #setValue(String)} transfer the whole text.
+ * For large documents, incremental sync sends only the edited range in each direction and keeps a
+ * server-side copy in a {@link PieceTable}, so {@link #getValue()} no longer reads from the client.
+ * <pre>{@code
+ * Textarea editor = new Textarea("Specification");
+ * editor.setIncrementalSync(true)
+ *       .setValue(largeDocument);
+ * 
+ * editor.onDelta(event -> {
+ *     System.out.println("Replaced " + event.getDeleteCount() + " chars at " + event.getOffset());
+ * });
+ * 
+ * // Server-side edits only send the edited range as well
+ * editor.replaceRange(0, 0, "DRAFT\n");
+ * }</pre>
+ * 
+ * <p><strong>Streaming Logs:</strong>
+ * <p>To tail a log, use a {@link LogStream} instead of calling {@link #setValue(String)} with the
+ * accumulated text. Only appended lines are sent, at a bounded rate, and old lines are trimmed.
+ * <pre>{@code
+ * Textarea log = new Textarea("Job output");
+ * LogStream stream = log.startLogStream(5_000, 4);
+ * executor.submit(() -> job.run(stream::append));
+ * }</pre>
+ * 
  * @see <a href="https://shoelace.style/components/textarea">Shoelace Textarea Documentation</a>
  * 
  * @author Hyyan Abo Fakher
@@ -83,6 +114,15 @@ public final class Textarea extends ElementComposite implements HasComponents, H
   private final PropertyDescriptor<String> autocompleteProp = PropertyDescriptor.property("autocomplete", "off");
   private final PropertyDescriptor<Boolean> spellcheckProp = PropertyDescriptor.property("spellcheck", true);
 
+  private final EventDispatcher dispatcher = new EventDispatcher();
+  private EditSync sync;
+  private int epoch;
+  private int documentVersion;
+  private boolean awaitingResync;
+  private ListenerRegistration<ElementEvent> deltaRegistration;
+  private ListenerRegistration<ElementEvent> resyncRegistration;
+  private AsyncValidation asyncValidation;
+
   /**
    * Creates a new Textarea component.
    */
@@ -138,6 +178,9 @@ public final class Textarea extends ElementComposite implements HasComponents, H
    * @return the value
    */
   public String getValue() {
+    if (sync != null) {
+      return sync.document().toString();
+    }
     return get(valueProp);
   }
 
@@ -148,10 +191,191 @@ public final class Textarea extends ElementComposite implements HasComponents, H
    * @return this instance
    */
   public Textarea setValue(String value) {
+    if (sync != null) {
+      sync.reset(value);
+      epoch++;
+      documentVersion++;
+      awaitingResync = false;
+      getElement().callJsFunctionVoidAsync("__slwReset", epoch, value == null ? "" : value);
+      return this;
+    }
     set(valueProp, value);
     return this;
   }
 
+  /**
+   * Enables or disables incremental value sync.
+   * 
+   * <p>When enabled, the browser diffs the text against the last synced state and sends only the
+   * replaced range (offset, delete count and inserted text), debounced while the user types. The
+   * server applies it to a {@link PieceTable} copy of the document and fires a {@link DeltaEvent}.
+   * Server-side edits through {@link #replaceRange(int, int, String)} are sent the same way. Edits
+   * made on both sides at once are rebased over each other, so neither is lost. Should the copies
+   * still diverge, the server adopts the full text from the browser once, re-applies its own edits
+   * the browser had not seen, and both continue from there.</p>
+   * 
+   * <p>{@link ChangeEvent} and {@link InputEvent} still carry the full value, so avoid registering
+   * them on large documents when incremental sync is on.</p>
+   * 
+   * @param incremental true to sync edits instead of full values
+   * @return this instance
+   */
+  public Textarea setIncrementalSync(boolean incremental) {
+    if (incremental == (sync != null)) {
+      return this;
+    }
+
+    if (!incremental) {
+      String text = sync.document().toString();
+      sync = null;
+      deltaRegistration.remove();
+      resyncRegistration.remove();
+      getElement().callJsFunctionVoidAsync("__slwStopIncremental");
+      set(valueProp, text);
+      return this;
+    }
+
+    sync = new EditSync(true);
+    sync.reset(get(valueProp));
+    epoch++;
+    documentVersion = 0;
+    awaitingResync = false;
+    deltaRegistration = getElement().addEventListener("slw-delta", this::applyClientDelta,
+        new ElementEventOptions()
+            .addData("epoch", "event.detail.epoch")
+            .addData("index", "event.detail.index")
+            .addData("seen", "event.detail.seen")
+            .addData("offset", "event.detail.offset")
+            .addData("deleteCount", "event.detail.deleteCount")
+            .addData("insertText", "event.detail.insertText"));
+    resyncRegistration = getElement().addEventListener("slw-resync", this::applyClientResync,
+        new ElementEventOptions()
+            .addData("epoch", "event.detail.epoch")
+            .addData("seen", "event.detail.seen")
+            .addData("value", "event.detail.value"));
+    getElement().executeJsVoidAsync(INCREMENTAL_SYNC_SCRIPT);
+    getElement().callJsFunctionVoidAsync("__slwReset", epoch, sync.document().toString());
+    return this;
+  }
+
+  /**
+   * Checks whether incremental value sync is enabled.
+   * 
+   * @return true if edits are synced instead of full values
+   */
+  public boolean isIncrementalSync() {
+    return sync != null;
+  }
+
+  /**
+   * Replaces a range of the text, sending only the edit to the browser in incremental mode.
+   * 
+   * <p>Without incremental sync this is equivalent to setting the whole edited value.</p>
+   * 
+   * @param offset the start of the range
+   * @param deleteCount the number of characters to remove
+   * @param text the text to insert in place of the range
+   * @return this instance
+   */
+  public Textarea replaceRange(int offset, int deleteCount, String text) {
+    if (sync == null) {
+      PieceTable edited = new PieceTable(getValue());
+      edited.replace(offset, deleteCount, text);
+      return setValue(edited.toString());
+    }
+
+    sendEdit(new EditSync.Edit(offset, deleteCount, text));
+    return this;
+  }
+
+  /**
+   * Appends text, sending only the appended text to the browser in incremental mode.
+   * 
+   * @param text the text to append
+   * @return this instance
+   */
+  public Textarea appendText(String text) {
+    return replaceRange(sync == null ? getValue().length() : sync.document().length(), 0, text);
+  }
+
+  /**
+   * Turns the textarea into a read-only log view fed by the returned stream.
+   * 
+   * @param capacity the number of lines kept, older lines are dropped
+   * @param maxUpdatesPerSecond how often appended lines are sent to the browser at most
+   * @return the stream to append lines to
+   * @see LogStream
+   */
+  public LogStream startLogStream(int capacity, int maxUpdatesPerSecond) {
+    return new LogStream(this, capacity, maxUpdatesPerSecond);
+  }
+
+  private void sendEdit(EditSync.Edit edit) {
+    int index = sync.sent();
+    int seen = sync.received();
+    sync.local(edit);
+    documentVersion++;
+    getElement().callJsFunctionVoidAsync("__slwApplyEdit", epoch, index, seen, edit.offset(),
+        edit.deleteCount(), edit.text());
+  }
+
+  private void applyClientDelta(ElementEvent event) {
+    Map<String, Object> data = event.getData();
+    if (awaitingResync || intData(data, "epoch") != epoch) {
+      // Made before a reset or resync that replaced it
+      return;
+    }
+
+    EditSync.Edit applied;
+    try {
+      Object text = data.get("insertText");
+      applied = sync.remote(intData(data, "index"), intData(data, "seen"), new EditSync.Edit(
+          intData(data, "offset"), intData(data, "deleteCount"), text == null ? "" : String.valueOf(text)));
+    } catch (RuntimeException e) {
+      awaitingResync = true;
+      getElement().callJsFunctionVoidAsync("__slwRequestResync");
+      return;
+    }
+
+    fireDelta(applied);
+  }
+
+  private void applyClientResync(ElementEvent event) {
+    Map<String, Object> data = event.getData();
+    if (intData(data, "epoch") != epoch) {
+      return;
+    }
+
+    Object value = data.get("value");
+    int previousLength = sync.document().length();
+    List<EditSync.Edit> reapplied = sync.rebase(value == null ? "" : String.valueOf(value), intData(data, "seen"));
+    epoch++;
+    awaitingResync = false;
+    getElement().callJsFunctionVoidAsync("__slwAcknowledge", epoch);
+    for (int i = 0; i < reapplied.size(); i++) {
+      EditSync.Edit edit = reapplied.get(i);
+      getElement().callJsFunctionVoidAsync("__slwApplyEdit", epoch, i, 0, edit.offset(), edit.deleteCount(),
+          edit.text());
+    }
+
+    fireDelta(new EditSync.Edit(0, previousLength, sync.document().toString()));
+  }
+
+  private void fireDelta(EditSync.Edit edit) {
+    Map<String, Object> data = new HashMap<>();
+    data.put("version", documentVersion);
+    data.put("offset", edit.offset());
+    data.put("deleteCount", edit.deleteCount());
+    data.put("insertText", edit.text());
+    documentVersion++;
+    dispatcher.dispatchEvent(new DeltaEvent(this, data));
+  }
+
+  private static int intData(Map<String, Object> data, String key) {
+    Object value = data.get(key);
+    return value instanceof Number number ? number.intValue() : -1;
+  }
+
   /**
    * Gets the textarea's size.
    * 
@@ -452,6 +676,28 @@ public final class Textarea extends ElementComposite implements HasComponents, H
     return this;
   }
 
+  /**
+   * Validates the value with a validator that may block, off the UI thread.
+   * 
+   * <p>The value is validated once the user stops typing for 300 milliseconds.</p>
+   * 
+   * <p>Replaces the validator set before.</p>
+   * 
+   * @param validator returns the error message for an invalid value, or {@code null} to stop validating
+   * @return the validation, for further configuration, or {@code null} if the validator is {@code null}
+   * @see AsyncValidation
+   */
+  public AsyncValidation setAsyncValidator(AsyncValidator validator) {
+    if (asyncValidation != null) {
+      asyncValidation.remove();
+      asyncValidation = null;
+    }
+    if (validator != null) {
+      asyncValidation = new AsyncValidation(this, "sl-input", 300, validator, this::getHelpText);
+    }
+    return asyncValidation;
+  }
+
   /**
    * Add a listener for the blur event.
    * 
@@ -500,6 +746,22 @@ public final class Textarea extends ElementComposite implements HasComponents, H
     return addEventListener(InputEvent.class, listener);
   }
 
+  /**
+   * Add a listener for incremental edits.
+   * 
+   * <p>Fired for every edit from the browser applied while {@link #setIncrementalSync(boolean)
+   * incremental sync} is enabled, with the range as applied to the server-side copy. That copy,
+   * returned by {@link #getValue()}, is already updated when the listener runs. Edits the server
+   * discarded are not reported. When the server adopts the full text from the browser after the
+   * copies diverged, a single edit replacing the whole text is reported instead.
+   *
+   * @param listener the delta event listener
+   * @return the listener registration for removal
+   */
+  public ListenerRegistration<DeltaEvent> onDelta(EventListener<DeltaEvent> listener) {
+    return dispatcher.addListener(DeltaEvent.class, listener);
+  }
+
   /**
    * Add a listener for the invalid event.
    * 
@@ -637,4 +899,167 @@ public final class Textarea extends ElementComposite implements HasComponents, H
       super(component, eventData);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Delta event fired for an edit from the browser applied in incremental sync mode.
+   */
+  public static class DeltaEvent extends ComponentEvent<Textarea> {
+    /**
+     * Creates a new delta event.
+     *
+     * @param component the component
+     * @param eventData the event data
+     */
+    public DeltaEvent(Textarea component, Map<String, Object> eventData) {
+      super(component, eventData);
+    }
+
+    /**
+     * Gets the version of the server-side copy the edit was applied to. Every applied edit,
+     * from either side, increments the version.
+     *
+     * @return the version
+     */
+    public int getVersion() {
+      return ((Number) getData().get("version")).intValue();
+    }
+
+    /**
+     * Gets the offset of the replaced range.
+     *
+     * @return the offset
+     */
+    public int getOffset() {
+      return ((Number) getData().get("offset")).intValue();
+    }
+
+    /**
+     * Gets the number of characters removed at the offset.
+     *
+     * @return the delete count
+     */
+    public int getDeleteCount() {
+      return ((Number) getData().get("deleteCount")).intValue();
+    }
+
+    /**
+     * Gets the text inserted at the offset.
+     *
+     * @return the inserted text, empty for pure deletions
+     */
+    public String getInsertText() {
+      Object text = getData().get("insertText");
+      return text == null ? "" : (String) text;
+    }
+  }
+
+  private static final String INCREMENTAL_SYNC_SCRIPT =
+    "if (!component.__slwIncremental) {" +
+    "component.__slwIncremental = true;" +
+    "let synced = component.value;" +
+    "let epoch = 0;" +
+    "let sent = 0;" +
+    "let received = 0;" +
+    "let pending = [];" +
+    "let timer = null;" +
+    "let resyncing = false;" +
+    // Same transform as EditSync.Edit#transform on the server
+    "const transform = (a, b, first) => {" +
+    "  const aEnd = a.offset + a.deleteCount;" +
+    "  const bEnd = b.offset + b.deleteCount;" +
+    "  const overlaps = Math.max(a.offset, b.offset) < Math.min(aEnd, bEnd)" +
+    "    || (a.deleteCount === 0 && b.deleteCount === 0 ? a.offset === b.offset" +
+    "      : (a.deleteCount === 0 && b.offset < a.offset && a.offset < bEnd)" +
+    "        || (b.deleteCount === 0 && a.offset < b.offset && b.offset < aEnd));" +
+    "  if (overlaps) {" +
+    "    const start = Math.min(a.offset, b.offset);" +
+    "    const end = Math.max(aEnd, bEnd);" +
+    "    return {offset: start, deleteCount: end - start + b.text.length - b.deleteCount," +
+    "      text: first ? a.text + b.text : b.text + a.text};" +
+    "  }" +
+    "  if (a.offset < b.offset || (a.offset === b.offset && a.deleteCount === 0)) return a;" +
+    "  return {offset: a.offset + b.text.length - b.deleteCount, deleteCount: a.deleteCount, text: a.text};" +
+    "};" +
+    "const flush = () => {" +
+    "  clearTimeout(timer);" +
+    "  timer = null;" +
+    "  const value = component.value;" +
+    "  if (resyncing || value === synced) return;" +
+    "  const max = Math.min(value.length, synced.length);" +
+    "  let start = 0;" +
+    "  while (start < max && value.charCodeAt(start) === synced.charCodeAt(start)) start++;" +
+    "  let end = 0;" +
+    "  while (end < max - start" +
+    "      && value.charCodeAt(value.length - 1 - end) === synced.charCodeAt(synced.length - 1 - end)) end++;" +
+    "  const edit = {offset: start, deleteCount: synced.length - start - end," +
+    "    text: value.substring(start, value.length - end)};" +
+    "  pending.push({index: sent, edit});" +
+    "  component.dispatchEvent(new CustomEvent('slw-delta', {detail: {epoch, index: sent, seen: received," +
+    "    offset: edit.offset, deleteCount: edit.deleteCount, insertText: edit.text}}));" +
+    "  sent++;" +
+    "  synced = value;" +
+    "};" +
+    "const onInput = () => {" +
+    "  clearTimeout(timer);" +
+    "  timer = setTimeout(flush, 250);" +
+    "};" +
+    "component.addEventListener('sl-input', onInput);" +
+    "component.addEventListener('sl-change', flush);" +
+    "component.__slwApplyEdit = (at, index, seen, offset, deleteCount, text) => {" +
+    "  if (at !== epoch || resyncing) return;" +
+    "  if (component.value !== synced) flush();" +
+    "  if (index !== received || seen > sent) {" +
+    "    component.__slwRequestResync();" +
+    "    return;" +
+    "  }" +
+    "  pending = pending.filter((p) => p.index >= seen);" +
+    "  let edit = {offset, deleteCount, text};" +
+    "  for (const p of pending) {" +
+    "    const incoming = transform(edit, p.edit, true);" +
+    "    p.edit = transform(p.edit, edit, false);" +
+    "    edit = incoming;" +
+    "  }" +
+    "  if (edit.offset + edit.deleteCount > synced.length) {" +
+    "    component.__slwRequestResync();" +
+    "    return;" +
+    "  }" +
+    "  const value = synced.slice(0, edit.offset) + edit.text + synced.slice(edit.offset + edit.deleteCount);" +
+    "  component.value = value;" +
+    "  synced = value;" +
+    "  received++;" +
+    "};" +
+    "component.__slwReset = (next, text) => {" +
+    "  clearTimeout(timer);" +
+    "  timer = null;" +
+    "  resyncing = false;" +
+    "  component.value = text;" +
+    "  synced = text;" +
+    "  epoch = next;" +
+    "  sent = 0;" +
+    "  received = 0;" +
+    "  pending = [];" +
+    "};" +
+    "component.__slwRequestResync = () => {" +
+    "  if (resyncing) return;" +
+    "  clearTimeout(timer);" +
+    "  timer = null;" +
+    "  resyncing = true;" +
+    "  synced = component.value;" +
+    "  component.dispatchEvent(new CustomEvent('slw-resync', {detail: {epoch, seen: received, value: synced}}));" +
+    "};" +
+    "component.__slwAcknowledge = (next) => {" +
+    "  resyncing = false;" +
+    "  epoch = next;" +
+    "  sent = 0;" +
+    "  received = 0;" +
+    "  pending = [];" +
+    "  flush();" +
+    "};" +
+    "component.__slwStopIncremental = () => {" +
+    "  clearTimeout(timer);" +
+    "  component.removeEventListener('sl-input', onInput);" +
+    "  component.removeEventListener('sl-change', flush);" +
+    "  component.__slwIncremental = false;" +
+    "};" +
+    "}";
+}
@@ -0,0 +1,383 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.event.ElementEvent;
+import com.webforj.dispatcher.ListenerRegistration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Animates many components together, entirely in the browser.
+ *
+ * <p>A timeline is a tree of steps. An effect animates one component with one
+ * of the presets of {@link Animation} or with custom keyframes. A sequence
+ * runs its steps one after the other, a parallel group runs them at the same
+ * time, and a stagger group starts each step a fixed offset after the
+ * previous one. The whole tree is sent to the browser as a single spec when
+ * it is played and scheduled there with the Web Animations API, so a
+ * staggered entrance of fifty rows costs one message instead of fifty
+ * {@link Animation} wrappers with their own events. The server is notified
+ * once, when every effect has finished.</p>
+ *
+ * <p>Timing set on a group, such as the duration or easing, applies to all
+ * effects within it that do not set their own. The delay of a group shifts
+ * the group as a whole.</p>
+ *
+ * <pre>{@code
+ * Timeline entrance = new Timeline(Timeline.sequence(
+ *     Timeline.effect(header, "fadeInDown").setDuration(300),
+ *     Timeline.stagger(rows, "fadeInUp", 40).setDuration(250).setEasing("easeOutQuad")));
+ * entrance.onFinish(() -> searchInput.focus());
+ * entrance.play();
+ * }</pre>
+ *
+ * <p>The components must be attached when the timeline is played. The first
+ * component of the timeline carries its state in the browser and must stay
+ * attached while it runs.</p>
+ *
+ * @see Animation
+ * @since 1.0.0
+ */
+public final class Timeline {
+  private static final AtomicLong NEXT_ID = new AtomicLong();
+  private static final String PRESETS =
+      "https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/components/animation/animations.js";
+
+  /**
+   * A step of a timeline: an effect, or a group of steps.
+   */
+  public static final class Step {
+    private final String kind;
+    private final ElementComposite target;
+    private final String name;
+    private final List<Map<String, Object>> keyframes;
+    private final List<Step> children;
+    private final int stagger;
+    private final Map<String, Object> options = new LinkedHashMap<>();
+
+    private Step(String kind, ElementComposite target, String name, List<Map<String, Object>> keyframes,
+        List<Step> children, int stagger) {
+      this.kind = kind;
+      this.target = target;
+      this.name = name;
+      this.keyframes = keyframes;
+      this.children = children;
+      this.stagger = stagger;
+    }
+
+    /**
+     * Sets the duration of one iteration.
+     *
+     * @param duration the duration in milliseconds (default: 1000)
+     * @return this instance
+     */
+    public Step setDuration(int duration) {
+      options.put("duration", duration);
+      return this;
+    }
+
+    /**
+     * Sets the delay before the step starts.
+     *
+     * @param delay the delay in milliseconds (default: 0)
+     * @return this instance
+     */
+    public Step setDelay(int delay) {
+      options.put("delay", delay);
+      return this;
+    }
+
+    /**
+     * Sets the delay after an effect ends before the next step of a sequence starts.
+     *
+     * @param endDelay the delay in milliseconds (default: 0)
+     * @return this instance
+     */
+    public Step setEndDelay(int endDelay) {
+      options.put("endDelay", endDelay);
+      return this;
+    }
+
+    /**
+     * Sets the easing, a CSS easing function or an easing name of {@link Animation}, such as {@code "easeOutQuad"}.
+     *
+     * @param easing the easing (default: linear)
+     * @return this instance
+     */
+    public Step setEasing(String easing) {
+      options.put("easing", easing);
+      return this;
+    }
+
+    /**
+     * Sets the number of iterations.
+     *
+     * @param iterations the number of iterations, which must be finite (default: 1)
+     * @return this instance
+     * @throws IllegalArgumentException if the number is negative or not finite
+     */
+    public Step setIterations(double iterations) {
+      if (!(iterations >= 0) || Double.isInfinite(iterations)) {
+        throw new IllegalArgumentException("Timeline iterations must be finite, got " + iterations);
+      }
+      options.put("iterations", iterations);
+      return this;
+    }
+
+    /**
+     * Sets how effects apply before and after they run, as in {@link Animation#setFill(String)}.
+     *
+     * @param fill {@code none}, {@code forwards}, {@code backwards} or {@code both} (default: both)
+     * @return this instance
+     */
+    public Step setFill(String fill) {
+      options.put("fill", fill);
+      return this;
+    }
+
+    /**
+     * Sets the direction of the effects.
+     *
+     * @param direction {@code normal}, {@code reverse}, {@code alternate} or {@code alternate-reverse}
+     * @return this instance
+     */
+    public Step setDirection(String direction) {
+      options.put("direction", direction);
+      return this;
+    }
+
+    private ElementComposite firstTarget() {
+      if (target != null) {
+        return target;
+      }
+      for (Step child : children) {
+        ElementComposite first = child.firstTarget();
+        if (first != null) {
+          return first;
+        }
+      }
+      return null;
+    }
+
+    private Map<String, Object> toSpec() {
+      Map<String, Object> spec = new LinkedHashMap<>();
+      spec.put("kind", kind);
+      spec.put("options", options);
+      if (target != null) {
+        spec.put("ref", ClientBinding.refOf(target));
+        spec.put("name", name);
+        spec.put("keyframes", keyframes);
+      } else {
+        List<Object> specs = new ArrayList<>(children.size());
+        for (Step child : children) {
+          specs.add(child.toSpec());
+        }
+        spec.put("children", specs);
+        spec.put("stagger", stagger);
+      }
+      return spec;
+    }
+  }
+
+  private final String id = String.valueOf(NEXT_ID.incrementAndGet());
+  private final Step root;
+  private final ElementComposite anchor;
+
+  /**
+   * Creates a timeline.
+   *
+   * @param root the step to run, usually a sequence or a group
+   * @throws IllegalArgumentException if the timeline animates no component
+   */
+  public Timeline(Step root) {
+    this.root = root;
+    this.anchor = root.firstTarget();
+    if (anchor == null) {
+      throw new IllegalArgumentException("A timeline must animate at least one component");
+    }
+  }
+
+  /**
+   * Creates an effect animating a component with a preset of {@link Animation}, such as {@code "fadeInUp"}.
+   *
+   * @param target the component to animate
+   * @param name the name of the preset
+   * @return the step
+   */
+  public static Step effect(ElementComposite target, String name) {
+    return new Step("effect", target, name, null, null, 0);
+  }
+
+  /**
+   * Creates an effect animating a component with custom keyframes, such as
+   * {@code List.of(Map.of("opacity", 0), Map.of("opacity", 1))}.
+   *
+   * @param target the component to animate
+   * @param keyframes the keyframes, as CSS property names and values
+   * @return the step
+   */
+  public static Step effect(ElementComposite target, List<Map<String, Object>> keyframes) {
+    return new Step("effect", target, null, List.copyOf(keyframes), null, 0);
+  }
+
+  /**
+   * Creates a group running its steps one after the other.
+   *
+   * @param steps the steps
+   * @return the step
+   */
+  public static Step sequence(Step... steps) {
+    return new Step("sequence", null, null, null, List.of(steps), 0);
+  }
+
+  /**
+   * Creates a group running its steps at the same time. The group ends with its longest step.
+   *
+   * @param steps the steps
+   * @return the step
+   */
+  public static Step parallel(Step... steps) {
+    return new Step("parallel", null, null, null, List.of(steps), 0);
+  }
+
+  /**
+   * Creates a group starting each step a fixed offset after the previous one.
+   *
+   * @param offset the offset in milliseconds
+   * @param steps the steps
+   * @return the step
+   */
+  public static Step stagger(int offset, Step... steps) {
+    return new Step("parallel", null, null, null, List.of(steps), offset);
+  }
+
+  /**
+   * Creates a group animating each component with the same preset, each
+   * starting a fixed offset after the previous one.
+   *
+   * @param targets the components, in the order they start
+   * @param name the name of the preset
+   * @param offset the offset in milliseconds
+   * @return the step
+   */
+  public static Step stagger(Collection<? extends ElementComposite> targets, String name, int offset) {
+    List<Step> steps = new ArrayList<>(targets.size());
+    for (ElementComposite target : targets) {
+      steps.add(effect(target, name));
+    }
+    return new Step("parallel", null, null, null, List.copyOf(steps), offset);
+  }
+
+  /**
+   * Plays the timeline from the start, cancelling it first if it is running.
+   *
+   * @return this instance
+   */
+  public Timeline play() {
+    Map<String, Object> spec = new LinkedHashMap<>();
+    spec.put("id", id);
+    spec.put("root", root.toSpec());
+    anchor.getElement().executeJsVoidAsync(String.format(PLAY_SCRIPT, Json.quote(Json.write(spec)), Json.quote(PRESETS)));
+    return this;
+  }
+
+  /**
+   * Pauses the running timeline.
+   */
+  public void pause() {
+    control("pause");
+  }
+
+  /**
+   * Resumes the paused timeline.
+   */
+  public void resume() {
+    control("play");
+  }
+
+  /**
+   * Jumps to the end of the running timeline, which then counts as finished.
+   */
+  public void finish() {
+    control("finish");
+  }
+
+  /**
+   * Cancels the running timeline and removes its effects. Finish listeners are not called.
+   */
+  public void cancel() {
+    control("cancel");
+  }
+
+  /**
+   * Adds a listener called on the server once every effect of a play has finished.
+   *
+   * @param listener the listener
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<ElementEvent> onFinish(Runnable listener) {
+    return anchor.getElement().addEventListener("slw-timeline-" + id, e -> listener.run());
+  }
+
+  private void control(String method) {
+    anchor.getElement().executeJsVoidAsync(String.format(CONTROL_SCRIPT, Json.quote(id), Json.quote(method)));
+  }
+
+  private static final String PLAY_SCRIPT =
+    "(() => {" +
+    "const spec = JSON.parse(%1$s);" +
+    "const timelines = component.__slwTimelines = component.__slwTimelines || {};" +
+    "if (timelines[spec.id]) timelines[spec.id].forEach((animation) => animation.cancel());" +
+    "const played = timelines[spec.id] = [];" +
+    "import(%2$s).catch(() => ({})).then((presets) => {" +
+    "  if (timelines[spec.id] !== played) return;" +
+    "  const find = (ref) => document.querySelector('[data-slw-ref=\"' + ref + '\"]');" +
+    "  const easings = presets.easings || {};" +
+    "  const schedule = (node, start, inherited) => {" +
+    "    const options = Object.assign({}, inherited, node.options);" +
+    "    const delay = node.options.delay || 0;" +
+    "    if (node.kind !== 'effect') {" +
+    "      let end = start + delay;" +
+    "      node.children.forEach((child, i) => {" +
+    "        if (node.kind === 'sequence') end = schedule(child, end, options);" +
+    "        else end = Math.max(end, schedule(child, start + delay + i * node.stagger, options));" +
+    "      });" +
+    "      return end;" +
+    "    }" +
+    "    const duration = options.duration ?? 1000;" +
+    "    const iterations = options.iterations ?? 1;" +
+    "    const endDelay = node.options.endDelay || 0;" +
+    "    const el = find(node.ref);" +
+    "    const keyframes = node.keyframes || presets[node.name];" +
+    "    if (el && keyframes) {" +
+    "      played.push(el.animate(keyframes, {" +
+    "        duration, iterations, endDelay, delay: start + delay," +
+    "        easing: easings[options.easing] || options.easing || 'linear'," +
+    "        fill: options.fill || 'both', direction: options.direction || 'normal'" +
+    "      }));" +
+    "    }" +
+    "    return start + delay + duration * iterations + endDelay;" +
+    "  };" +
+    "  schedule(spec.root, 0, {});" +
+    "  Promise.all(played.map((animation) => animation.finished)).then(() => {" +
+    "    if (timelines[spec.id] !== played) return;" +
+    "    delete timelines[spec.id];" +
+    "    component.dispatchEvent(new CustomEvent('slw-timeline-' + spec.id));" +
+    "  }, () => {});" +
+    "});" +
+    "})();";
+
+  private static final String CONTROL_SCRIPT =
+    "(() => {" +
+    "const timelines = component.__slwTimelines || {};" +
+    "const played = timelines[%1$s];" +
+    "if (!played) return;" +
+    "if (%2$s === 'cancel') delete timelines[%1$s];" +
+    "played.forEach((animation) => animation[%2$s]());" +
+    "})();";
+}
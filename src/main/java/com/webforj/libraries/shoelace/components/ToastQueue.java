@@ -0,0 +1,260 @@
+package com.webforj.libraries.shoelace.components;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides which toasts of a {@link ToastStack} are shown, which wait, and how
+ * repeated toasts are counted and limited per category.
+ *
+ * <p>A toast is shown as long as fewer than the maximum are shown, and waits
+ * in a bounded queue otherwise. A toast with the same variant and message as
+ * one that is shown or waiting only raises the count of that one. Toasts of a
+ * category beyond its rate limit are counted in a single summary toast of the
+ * category.</p>
+ *
+ * <p>Instances are not thread safe.</p>
+ */
+final class ToastQueue {
+
+  /**
+   * Shows the toasts chosen by the queue.
+   */
+  interface Display {
+
+    /**
+     * Shows a toast. It counts as shown until {@link #hidden(Toast)} is called.
+     *
+     * @param toast the toast
+     */
+    void show(Toast toast);
+
+    /**
+     * Updates a shown toast whose count went up.
+     *
+     * @param toast the toast
+     */
+    void update(Toast toast);
+  }
+
+  /**
+   * A toast, shown or waiting.
+   */
+  static final class Toast {
+    private final String key;
+    private final String category;
+    private final String message;
+    private final Alert.Variant variant;
+    private final boolean summary;
+    private int count = 1;
+
+    private Toast(String key, String category, String message, Alert.Variant variant, boolean summary) {
+      this.key = key;
+      this.category = category;
+      this.message = message;
+      this.variant = variant;
+      this.summary = summary;
+    }
+
+    String getCategory() {
+      return category;
+    }
+
+    /**
+     * Gets the message.
+     *
+     * @return the message, or {@code null} for a summary toast
+     */
+    String getMessage() {
+      return message;
+    }
+
+    Alert.Variant getVariant() {
+      return variant;
+    }
+
+    /**
+     * Checks whether the toast counts the toasts of its category beyond the rate limit.
+     *
+     * @return true for a summary toast
+     */
+    boolean isSummary() {
+      return summary;
+    }
+
+    /**
+     * Gets how many times the toast was offered, or for a summary toast, how many toasts it stands for.
+     *
+     * @return the count
+     */
+    int getCount() {
+      return count;
+    }
+  }
+
+  private static final class RateLimit {
+    private long windowStart;
+    private int shown;
+  }
+
+  private final Display display;
+  private final LongSupplier clock;
+  private final List<Toast> visible = new ArrayList<>();
+  private final LinkedHashMap<String, Toast> queue = new LinkedHashMap<>();
+  private final Map<String, RateLimit> limits = new HashMap<>();
+  private int maxVisible = 3;
+  private int maxQueued = 50;
+  private int toastsPerInterval = 5;
+  private long rateIntervalMillis = 10_000;
+
+  /**
+   * Creates a queue.
+   *
+   * @param display shows the toasts
+   * @param clock the current time in milliseconds
+   */
+  ToastQueue(Display display, LongSupplier clock) {
+    this.display = display;
+    this.clock = clock;
+  }
+
+  /**
+   * Shows a toast, queues it, or counts it on an existing toast.
+   *
+   * @param category the category the rate limit applies to
+   * @param message the message
+   * @param variant the variant
+   */
+  void offer(String category, String message, Alert.Variant variant) {
+    String key = variant.getValue() + "\n" + message;
+    if (increment(key)) {
+      return;
+    }
+
+    RateLimit limit = limits.computeIfAbsent(category, c -> new RateLimit());
+    long now = clock.getAsLong();
+    if (now - limit.windowStart >= rateIntervalMillis) {
+      limit.windowStart = now;
+      limit.shown = 0;
+    }
+
+    if (limit.shown < toastsPerInterval) {
+      limit.shown++;
+      enqueue(new Toast(key, category, message, variant, false));
+    } else {
+      String summaryKey = "\n" + category;
+      if (!increment(summaryKey)) {
+        enqueue(new Toast(summaryKey, category, null, variant, true));
+      }
+    }
+  }
+
+  /**
+   * Releases a shown toast once it is hidden, and shows the next waiting toasts.
+   *
+   * @param toast the toast
+   */
+  void hidden(Toast toast) {
+    if (visible.remove(toast)) {
+      showQueued();
+    }
+  }
+
+  /**
+   * Drops all waiting toasts. Shown toasts stay shown until hidden.
+   */
+  void clear() {
+    queue.clear();
+  }
+
+  /**
+   * Gets the shown toasts.
+   *
+   * @return the toasts, in the order they were shown
+   */
+  List<Toast> getVisible() {
+    return Collections.unmodifiableList(visible);
+  }
+
+  /**
+   * Gets the waiting toasts.
+   *
+   * @return the toasts, oldest first
+   */
+  List<Toast> getQueued() {
+    return List.copyOf(queue.values());
+  }
+
+  void setMaxVisible(int maxVisible) {
+    this.maxVisible = Math.max(1, maxVisible);
+    showQueued();
+  }
+
+  int getMaxVisible() {
+    return maxVisible;
+  }
+
+  void setMaxQueued(int maxQueued) {
+    this.maxQueued = Math.max(0, maxQueued);
+  }
+
+  int getMaxQueued() {
+    return maxQueued;
+  }
+
+  void setRateLimit(int toasts, long intervalMillis) {
+    this.toastsPerInterval = Math.max(1, toasts);
+    this.rateIntervalMillis = intervalMillis;
+  }
+
+  private boolean increment(String key) {
+    for (Toast toast : visible) {
+      if (toast.key.equals(key)) {
+        toast.count++;
+        display.update(toast);
+        return true;
+      }
+    }
+
+    Toast queued = queue.get(key);
+    if (queued != null) {
+      queued.count++;
+      return true;
+    }
+    return false;
+  }
+
+  private void enqueue(Toast toast) {
+    if (visible.size() < maxVisible) {
+      show(toast);
+      return;
+    }
+
+    queue.put(toast.key, toast);
+    Iterator<Toast> oldest = queue.values().iterator();
+    while (queue.size() > maxQueued && oldest.hasNext()) {
+      oldest.next();
+      oldest.remove();
+    }
+  }
+
+  private void show(Toast toast) {
+    visible.add(toast);
+    display.show(toast);
+  }
+
+  private void showQueued() {
+    Iterator<Toast> next = queue.values().iterator();
+    while (visible.size() < maxVisible && next.hasNext()) {
+      Toast toast = next.next();
+      next.remove();
+      show(toast);
+    }
+  }
+}
@@ -0,0 +1,289 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.html.elements.Span;
+import com.webforj.concern.HasStyle;
+import com.webforj.environment.ObjectTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A queue of toast notifications shown with a small, recycled pool of {@link Alert}s.
+ *
+ * <p>At most {@link #setMaxVisible(int)} toasts are shown at once, and further
+ * toasts wait in a bounded queue. A toast with the same variant and message
+ * as one that is shown or queued is not added again. Instead, a count badge
+ * on the existing toast goes up. Each category may show a limited number of
+ * toasts per interval. Toasts beyond the limit are merged into a single
+ * summary toast of the category, so an error storm of 300 failed rows shows
+ * a few errors and one summary rather than 300 alerts.</p>
+ *
+ * <p>Toasts are shown by the alerts of a pool that only grows to the number of
+ * visible toasts. An alert is reused for the next queued toast once it has
+ * finished hiding.</p>
+ *
+ * <pre>{@code
+ * // Once, in the main layout
+ * add(new ToastStack());
+ *
+ * // Anywhere on the UI thread
+ * ToastStack.getCurrent().show("import", "Row 17: invalid date", Alert.Variant.DANGER);
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@NodeName("div")
+public class ToastStack extends ElementComposite implements HasStyle<ToastStack> {
+  private static final String KEY = ToastStack.class.getName();
+  private static final String DEFAULT_CATEGORY = "default";
+
+  private static final class Slot {
+    private final Alert alert = new Alert();
+    private final Span message = new Span();
+    private final Badge count = new Badge();
+    private final Span countWrapper = new Span();
+    private ToastQueue.Toast toast;
+  }
+
+  private final List<Slot> slots = new ArrayList<>();
+  private final ToastQueue queue = new ToastQueue(new ToastQueue.Display() {
+    @Override
+    public void show(ToastQueue.Toast toast) {
+      ToastStack.this.show(freeSlot(), toast);
+    }
+
+    @Override
+    public void update(ToastQueue.Toast toast) {
+      for (Slot slot : slots) {
+        if (slot.toast == toast) {
+          updateCount(slot);
+        }
+      }
+    }
+  }, System::currentTimeMillis);
+  private int duration = 5000;
+
+  /**
+   * Create a new toast stack and make it the stack of the current session.
+   */
+  public ToastStack() {
+    super();
+    setStyle("position", "fixed");
+    setStyle("top", "0");
+    setStyle("right", "0");
+    setStyle("z-index", "var(--sl-z-index-toast)");
+    setStyle("width", "28rem");
+    setStyle("max-width", "100%");
+    setStyle("padding", "var(--sl-spacing-medium)");
+    setStyle("display", "flex");
+    setStyle("flex-direction", "column");
+    setStyle("gap", "var(--sl-spacing-medium)");
+    setStyle("pointer-events", "none");
+    ObjectTable.put(KEY, this);
+  }
+
+  /**
+   * Gets the toast stack of the current session, the one created last.
+   *
+   * @return the toast stack
+   * @throws IllegalStateException if no toast stack was created in the session
+   */
+  public static ToastStack getCurrent() {
+    if (!ObjectTable.contains(KEY)) {
+      throw new IllegalStateException("No ToastStack was added in this session");
+    }
+    return (ToastStack) ObjectTable.get(KEY);
+  }
+
+  /**
+   * Shows a primary toast.
+   *
+   * @param message the message
+   * @return this instance
+   */
+  public ToastStack show(String message) {
+    return show(DEFAULT_CATEGORY, message, Alert.Variant.PRIMARY);
+  }
+
+  /**
+   * Shows a toast.
+   *
+   * @param message the message
+   * @param variant the variant
+   * @return this instance
+   */
+  public ToastStack show(String message, Alert.Variant variant) {
+    return show(DEFAULT_CATEGORY, message, variant);
+  }
+
+  /**
+   * Shows a toast in a category, subject to the rate limit of the category.
+   *
+   * @param category the category, for example the operation producing the toasts
+   * @param message the message
+   * @param variant the variant
+   * @return this instance
+   */
+  public ToastStack show(String category, String message, Alert.Variant variant) {
+    queue.offer(category, message, variant);
+    return this;
+  }
+
+  /**
+   * Hides all toasts and empties the queue.
+   */
+  public void clear() {
+    queue.clear();
+    for (Slot slot : slots) {
+      if (slot.toast != null) {
+        slot.alert.hide();
+      }
+    }
+  }
+
+  /**
+   * Sets how many toasts are shown at once.
+   *
+   * @param maxVisible the number of toasts (default: 3)
+   * @return this instance
+   */
+  public ToastStack setMaxVisible(int maxVisible) {
+    queue.setMaxVisible(maxVisible);
+    return this;
+  }
+
+  /**
+   * Gets how many toasts are shown at once.
+   *
+   * @return the number of toasts
+   */
+  public int getMaxVisible() {
+    return queue.getMaxVisible();
+  }
+
+  /**
+   * Sets how many toasts wait at most. When the queue is full, the oldest waiting toast is dropped.
+   *
+   * @param maxQueued the number of toasts (default: 50)
+   * @return this instance
+   */
+  public ToastStack setMaxQueued(int maxQueued) {
+    queue.setMaxQueued(maxQueued);
+    return this;
+  }
+
+  /**
+   * Gets how many toasts wait at most.
+   *
+   * @return the number of toasts
+   */
+  public int getMaxQueued() {
+    return queue.getMaxQueued();
+  }
+
+  /**
+   * Sets how long a toast is shown.
+   *
+   * @param duration the duration in milliseconds (default: 5000)
+   * @return this instance
+   */
+  public ToastStack setDuration(int duration) {
+    this.duration = duration;
+    return this;
+  }
+
+  /**
+   * Gets how long a toast is shown.
+   *
+   * @return the duration in milliseconds
+   */
+  public int getDuration() {
+    return duration;
+  }
+
+  /**
+   * Sets how many toasts of one category are shown per interval. Further toasts
+   * of the category in the interval are counted in a summary toast.
+   *
+   * @param toasts the number of toasts (default: 5)
+   * @param intervalMillis the interval in milliseconds (default: 10000)
+   * @return this instance
+   */
+  public ToastStack setRateLimit(int toasts, long intervalMillis) {
+    queue.setRateLimit(toasts, intervalMillis);
+    return this;
+  }
+
+  /**
+   * Gets the number of toasts shown.
+   *
+   * @return the number of toasts
+   */
+  public int getVisibleCount() {
+    return queue.getVisible().size();
+  }
+
+  /**
+   * Gets the number of toasts waiting to be shown.
+   *
+   * @return the number of toasts
+   */
+  public int getQueuedCount() {
+    return queue.getQueued().size();
+  }
+
+  private Slot freeSlot() {
+    for (Slot slot : slots) {
+      if (slot.toast == null) {
+        return slot;
+      }
+    }
+    return createSlot();
+  }
+
+  private Slot createSlot() {
+    Slot slot = new Slot();
+    slot.count.setPill(true);
+    slot.countWrapper.setStyle("margin-left", "var(--sl-spacing-x-small)");
+    slot.countWrapper.add(slot.count);
+    slot.alert.setStyle("pointer-events", "auto");
+    slot.alert.setClosable(true);
+    slot.alert.add(slot.message, slot.countWrapper);
+    slot.alert.onAfterHide(e -> release(slot));
+    slots.add(slot);
+    getBoundComponent().add(slot.alert);
+    return slot;
+  }
+
+  private void show(Slot slot, ToastQueue.Toast toast) {
+    slot.toast = toast;
+    slot.alert.setVariant(toast.getVariant());
+    slot.alert.setDuration(duration);
+    updateCount(slot);
+    slot.alert.show();
+  }
+
+  private void updateCount(Slot slot) {
+    ToastQueue.Toast toast = slot.toast;
+    if (toast.isSummary()) {
+      int count = toast.getCount();
+      slot.message.setText(count + (count == 1 ? " more notification" : " more notifications"));
+      slot.countWrapper.setStyle("display", "none");
+      return;
+    }
+
+    slot.message.setText(toast.getMessage());
+    slot.count.setHtml(String.valueOf(toast.getCount()));
+    slot.countWrapper.setStyle("display", toast.getCount() > 1 ? "inline" : "none");
+  }
+
+  private void release(Slot slot) {
+    ToastQueue.Toast toast = slot.toast;
+    slot.toast = null;
+    if (toast != null) {
+      queue.hidden(toast);
+    }
+  }
+}
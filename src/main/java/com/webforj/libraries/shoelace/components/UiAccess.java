@@ -0,0 +1,304 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.Interval;
+import com.webforj.environment.ObjectTable;
+
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs blocking work off the UI thread and applies the results back on it.
+ *
+ * <p>Tasks run on virtual threads, so a slow remote call only parks its own
+ * thread and the session keeps handling other events. Completed results are
+ * queued and applied together on the UI thread by a short interval, which only
+ * runs while tasks are outstanding. A task counts as outstanding until its
+ * thread has left it, even when it was cancelled and ignores the interrupt.</p>
+ *
+ * <p>The same interval is the single pump of the session for the other
+ * classes of this package receiving data from other threads, such as
+ * {@link LiveValues} and {@link BroadcastHub}. An interval can only be started
+ * on the UI thread, so while such sources are attached but have nothing
+ * pending, the pump keeps polling at a slow idle rate. It returns to its fast
+ * rate as soon as a source is woken up, and stops once no task is outstanding
+ * and no source is attached. Sources that can wait for the next interaction
+ * are observed instead of attached: they are polled on every tick while the
+ * pump runs anyway, but do not keep it running.</p>
+ *
+ * <p>There is one instance per session, obtained with {@link #getCurrent()}
+ * from the UI thread.</p>
+ *
+ * <pre>{@code
+ * UiAccess.getCurrent().runAsync(
+ *     () -> vatService.lookup(number),
+ *     (company, error) -> companyName.setValue(error == null ? company.getName() : ""));
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class UiAccess {
+  private static final String KEY = UiAccess.class.getName();
+  private static final float TICK_SECONDS = 0.05f;
+  private static final float IDLE_SECONDS = 0.25f;
+  private static final ThreadLocal<UiAccess> RUNNING = new ThreadLocal<>();
+  static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final Thread uiThread = Thread.currentThread();
+  private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+  private final Set<Source> sources = new LinkedHashSet<>();
+  private final Set<Source> observers = new LinkedHashSet<>();
+  private final Interval interval = new Interval(TICK_SECONDS, e -> drain());
+  private float delay = TICK_SECONDS;
+  private volatile boolean woken;
+  private int outstanding;
+
+  /**
+   * Work polled by the pump of the session on every tick, on the UI thread.
+   */
+  @FunctionalInterface
+  interface Source {
+
+    /**
+     * Handles what arrived since the last tick.
+     *
+     * @return true if the source still has pending work and needs the fast rate
+     */
+    boolean poll();
+  }
+
+  private UiAccess() {
+  }
+
+  /**
+   * Gets the instance of the current session. Must be called on the UI thread.
+   *
+   * @return the instance
+   */
+  public static UiAccess getCurrent() {
+    if (ObjectTable.contains(KEY)) {
+      return (UiAccess) ObjectTable.get(KEY);
+    }
+
+    UiAccess access = new UiAccess();
+    ObjectTable.put(KEY, access);
+    return access;
+  }
+
+  /**
+   * Runs a task on a virtual thread and passes its outcome to the callback on
+   * the UI thread. Must be called on the UI thread.
+   *
+   * <p>The callback receives either the result or the exception thrown by the
+   * task. It is not called when the returned future is cancelled.</p>
+   *
+   * @param <T> the result type
+   * @param task the blocking work
+   * @param callback receives the result and {@code null}, or {@code null} and the exception
+   * @return a future that can be cancelled, interrupting the task
+   */
+  public <T> Future<T> runAsync(Callable<T> task, BiConsumer<? super T, Throwable> callback) {
+    return runAsync(task, callback, null);
+  }
+
+  /**
+   * Runs a task like {@link #runAsync(Callable, BiConsumer)} and additionally
+   * calls {@code exited} on the UI thread once the thread has left the task,
+   * however it ended. For a cancelled task, this may be well after the cancel.
+   */
+  <T> Future<T> runAsync(Callable<T> task, BiConsumer<? super T, Throwable> callback, Runnable exited) {
+    FutureTask<T> future = new FutureTask<>(task) {
+      @Override
+      public void run() {
+        RUNNING.set(UiAccess.this);
+        try {
+          super.run();
+        } finally {
+          RUNNING.remove();
+          queue.add(() -> {
+            outstanding--;
+            if (exited != null) {
+              exited.run();
+            }
+          });
+        }
+      }
+
+      @Override
+      protected void done() {
+        queue.add(() -> complete(this, callback));
+      }
+    };
+
+    await();
+    EXECUTOR.execute(future);
+    return future;
+  }
+
+  /**
+   * Passes the outcome of a stage to the callback on the UI thread once it
+   * completes. Must be called on the UI thread.
+   *
+   * <p>The stage counts as outstanding until it completes, so a stage that
+   * may never complete must be given up by cancelling the returned future.
+   * The callback is then not called, and the stage itself is left alone.</p>
+   *
+   * @param <T> the result type
+   * @param stage the stage, completed on any thread
+   * @param callback receives the result and {@code null}, or {@code null} and the exception
+   * @return a future that can be cancelled to stop waiting for the stage
+   */
+  public <T> Future<T> whenComplete(CompletionStage<T> stage, BiConsumer<? super T, Throwable> callback) {
+    CompletableFuture<T> waiting = new CompletableFuture<>();
+    await();
+    waiting.whenComplete((result, error) -> queue.add(() -> {
+      outstanding--;
+      if (!waiting.isCancelled()) {
+        callback.accept(result, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+      }
+    }));
+    stage.whenComplete((result, error) -> {
+      if (error != null) {
+        waiting.completeExceptionally(error);
+      } else {
+        waiting.complete(result);
+      }
+    });
+    return waiting;
+  }
+
+  /**
+   * Runs an update on the UI thread. Must be called from a task started with
+   * {@link #runAsync(Callable, BiConsumer)} while it is still running, on the
+   * thread running it, or on the UI thread, where the update is deferred to
+   * the next tick. Updates run in the order they were made, and before the
+   * callback of the task making them.
+   *
+   * <p>Other threads, such as threads started by a task, cannot wake up the
+   * UI thread and must hand their results to the task instead.</p>
+   *
+   * @param update the update
+   * @throws IllegalStateException if called from another thread
+   */
+  public void access(Runnable update) {
+    if (RUNNING.get() == this) {
+      queue.add(update);
+    } else if (Thread.currentThread() == uiThread) {
+      await();
+      queue.add(() -> {
+        outstanding--;
+        update.run();
+      });
+    } else {
+      throw new IllegalStateException("UiAccess.access must be called from a running task or the UI thread");
+    }
+  }
+
+  private static <T> void complete(FutureTask<T> future, BiConsumer<? super T, Throwable> callback) {
+    if (future.isCancelled()) {
+      return;
+    }
+
+    T result;
+    try {
+      result = future.get();
+    } catch (ExecutionException e) {
+      callback.accept(null, e.getCause());
+      return;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    callback.accept(result, null);
+  }
+
+  /**
+   * Polls the source on every tick of the pump until it is detached. Must be called on the UI thread.
+   */
+  void attach(Source source) {
+    sources.add(source);
+    schedule(TICK_SECONDS);
+  }
+
+  /**
+   * Stops polling the source. Must be called on the UI thread.
+   */
+  void detach(Source source) {
+    sources.remove(source);
+  }
+
+  /**
+   * Polls the source on every tick while the pump runs for tasks or attached
+   * sources, without keeping it running. Must be called on the UI thread.
+   */
+  void observe(Source source) {
+    observers.add(source);
+  }
+
+  /**
+   * Stops observing the source. Must be called on the UI thread.
+   */
+  void unobserve(Source source) {
+    observers.remove(source);
+  }
+
+  /**
+   * Returns the pump to its fast rate on its next tick. May be called from any thread.
+   */
+  void wake() {
+    woken = true;
+  }
+
+  private void await() {
+    outstanding++;
+    schedule(TICK_SECONDS);
+  }
+
+  private void drain() {
+    woken = false;
+    Runnable next;
+    while ((next = queue.poll()) != null) {
+      next.run();
+    }
+
+    boolean busy = outstanding > 0;
+    for (Source source : sources.toArray(new Source[0])) {
+      busy |= source.poll();
+    }
+    for (Source source : observers.toArray(new Source[0])) {
+      busy |= source.poll();
+    }
+
+    if (busy || woken || !queue.isEmpty()) {
+      schedule(TICK_SECONDS);
+    } else if (!sources.isEmpty()) {
+      schedule(IDLE_SECONDS);
+    } else {
+      interval.stop();
+    }
+  }
+
+  private void schedule(float seconds) {
+    if (delay != seconds) {
+      delay = seconds;
+      interval.setDelay(seconds);
+      if (interval.isRunning()) {
+        interval.restart();
+      }
+    }
+    if (!interval.isRunning()) {
+      interval.start();
+    }
+  }
+}
@@ -0,0 +1,415 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.NodeName;
+import com.webforj.component.element.event.ElementEventOptions;
+import com.webforj.concern.HasStyle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A scrolling container that only keeps the visible items in the DOM.
+ *
+ * <p>Items come from a {@link DataProvider} and are rendered into a small pool
+ * of components created by a factory. As the user scrolls, the browser reports
+ * the visible range. The server then fetches only the items that became
+ * visible and updates the pool components that scrolled out of view with them.
+ * Memory on both sides is bounded by the viewport, not by the number of
+ * items.</p>
+ *
+ * <p>Items may have different heights. The browser measures each rendered
+ * item and keeps the offsets in a Fenwick tree, so positioning stays
+ * logarithmic in the number of items. Items not measured yet are assumed to
+ * be {@link #setEstimatedItemHeight(int)} tall. With
+ * {@link #setColumns(int)} the items are laid out as a grid, and each row is
+ * as tall as its tallest item.</p>
+ *
+ * <pre>{@code
+ * VirtualList<Customer, CustomerCard> directory =
+ *     new VirtualList<>(CustomerCard::new, CustomerCard::show);
+ *
+ * directory.setStyle("height", "600px");
+ * directory.setColumns(3).setEstimatedItemHeight(180);
+ * directory.setDataProvider(VirtualList.DataProvider.of(customerRepository.findAll()));
+ * }</pre>
+ *
+ * <p>The container must be given a height, since it scrolls its own content.</p>
+ *
+ * @param <T> the item type
+ * @param <C> the component type rendering an item
+ * @since 1.0.0
+ */
+@NodeName("div")
+public class VirtualList<T, C extends ElementComposite> extends ElementComposite implements HasStyle<VirtualList<T, C>> {
+
+  /**
+   * Supplies the items of a {@link VirtualList} on demand.
+   *
+   * @param <T> the item type
+   */
+  public interface DataProvider<T> {
+
+    /**
+     * Gets the number of items.
+     *
+     * @return the number of items
+     */
+    int size();
+
+    /**
+     * Fetches a range of items.
+     *
+     * @param offset the index of the first item
+     * @param limit the number of items to fetch
+     * @return the items, in order
+     */
+    List<T> fetch(int offset, int limit);
+
+    /**
+     * Creates a provider backed by a list.
+     *
+     * @param <T> the item type
+     * @param items the items
+     * @return the provider
+     */
+    static <T> DataProvider<T> of(List<T> items) {
+      return new DataProvider<>() {
+        @Override
+        public int size() {
+          return items.size();
+        }
+
+        @Override
+        public List<T> fetch(int offset, int limit) {
+          return items.subList(offset, Math.min(items.size(), offset + limit));
+        }
+      };
+    }
+  }
+
+  private static final class Slot<C> {
+    private final C component;
+    private final String ref;
+    private int index = -1;
+
+    private Slot(C component, String ref) {
+      this.component = component;
+      this.ref = ref;
+    }
+  }
+
+  private final Supplier<? extends C> factory;
+  private final BiConsumer<? super C, ? super T> renderer;
+  private final List<Slot<C>> slots = new ArrayList<>();
+  private DataProvider<T> provider = DataProvider.of(List.of());
+  private int size;
+  private int columns = 1;
+  private int estimatedItemHeight = 48;
+  private int overscan = 4;
+
+  /**
+   * Create a new virtual list.
+   *
+   * @param factory creates the components of the pool
+   * @param renderer shows an item in a pool component
+   */
+  public VirtualList(Supplier<? extends C> factory, BiConsumer<? super C, ? super T> renderer) {
+    super();
+    this.factory = factory;
+    this.renderer = renderer;
+
+    getElement().executeJsVoidAsync(CLIENT_SCRIPT);
+    getElement().addEventListener("slw-range",
+        e -> showRange(((Number) e.getData().get("first")).intValue(), ((Number) e.getData().get("last")).intValue()),
+        new ElementEventOptions()
+            .addData("first", "event.detail.first")
+            .addData("last", "event.detail.last"));
+    sendLayout();
+  }
+
+  /**
+   * Sets the items.
+   *
+   * @param items the items
+   * @return this instance
+   */
+  public VirtualList<T, C> setItems(List<T> items) {
+    return setDataProvider(DataProvider.of(items));
+  }
+
+  /**
+   * Sets the provider of the items.
+   *
+   * @param provider the provider
+   * @return this instance
+   */
+  public VirtualList<T, C> setDataProvider(DataProvider<T> provider) {
+    this.provider = provider;
+    refresh();
+    return this;
+  }
+
+  /**
+   * Gets the provider of the items.
+   *
+   * @return the provider
+   */
+  public DataProvider<T> getDataProvider() {
+    return provider;
+  }
+
+  /**
+   * Reloads the size and the visible items from the provider.
+   */
+  public void refresh() {
+    for (Slot<C> slot : slots) {
+      slot.index = -1;
+    }
+    sendLayout();
+  }
+
+  /**
+   * Sets the number of items per row.
+   *
+   * @param columns the number of columns (default: 1)
+   * @return this instance
+   */
+  public VirtualList<T, C> setColumns(int columns) {
+    this.columns = Math.max(1, columns);
+    refresh();
+    return this;
+  }
+
+  /**
+   * Gets the number of items per row.
+   *
+   * @return the number of columns
+   */
+  public int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Sets the height assumed for rows that have not been measured yet.
+   *
+   * @param height the height in pixels (default: 48)
+   * @return this instance
+   */
+  public VirtualList<T, C> setEstimatedItemHeight(int height) {
+    this.estimatedItemHeight = height;
+    refresh();
+    return this;
+  }
+
+  /**
+   * Gets the height assumed for rows that have not been measured yet.
+   *
+   * @return the height in pixels
+   */
+  public int getEstimatedItemHeight() {
+    return estimatedItemHeight;
+  }
+
+  /**
+   * Sets how many rows beyond each edge of the viewport are kept rendered.
+   *
+   * @param overscan the number of rows (default: 4)
+   * @return this instance
+   */
+  public VirtualList<T, C> setOverscan(int overscan) {
+    this.overscan = Math.max(0, overscan);
+    refresh();
+    return this;
+  }
+
+  /**
+   * Gets how many rows beyond each edge of the viewport are kept rendered.
+   *
+   * @return the number of rows
+   */
+  public int getOverscan() {
+    return overscan;
+  }
+
+  /**
+   * Gets the number of components created to render items.
+   *
+   * @return the pool size
+   */
+  public int getPoolSize() {
+    return slots.size();
+  }
+
+  private void sendLayout() {
+    size = provider.size();
+    getElement().callJsFunctionVoidAsync("__slwSetLayout", size, columns, estimatedItemHeight, overscan);
+  }
+
+  private void showRange(int first, int last) {
+    int from = Math.max(0, first);
+    int to = Math.min(size - 1, last);
+
+    Map<Integer, Slot<C>> shown = new HashMap<>();
+    Deque<Slot<C>> free = new ArrayDeque<>();
+    for (Slot<C> slot : slots) {
+      if (slot.index >= from && slot.index <= to) {
+        shown.put(slot.index, slot);
+      } else {
+        free.add(slot);
+      }
+    }
+
+    int missingFrom = -1;
+    int missingTo = -1;
+    for (int index = from; index <= to; index++) {
+      if (!shown.containsKey(index)) {
+        missingFrom = missingFrom < 0 ? index : missingFrom;
+        missingTo = index;
+      }
+    }
+
+    List<Object[]> changes = new ArrayList<>();
+    if (missingFrom >= 0) {
+      List<T> items = provider.fetch(missingFrom, missingTo - missingFrom + 1);
+      for (int index = missingFrom; index <= missingTo && index - missingFrom < items.size(); index++) {
+        if (shown.containsKey(index)) {
+          continue;
+        }
+
+        Slot<C> slot = free.isEmpty() ? createSlot() : free.poll();
+        renderer.accept(slot.component, items.get(index - missingFrom));
+        slot.index = index;
+        changes.add(new Object[] {slot.ref, index});
+      }
+    }
+
+    for (Slot<C> slot : free) {
+      if (slot.index >= 0) {
+        slot.index = -1;
+        changes.add(new Object[] {slot.ref, -1});
+      }
+    }
+
+    if (!changes.isEmpty()) {
+      getElement().callJsFunctionVoidAsync("__slwPlaceItems", Json.write(changes));
+    }
+  }
+
+  private Slot<C> createSlot() {
+    C component = factory.get();
+    getBoundComponent().add(component);
+    Slot<C> slot = new Slot<>(component, ClientBinding.refOf(component));
+    slots.add(slot);
+    return slot;
+  }
+
+  private static final String CLIENT_SCRIPT =
+    "if (!component.__slwSetLayout) {" +
+    "  component.style.position = 'relative';" +
+    "  component.style.overflowY = 'auto';" +
+    "  const spacer = document.createElement('div');" +
+    "  spacer.style.cssText = 'position:absolute;top:0;left:0;width:1px;visibility:hidden';" +
+    "  component.append(spacer);" +
+    "  let size = 0, columns = 1, estimate = 48, overscan = 4, rows = 0, requested = '', frame = 0;" +
+    "  let heights = new Float64Array(0), tree = new Float64Array(1);" +
+    "  const slots = new Map();" +
+    "  const add = (row, delta) => { for (let i = row + 1; i <= rows; i += i & -i) tree[i] += delta; };" +
+    "  const offsetOf = (row) => { let sum = 0; for (let i = row; i > 0; i -= i & -i) sum += tree[i]; return sum; };" +
+    "  const rowAt = (offset) => {" +
+    "    let pos = 0, rest = offset, step = 1;" +
+    "    while (step * 2 <= rows) step *= 2;" +
+    "    for (; step > 0; step >>= 1) {" +
+    "      if (pos + step <= rows && tree[pos + step] <= rest) { pos += step; rest -= tree[pos]; }" +
+    "    }" +
+    "    return Math.min(pos, rows - 1);" +
+    "  };" +
+    "  const place = (el, index) => {" +
+    "    el.style.transform = 'translateY(' + offsetOf(Math.floor(index / columns)) + 'px)';" +
+    "    el.style.left = (index % columns) * 100 / columns + '%';" +
+    "    el.style.width = 100 / columns + '%';" +
+    "  };" +
+    "  const update = () => {" +
+    "    let first = 0, last = -1;" +
+    "    if (rows) {" +
+    "      first = Math.max(0, rowAt(component.scrollTop) - overscan);" +
+    "      last = Math.min(rows - 1, rowAt(component.scrollTop + component.clientHeight) + overscan);" +
+    "    }" +
+    "    const key = first + ':' + last;" +
+    "    if (key === requested) return;" +
+    "    requested = key;" +
+    "    component.dispatchEvent(new CustomEvent('slw-range', {" +
+    "      detail: {first: first * columns, last: Math.min(size - 1, (last + 1) * columns - 1)}" +
+    "    }));" +
+    "  };" +
+    "  const measureRows = (changed) => {" +
+    "    let moved = false;" +
+    "    changed.forEach((row) => {" +
+    "      let height = 0;" +
+    "      slots.forEach((index, el) => { if (index >= 0 && Math.floor(index / columns) === row) height = Math.max(height, el.offsetHeight); });" +
+    "      if (height > 0 && row < rows && height !== heights[row]) { add(row, height - heights[row]); heights[row] = height; moved = true; }" +
+    "    });" +
+    "    if (!moved) return;" +
+    "    spacer.style.height = offsetOf(rows) + 'px';" +
+    "    slots.forEach((index, el) => { if (index >= 0) place(el, index); });" +
+    "    update();" +
+    "  };" +
+    "  const measure = new ResizeObserver((entries) => {" +
+    "    const changed = new Set();" +
+    "    entries.forEach((entry) => {" +
+    "      const index = slots.get(entry.target);" +
+    "      if (index !== undefined && index >= 0) changed.add(Math.floor(index / columns));" +
+    "    });" +
+    "    measureRows(changed);" +
+    "  });" +
+    "  component.addEventListener('scroll', () => {" +
+    "    if (!frame) frame = requestAnimationFrame(() => { frame = 0; update(); });" +
+    "  }, {passive: true});" +
+    "  new ResizeObserver(() => update()).observe(component);" +
+    "  component.__slwSetLayout = (newSize, newColumns, newEstimate, newOverscan) => {" +
+    "    size = newSize; columns = newColumns; estimate = newEstimate; overscan = newOverscan;" +
+    "    rows = Math.ceil(size / columns);" +
+    "    heights = new Float64Array(rows).fill(estimate);" +
+    "    tree = new Float64Array(rows + 1);" +
+    "    for (let i = 1; i <= rows; i++) {" +
+    "      tree[i] += estimate;" +
+    "      const parent = i + (i & -i);" +
+    "      if (parent <= rows) tree[parent] += tree[i];" +
+    "    }" +
+    "    spacer.style.height = offsetOf(rows) + 'px';" +
+    "    slots.forEach((index, el) => { slots.set(el, -1); el.style.display = 'none'; });" +
+    "    requested = '';" +
+    "    update();" +
+    "  };" +
+    "  component.__slwPlaceItems = (json, attempt = 0) => {" +
+    "    const missing = [];" +
+    "    const moved = new Set();" +
+    "    JSON.parse(json).forEach(([ref, index]) => {" +
+    "      const el = component.querySelector(':scope > [data-slw-ref=\"' + ref + '\"]');" +
+    "      if (!el) { missing.push([ref, index]); return; }" +
+    "      if (!slots.has(el)) {" +
+    "        el.style.position = 'absolute';" +
+    "        el.style.top = '0';" +
+    "        el.style.boxSizing = 'border-box';" +
+    "        measure.observe(el);" +
+    "      }" +
+    "      if (index >= 0 && slots.get(el) !== index) moved.add(Math.floor(index / columns));" +
+    "      slots.set(el, index);" +
+    "      el.style.display = index < 0 ? 'none' : '';" +
+    "      if (index >= 0) place(el, index);" +
+    "    });" +
+    // A recycled item keeping its size is not reported by the observer, so the rows it
+    // moved into are measured once their new content is laid out
+    "    if (moved.size) requestAnimationFrame(() => measureRows(moved));" +
+    "    if (missing.length && attempt < 10) {" +
+    "      requestAnimationFrame(() => component.__slwPlaceItems(JSON.stringify(missing), attempt + 1));" +
+    "    }" +
+    "  };" +
+    "}";
+}
@@ -0,0 +1,232 @@
+package com.webforj.libraries.shoelace.components;
+
+import com.webforj.Page;
+import com.webforj.component.element.ElementComposite;
+import com.webforj.environment.ObjectTable;
+
+/**
+ * Pauses animated components while nobody can see them.
+ *
+ * <p>Once enabled, the manager watches every {@link Carousel},
+ * {@link Animation}, {@link AnimatedImage}, {@link Spinner}, {@link Skeleton}
+ * and {@link ProgressBar} on the page, including those added later. A
+ * component scrolled out of view is paused: its CSS and Web Animations are
+ * held, carousel autoplay is suspended and animated images stop. When the
+ * browser tab is hidden, all of them are paused. Each resumes where it
+ * stopped as soon as it can be seen again. All of this happens in the
+ * browser, without messages to the server.</p>
+ *
+ * <p>In a low-power mode, components stay paused even when visible. The
+ * {@link LowPowerMode#REDUCED_MOTION} mode follows the reduced motion
+ * preference of the operating system, so kiosks and users who turned off
+ * animations save their CPU and battery too.</p>
+ *
+ * <pre>{@code
+ * VisibilityManager.getCurrent()
+ *     .setLowPowerMode(VisibilityManager.LowPowerMode.REDUCED_MOTION)
+ *     .enable();
+ *
+ * // Opt in a custom component, or opt out one that must keep running
+ * VisibilityManager.getCurrent().manage(liveChart).exclude(recordingIndicator);
+ * }</pre>
+ *
+ * <p>There is one instance per session, obtained with {@link #getCurrent()} from the UI thread.</p>
+ *
+ * @since 1.0.0
+ */
+public final class VisibilityManager {
+  private static final String KEY = VisibilityManager.class.getName();
+  private static final String ATTRIBUTE = "data-slw-visibility";
+  private static final String SELECTOR =
+      "sl-carousel, sl-animation, sl-animated-image, sl-spinner, sl-skeleton, sl-progress-bar, [" + ATTRIBUTE + "=\"manage\"]";
+
+  /**
+   * When visible components are paused as well.
+   */
+  public enum LowPowerMode {
+    /** Only invisible components are paused */
+    OFF("off"),
+    /** Visible components are paused while the user prefers reduced motion */
+    REDUCED_MOTION("reduced-motion"),
+    /** Visible components are always paused */
+    ALWAYS("always");
+
+    private final String value;
+
+    LowPowerMode(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  private boolean enabled;
+  private LowPowerMode lowPowerMode = LowPowerMode.OFF;
+
+  private VisibilityManager() {
+  }
+
+  /**
+   * Gets the instance of the current session. Must be called on the UI thread.
+   *
+   * @return the instance
+   */
+  public static VisibilityManager getCurrent() {
+    if (ObjectTable.contains(KEY)) {
+      return (VisibilityManager) ObjectTable.get(KEY);
+    }
+
+    VisibilityManager manager = new VisibilityManager();
+    ObjectTable.put(KEY, manager);
+    return manager;
+  }
+
+  /**
+   * Starts watching the components of the page.
+   *
+   * @return this instance
+   */
+  public VisibilityManager enable() {
+    if (!enabled) {
+      enabled = true;
+      configure();
+    }
+    return this;
+  }
+
+  /**
+   * Checks whether the components of the page are watched.
+   *
+   * @return true if enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets when visible components are paused as well.
+   *
+   * @param lowPowerMode the mode (default: {@link LowPowerMode#OFF})
+   * @return this instance
+   */
+  public VisibilityManager setLowPowerMode(LowPowerMode lowPowerMode) {
+    this.lowPowerMode = lowPowerMode;
+    if (enabled) {
+      configure();
+    }
+    return this;
+  }
+
+  /**
+   * Gets when visible components are paused as well.
+   *
+   * @return the mode
+   */
+  public LowPowerMode getLowPowerMode() {
+    return lowPowerMode;
+  }
+
+  /**
+   * Watches a component not watched by default, pausing its animations while
+   * it is invisible. Enables the manager.
+   *
+   * @param component the component
+   * @return this instance
+   */
+  public VisibilityManager manage(ElementComposite component) {
+    component.getElement().setAttribute(ATTRIBUTE, "manage");
+    return enable();
+  }
+
+  /**
+   * Stops watching a component, which then keeps running when invisible.
+   *
+   * @param component the component
+   * @return this instance
+   */
+  public VisibilityManager exclude(ElementComposite component) {
+    component.getElement().setAttribute(ATTRIBUTE, "ignore");
+    return this;
+  }
+
+  private void configure() {
+    Page.getCurrent().executeJsVoidAsync(String.format(SCRIPT, Json.quote(lowPowerMode.getValue()), Json.quote(SELECTOR)));
+  }
+
+  private static final String SCRIPT =
+    "(() => {" +
+    "if (window.__slwVisibility) { window.__slwVisibility.configure(%1$s); return; }" +
+    "const selector = %2$s;" +
+    "const motion = matchMedia('(prefers-reduced-motion: reduce)');" +
+    "const tracked = new Set();" +
+    "const hidden = new WeakSet();" +
+    "const paused = new Map();" +
+    "let lowPower = 'off';" +
+    "const suspended = () => document.hidden || lowPower === 'always'" +
+    "  || (lowPower === 'reduced-motion' && motion.matches);" +
+    "const animationsOf = (el) => new Set([...el.getAnimations({ subtree: true })," +
+    "  ...(el.shadowRoot ? el.shadowRoot.getAnimations() : [])]);" +
+    "const pause = (el) => {" +
+    "  const state = paused.get(el) || { animations: new Set() };" +
+    "  animationsOf(el).forEach((a) => {" +
+    "    if (a.playState === 'running') { a.pause(); state.animations.add(a); }" +
+    "  });" +
+    "  if (el.localName === 'sl-carousel' && el.autoplay) { state.autoplay = true; el.autoplay = false; }" +
+    "  if (el.localName === 'sl-animated-image' && el.play) { state.play = true; el.play = false; }" +
+    "  paused.set(el, state);" +
+    "};" +
+    "const resume = (el) => {" +
+    "  const state = paused.get(el);" +
+    "  if (!state) return;" +
+    "  paused.delete(el);" +
+    "  state.animations.forEach((a) => { if (a.playState === 'paused') a.play(); });" +
+    "  if (state.autoplay) el.autoplay = true;" +
+    "  if (state.play) el.play = true;" +
+    "};" +
+    "const update = (el) => (suspended() || hidden.has(el)) ? pause(el) : resume(el);" +
+    "const observer = new IntersectionObserver((entries) => entries.forEach((entry) => {" +
+    "  if (entry.isIntersecting) hidden.delete(entry.target); else hidden.add(entry.target);" +
+    "  update(entry.target);" +
+    "}));" +
+    "const untrack = (el) => {" +
+    "  observer.unobserve(el);" +
+    "  tracked.delete(el);" +
+    "  resume(el);" +
+    "};" +
+    "const track = (el) => {" +
+    "  if (tracked.has(el) || el.getAttribute('data-slw-visibility') === 'ignore') return;" +
+    "  tracked.add(el);" +
+    "  observer.observe(el);" +
+    "  update(el);" +
+    "};" +
+    "const scan = (node) => {" +
+    "  if (node.nodeType !== 1) return;" +
+    "  if (node.matches(selector)) track(node);" +
+    "  node.querySelectorAll(selector).forEach(track);" +
+    "};" +
+    "const prune = () => tracked.forEach((el) => { if (!el.isConnected) untrack(el); });" +
+    "new MutationObserver((mutations) => {" +
+    "  let removed = false;" +
+    "  mutations.forEach((mutation) => {" +
+    "    if (mutation.type === 'attributes') {" +
+    "      if (mutation.target.getAttribute('data-slw-visibility') === 'ignore') untrack(mutation.target);" +
+    "      else scan(mutation.target);" +
+    "      return;" +
+    "    }" +
+    "    mutation.addedNodes.forEach(scan);" +
+    "    removed = removed || mutation.removedNodes.length > 0;" +
+    "  });" +
+    "  if (removed) prune();" +
+    "}).observe(document.documentElement, {" +
+    "  childList: true, subtree: true, attributes: true, attributeFilter: ['data-slw-visibility']" +
+    "});" +
+    "const updateAll = () => tracked.forEach(update);" +
+    "document.addEventListener('visibilitychange', updateAll);" +
+    "motion.addEventListener('change', updateAll);" +
+    "window.__slwVisibility = { configure: (mode) => { lowPower = mode; updateAll(); } };" +
+    "lowPower = %1$s;" +
+    "scan(document.documentElement);" +
+    "})();";
+}
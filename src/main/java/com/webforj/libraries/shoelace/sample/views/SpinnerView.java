@@ -1,6 +1,7 @@
 package com.webforj.libraries.shoelace.sample.views;
 
 import com.webforj.libraries.shoelace.components.Spinner;
+import com.webforj.libraries.shoelace.components.TaskExecutor;
 import com.webforj.libraries.shoelace.sample.components.DocumentationLinks;
 import com.webforj.component.Composite;
 import com.webforj.component.button.Button;
@@ -270,25 +271,21 @@ public class SpinnerView extends Composite<FlexLayout> {
     Button loadingButton = new Button("Save");
     loadingButton.setTheme(ButtonTheme.PRIMARY);
 
-    final boolean[] isLoading = {false};
     loadingButton.onClick(e -> {
-      if (!isLoading[0]) {
-        isLoading[0] = true;
-        loadingButton.setText("Saving...");
-        loadingButton.setEnabled(false);
-
-        // Simulate async operation
-        new Thread(() -> {
-          try {
+      loadingButton.setText("Saving...");
+      loadingButton.setEnabled(false);
+
+      // Simulate async operation
+      TaskExecutor.getCurrent()
+          .submit(() -> {
             Thread.sleep(2000);
+            return null;
+          })
+          .cancelWith(this)
+          .whenComplete((result, error) -> {
             loadingButton.setText("Save");
             loadingButton.setEnabled(true);
-            isLoading[0] = false;
-          } catch (InterruptedException ex) {
-            // Handle exception
-          }
-        }).start();
-      }
+          });
     });
 
     buttonExample.add(buttonLabel, loadingButton);
@@ -0,0 +1,169 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for the EditSync rebasing used by Textarea incremental sync.
+ */
+public class EditSyncTest {
+
+    /**
+     * An edit in flight, with the index and seen count it was sent with.
+     */
+    private record Message(int index, int seen, EditSync.Edit edit) {
+    }
+
+    private static Message send(EditSync side, EditSync.Edit edit) {
+        Message message = new Message(side.sent(), side.received(), edit);
+        side.local(edit);
+        return message;
+    }
+
+    private static EditSync side(boolean wins, String text) {
+        EditSync sync = new EditSync(wins);
+        sync.reset(text);
+        return sync;
+    }
+
+    @Test
+    public void testServerEditCrossingClientDelta() {
+        EditSync server = side(true, "Hello world");
+        EditSync client = side(false, "Hello world");
+
+        // Both sides edit version 0 before seeing the other edit
+        Message fromServer = send(server, new EditSync.Edit(0, 0, "DRAFT\n"));
+        Message fromClient = send(client, new EditSync.Edit(11, 0, "!"));
+
+        EditSync.Edit applied = server.remote(fromClient.index(), fromClient.seen(), fromClient.edit());
+        client.remote(fromServer.index(), fromServer.seen(), fromServer.edit());
+
+        assertEquals("DRAFT\nHello world!", server.document().toString());
+        assertEquals("DRAFT\nHello world!", client.document().toString());
+        assertEquals(new EditSync.Edit(17, 0, "!"), applied);
+    }
+
+    @Test
+    public void testOverlappingEditsKeepBothTexts() {
+        EditSync server = side(true, "abcdef");
+        EditSync client = side(false, "abcdef");
+
+        Message fromServer = send(server, new EditSync.Edit(1, 3, "X"));
+        Message fromClient = send(client, new EditSync.Edit(2, 3, "Y"));
+
+        server.remote(fromClient.index(), fromClient.seen(), fromClient.edit());
+        client.remote(fromServer.index(), fromServer.seen(), fromServer.edit());
+
+        assertEquals("aXYf", server.document().toString());
+        assertEquals(server.document().toString(), client.document().toString());
+    }
+
+    @Test
+    public void testInsertsAtSamePositionPutServerFirst() {
+        EditSync server = side(true, "ab");
+        EditSync client = side(false, "ab");
+
+        Message fromServer = send(server, new EditSync.Edit(1, 0, "S"));
+        Message fromClient = send(client, new EditSync.Edit(1, 0, "C"));
+
+        server.remote(fromClient.index(), fromClient.seen(), fromClient.edit());
+        client.remote(fromServer.index(), fromServer.seen(), fromServer.edit());
+
+        assertEquals("aSCb", server.document().toString());
+        assertEquals("aSCb", client.document().toString());
+    }
+
+    @Test
+    public void testAcknowledgedEditsAreNotTransformedAgain() {
+        EditSync server = side(true, "0123456789");
+        EditSync client = side(false, "0123456789");
+
+        Message first = send(server, new EditSync.Edit(0, 0, "AB"));
+        client.remote(first.index(), first.seen(), first.edit());
+
+        // The client saw the server edit, so its offsets already include it
+        Message fromClient = send(client, new EditSync.Edit(4, 1, ""));
+        server.remote(fromClient.index(), fromClient.seen(), fromClient.edit());
+
+        assertEquals("AB013456789", server.document().toString());
+        assertEquals(server.document().toString(), client.document().toString());
+    }
+
+    @Test
+    public void testOutOfOrderEditIsRejected() {
+        EditSync server = side(true, "abc");
+        assertThrows(IllegalStateException.class, () -> server.remote(1, 0, new EditSync.Edit(0, 0, "x")));
+        assertEquals("abc", server.document().toString());
+    }
+
+    @Test
+    public void testRebaseReappliesUnseenEdits() {
+        EditSync server = side(true, "Hello world");
+        send(server, new EditSync.Edit(0, 0, "DRAFT\n"));
+        send(server, new EditSync.Edit(17, 0, "."));
+
+        // The browser had applied the first edit only, then typed on its own
+        List<EditSync.Edit> reapplied = server.rebase("DRAFT\nHello world, again", 1);
+
+        assertEquals(List.of(new EditSync.Edit(17, 0, ".")), reapplied);
+        assertEquals("DRAFT\nHello world., again", server.document().toString());
+        assertEquals(1, server.sent());
+        assertEquals(0, server.received());
+    }
+
+    @Test
+    public void testRebaseClampsToShorterText() {
+        EditSync server = side(true, "Hello world");
+        send(server, new EditSync.Edit(6, 5, "there"));
+
+        List<EditSync.Edit> reapplied = server.rebase("Hi", 0);
+
+        assertEquals(List.of(new EditSync.Edit(2, 0, "there")), reapplied);
+        assertEquals("Hithere", server.document().toString());
+    }
+
+    @Test
+    public void testConvergesUnderRandomConcurrentEdits() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            EditSync server = side(true, "The quick brown fox");
+            EditSync client = side(false, "The quick brown fox");
+            Deque<Message> toClient = new ArrayDeque<>();
+            Deque<Message> toServer = new ArrayDeque<>();
+
+            for (int step = 0; step < 60; step++) {
+                switch (random.nextInt(4)) {
+                    case 0 -> toClient.add(send(server, randomEdit(random, server, "s" + step)));
+                    case 1 -> toServer.add(send(client, randomEdit(random, client, "c" + step)));
+                    case 2 -> deliver(toClient, client);
+                    default -> deliver(toServer, server);
+                }
+            }
+            while (!toClient.isEmpty() || !toServer.isEmpty()) {
+                deliver(toClient, client);
+                deliver(toServer, server);
+            }
+
+            assertEquals(server.document().toString(), client.document().toString(), "round " + round);
+        }
+    }
+
+    private static EditSync.Edit randomEdit(Random random, EditSync side, String text) {
+        int length = side.document().length();
+        int offset = random.nextInt(length + 1);
+        int deleteCount = random.nextInt(Math.min(4, length - offset) + 1);
+        return new EditSync.Edit(offset, deleteCount, random.nextBoolean() ? "" : text);
+    }
+
+    private static void deliver(Deque<Message> queue, EditSync target) {
+        Message message = queue.poll();
+        if (message != null) {
+            target.remote(message.index(), message.seen(), message.edit());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for reading a FormSnapshot from the client payload.
+ */
+public class FormSnapshotTest {
+
+    private static String control(String name, Object value, boolean toggle, String checkedValue,
+                                  boolean valid, String message) {
+        return "{\"name\":" + Json.write(name) + ",\"value\":" + Json.write(value) + ",\"toggle\":" + toggle
+            + ",\"checkedValue\":" + Json.write(checkedValue) + ",\"valid\":" + valid
+            + ",\"message\":" + Json.write(message) + "}";
+    }
+
+    @Test
+    public void testSingleControlsKeepTheirTypes() {
+        FormSnapshot snapshot = FormSnapshot.fromJson("[" + String.join(",",
+            control("inspector", "Ada", false, null, true, ""),
+            control("passed", true, true, "on", true, ""),
+            control("score", 4, false, null, false, "Too low")) + "]");
+
+        assertEquals("Ada", snapshot.getString("inspector"));
+        assertTrue(snapshot.getBoolean("passed"));
+        assertEquals(4, snapshot.getNumber("score").intValue());
+        assertFalse(snapshot.isValid());
+        assertEquals("Too low", snapshot.getField("score").message());
+    }
+
+    @Test
+    public void testRepeatedTogglesCollectCheckedValues() {
+        FormSnapshot snapshot = FormSnapshot.fromJson("[" + String.join(",",
+            control("tags", true, true, "red", true, ""),
+            control("tags", false, true, "green", true, ""),
+            control("tags", true, true, "on", true, "")) + "]");
+
+        assertEquals(1, snapshot.getFields().size());
+        assertEquals(List.of("red", "on"), snapshot.getValues("tags"));
+    }
+
+    @Test
+    public void testRepeatedControlsCollectAllValuesInOrder() {
+        FormSnapshot snapshot = FormSnapshot.fromJson("[" + String.join(",",
+            control("alias", "a", false, null, true, ""),
+            control("other", "x", false, null, true, ""),
+            control("alias", "", false, null, false, "Required"),
+            control("alias", "c", false, null, false, "Too short")) + "]");
+
+        assertEquals(List.of("alias", "other"), List.copyOf(snapshot.getFields().keySet()));
+        assertEquals(List.of("a", "", "c"), snapshot.getValue("alias"));
+        assertFalse(snapshot.getField("alias").valid());
+        assertEquals("Required", snapshot.getField("alias").message());
+        assertTrue(snapshot.getField("other").valid());
+    }
+}
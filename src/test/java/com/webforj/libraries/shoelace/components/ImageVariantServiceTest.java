@@ -0,0 +1,255 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+
+/**
+ * Unit tests for ImageVariantService width snapping, caching and versioning.
+ */
+public class ImageVariantServiceTest {
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 7 + y * 13) & 0xffffff);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * A valid PNG whose header declares another size than its pixel data has.
+     */
+    private static byte[] pngDeclaring(int width, int height) throws IOException {
+        byte[] bytes = png(8, 8);
+        // The IHDR chunk follows the 8 byte signature: length, type, width, height, ..., CRC
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.putInt(16, width);
+        buffer.putInt(20, height);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 12, 17);
+        buffer.putInt(29, (int) crc.getValue());
+        return bytes;
+    }
+
+    private static ImageSource source(byte[] bytes, long lastModified) {
+        return new ImageSource() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(bytes);
+            }
+
+            @Override
+            public long lastModified() {
+                return lastModified;
+            }
+        };
+    }
+
+    private static String idOf(String url) {
+        String[] parts = url.split("/");
+        return parts[parts.length - 2];
+    }
+
+    private static long countFiles(Path dir, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(suffix)).count();
+        }
+    }
+
+    @Test
+    public void testSnapWidth() {
+        assertEquals(32, ImageVariantService.snapWidth(1));
+        assertEquals(32, ImageVariantService.snapWidth(32));
+        assertEquals(48, ImageVariantService.snapWidth(33));
+        assertEquals(384, ImageVariantService.snapWidth(300));
+        assertEquals(2048, ImageVariantService.snapWidth(2048));
+        assertEquals(2048, ImageVariantService.snapWidth(5000));
+    }
+
+    @Test
+    public void testToPixels() {
+        assertEquals(40, ImageVariantService.toPixels(null, 40));
+        assertEquals(40, ImageVariantService.toPixels("  ", 40));
+        assertEquals(48, ImageVariantService.toPixels("48px", 40));
+        assertEquals(48, ImageVariantService.toPixels(" 48 ", 40));
+        assertEquals(48, ImageVariantService.toPixels("3rem", 40));
+        assertEquals(24, ImageVariantService.toPixels("1.5em", 40));
+        assertEquals(11, ImageVariantService.toPixels("10.2px", 40));
+        assertEquals(40, ImageVariantService.toPixels("50%", 40));
+        assertEquals(40, ImageVariantService.toPixels("calc(1rem + 2px)", 40));
+    }
+
+    @Test
+    public void testVersionedIdsAreImmutable() throws IOException {
+        ImageVariantService service = new ImageVariantService(Files.createTempDirectory("variants"), 1 << 20, 0.8f);
+        byte[] bytes = png(8, 8);
+
+        String versioned = service.register("https://example.com/a.png", source(bytes, 1000));
+        String unversioned = service.register("https://example.com/c.png", source(bytes, 0));
+
+        assertTrue(ImageVariantService.isImmutable(versioned));
+        assertFalse(ImageVariantService.isImmutable(unversioned));
+        assertNotEquals(versioned, unversioned);
+        assertEquals(versioned, service.register("https://example.com/a.png", source(bytes, 1000)));
+        assertNotEquals(versioned, service.register("https://example.com/b.png", source(bytes, 1000)));
+    }
+
+    @Test
+    public void testUrlsRequireBasePath() throws IOException {
+        ImageVariantService service = new ImageVariantService(Files.createTempDirectory("variants"), 1 << 20, 0.8f);
+        ImageSource source = source(png(8, 8), 1000);
+
+        assertEquals("https://example.com/a.png", service.getUrl("https://example.com/a.png", source, 100));
+
+        service.setBasePath("/test-variants-a");
+        String url = service.getUrl("https://example.com/a.png", source, 100);
+        assertTrue(url.startsWith("/test-variants-a/v"));
+        assertTrue(url.endsWith("/128"));
+        assertSame(service, ImageVariantService.forBasePath("/test-variants-a"));
+
+        ImageVariantService.setContextPath("/shop");
+        try {
+            assertTrue(service.getUrl("https://example.com/a.png", source, 100).startsWith("/shop/test-variants-a/v"));
+        } finally {
+            ImageVariantService.setContextPath("");
+        }
+
+        service.setBasePath("/test-variants-b");
+        assertNull(ImageVariantService.forBasePath("/test-variants-a"));
+        assertSame(service, ImageVariantService.forBasePath("/test-variants-b"));
+        assertSame(ImageVariantService.getDefault(), ImageVariantService.forBasePath(ImageVariantService.DEFAULT_BASE_PATH));
+    }
+
+    @Test
+    public void testVersionIsCachedBetweenUrls() throws IOException {
+        ImageVariantService service = new ImageVariantService(Files.createTempDirectory("variants"), 1 << 20, 0.8f)
+            .setBasePath("/test-variants-cached");
+        byte[] bytes = png(8, 8);
+        AtomicInteger reads = new AtomicInteger();
+        ImageSource source = new ImageSource() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(bytes);
+            }
+
+            @Override
+            public long lastModified() {
+                reads.incrementAndGet();
+                return 1000;
+            }
+        };
+
+        for (int i = 0; i < 10; i++) {
+            service.getUrl("https://example.com/cached.png", source, 100 + i * 100);
+        }
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testVariantIsScaledAndCached() throws IOException {
+        Path dir = Files.createTempDirectory("variants");
+        ImageVariantService service = new ImageVariantService(dir, 1 << 20, 0.8f);
+        AtomicInteger opens = new AtomicInteger();
+        byte[] bytes = png(400, 200);
+        String id = service.register("https://example.com/wide.png", () -> {
+            opens.incrementAndGet();
+            return new ByteArrayInputStream(bytes);
+        });
+
+        Path variant = service.getVariant(id, 100);
+        assertNotNull(variant);
+        assertEquals(128, ImageIO.read(variant.toFile()).getWidth());
+        assertEquals(variant, service.getVariant(id, 120));
+        assertEquals(1, opens.get());
+
+        assertNull(service.getVariant("vunknown", 100));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedVariantsAreEvicted() throws IOException {
+        byte[] bytes = png(64, 64);
+        Path probeDir = Files.createTempDirectory("variants");
+        ImageVariantService probe = new ImageVariantService(probeDir, 1 << 20, 0.8f);
+        long size = Files.size(probe.getVariant(probe.register("https://example.com/0.png", source(bytes, 1)), 32));
+
+        // Room for two variants only
+        Path dir = Files.createTempDirectory("variants");
+        ImageVariantService service = new ImageVariantService(dir, size * 2 + size / 2, 0.8f);
+        String first = service.register("https://example.com/1.png", source(bytes, 1));
+        String second = service.register("https://example.com/2.png", source(bytes, 1));
+        String third = service.register("https://example.com/3.png", source(bytes, 1));
+
+        Path firstVariant = service.getVariant(first, 32);
+        Path secondVariant = service.getVariant(second, 32);
+        // Touch the first one, so the second is the least recently used
+        assertEquals(firstVariant, service.getVariant(first, 32));
+        Path thirdVariant = service.getVariant(third, 32);
+
+        assertTrue(Files.exists(firstVariant));
+        assertFalse(Files.exists(secondVariant));
+        assertTrue(Files.exists(thirdVariant));
+        assertEquals(2, countFiles(dir, ".jpg") + countFiles(dir, ".png"));
+    }
+
+    @Test
+    public void testResolvableImagesSurviveRestartUntilChanged() throws IOException {
+        Path dir = Files.createTempDirectory("variants");
+        Path original = Files.createTempFile("original", ".png");
+        Files.write(original, png(300, 300));
+        Files.setLastModifiedTime(original, java.nio.file.attribute.FileTime.fromMillis(1_000_000));
+        String src = original.toUri().toString();
+
+        ImageVariantService service = new ImageVariantService(dir, 1 << 20, 0.8f).setBasePath("/test-variants-restart");
+        String id = idOf(service.getUrl(src, 100));
+        assertTrue(ImageVariantService.isImmutable(id));
+
+        // A new instance over the same directory resolves the id from disk
+        ImageVariantService restarted = new ImageVariantService(dir, 1 << 20, 0.8f);
+        assertNotNull(restarted.getVariant(id, 200));
+
+        // Once the original changed, the old id is no longer served
+        Files.setLastModifiedTime(original, java.nio.file.attribute.FileTime.fromMillis(2_000_000));
+        ImageVariantService changed = new ImageVariantService(dir, 1 << 20, 0.8f);
+        assertNull(changed.getVariant(id, 64));
+    }
+
+    @Test
+    public void testSubsamplingKeepsDecodedImagesWithinBudget() {
+        assertEquals(1, ImageCodec.subsampling(4096L * 4096L));
+        assertEquals(2, ImageCodec.subsampling(4096L * 4096L + 1));
+        assertEquals(4, ImageCodec.subsampling(16384L * 16384L));
+        for (long pixels : new long[] {1, 5_000_000, 40_000_000, 123_456_789, ImageCodec.MAX_SOURCE_PIXELS}) {
+            int step = ImageCodec.subsampling(pixels);
+            assertTrue(pixels <= ImageCodec.MAX_DECODED_PIXELS * step * step);
+            assertTrue(step == 1 || pixels > ImageCodec.MAX_DECODED_PIXELS * (step - 1) * (step - 1));
+        }
+    }
+
+    @Test
+    public void testOversizedImagesAreRejectedBeforeDecoding() throws IOException {
+        ImageVariantService service = new ImageVariantService(Files.createTempDirectory("variants"), 1 << 20, 0.8f);
+        String id = service.register("https://example.com/bomb.png", source(pngDeclaring(50_000, 50_000), 1));
+
+        // The patched header alone is still readable
+        assertEquals(8, ImageCodec.readFirstFrame(source(pngDeclaring(8, 8), 1)).getWidth());
+        assertThrows(IOException.class, () -> service.getVariant(id, 100));
+        assertThrows(IOException.class, () -> ImageCodec.readFirstFrame(source(pngDeclaring(50_000, 50_000), 1)));
+    }
+}
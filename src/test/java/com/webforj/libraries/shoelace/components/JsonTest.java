@@ -0,0 +1,71 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for the Json reader and writer used by the client scripts.
+ */
+public class JsonTest {
+
+    @Test
+    public void testEscapesRoundTrip() {
+        String text = "quote \" backslash \\ slash / tab \t newline \n return \r control \u0001";
+        String json = Json.write(text);
+
+        assertEquals("\"quote \\\" backslash \\\\ slash / tab \\t newline \\n return \\r control \\u0001\"", json);
+        assertEquals(text, Json.parse(json));
+        assertEquals("a/b\b\f", Json.parse("\"a\\/b\\b\\f\""));
+    }
+
+    @Test
+    public void testUnicode() {
+        assertEquals("\u00e9\u4e2d", Json.parse("\"\\u00e9\\u4E2D\""));
+        assertEquals("\uD83D\uDE00", Json.parse("\"\\ud83d\\ude00\""));
+        assertEquals("\u00e9\u4e2d\uD83D\uDE00", Json.parse(Json.write("\u00e9\u4e2d\uD83D\uDE00")));
+    }
+
+    @Test
+    public void testNesting() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "a");
+        value.put("tags", List.of("x", "y"));
+        value.put("inner", Map.of("empty", List.of()));
+        value.put("missing", null);
+
+        String json = Json.write(value);
+        assertEquals("{\"name\":\"a\",\"tags\":[\"x\",\"y\"],\"inner\":{\"empty\":[]},\"missing\":null}", json);
+        assertEquals(value, Json.parse(json));
+        assertEquals(List.of(List.of(List.of()), Map.of()), Json.parse(" [ [ [ ] ] , { } ] "));
+    }
+
+    @Test
+    public void testNumbers() {
+        assertEquals(0L, Json.parse("0"));
+        assertEquals(-42L, Json.parse("-42"));
+        assertEquals(1.5, Json.parse("1.5"));
+        assertEquals(-2.5e-3, Json.parse("-2.5e-3"));
+        assertEquals(1e21, Json.parse("1E+21"));
+        assertEquals(1e19, Json.parse("10000000000000000000"));
+        assertEquals(Arrays.asList(true, false, null), Json.parse("[true,false,null]"));
+    }
+
+    @Test
+    public void testNonFiniteNumbersAreWrittenAsNull() {
+        assertEquals("[null,null,null,1.5]",
+            Json.write(List.of(Double.NaN, Double.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, 1.5)));
+    }
+
+    @Test
+    public void testMalformedInputIsRejected() {
+        for (String json : List.of("", "{", "[1,", "[1 2]", "{\"a\" 1}", "{a:1}", "\"open", "tru", "nul",
+            "01", "1.", ".5", "-", "1e", "+1", "\"\\x\"", "\"\\u12\"", "\"\\u12g4\"", "[1] x")) {
+            assertThrows(IllegalArgumentException.class, () -> Json.parse(json), json);
+        }
+    }
+}
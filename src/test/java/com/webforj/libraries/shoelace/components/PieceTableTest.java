@@ -0,0 +1,75 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Unit tests for the PieceTable document used by Textarea incremental sync.
+ */
+public class PieceTableTest {
+
+    @Test
+    public void testInitialText() {
+        PieceTable doc = new PieceTable("Hello world");
+        assertEquals("Hello world", doc.toString());
+        assertEquals(11, doc.length());
+
+        PieceTable empty = new PieceTable();
+        assertEquals("", empty.toString());
+        assertEquals(0, empty.length());
+    }
+
+    @Test
+    public void testInsertDeleteReplace() {
+        PieceTable doc = new PieceTable("Hello world");
+        doc.insert(5, ",");
+        assertEquals("Hello, world", doc.toString());
+
+        doc.delete(0, 7);
+        assertEquals("world", doc.toString());
+
+        doc.replace(0, 5, "there");
+        assertEquals("there", doc.toString());
+
+        doc.insert(doc.length(), "!");
+        assertEquals("there!", doc.toString());
+        assertEquals(6, doc.length());
+    }
+
+    @Test
+    public void testSubstringAcrossPieces() {
+        PieceTable doc = new PieceTable("abcdef");
+        doc.insert(3, "XYZ");
+        assertEquals("abcXYZdef", doc.toString());
+        assertEquals("cXYZd", doc.substring(2, 7));
+        assertEquals("", doc.substring(4, 4));
+    }
+
+    @Test
+    public void testOutOfRange() {
+        PieceTable doc = new PieceTable("abc");
+        assertThrows(IndexOutOfBoundsException.class, () -> doc.delete(2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> doc.insert(-1, "x"));
+    }
+
+    @Test
+    public void testMatchesStringBuilderUnderRandomEdits() {
+        Random random = new Random(42);
+        StringBuilder expected = new StringBuilder("The quick brown fox jumps over the lazy dog");
+        PieceTable doc = new PieceTable(expected.toString());
+
+        for (int i = 0; i < 10_000; i++) {
+            int offset = random.nextInt(expected.length() + 1);
+            int deleteCount = random.nextInt(Math.min(5, expected.length() - offset) + 1);
+            String insert = random.nextBoolean() ? "" : Integer.toString(i, 36);
+
+            expected.replace(offset, offset + deleteCount, insert);
+            doc.replace(offset, deleteCount, insert);
+        }
+
+        assertEquals(expected.toString(), doc.toString());
+        assertEquals(expected.length(), doc.length());
+    }
+}
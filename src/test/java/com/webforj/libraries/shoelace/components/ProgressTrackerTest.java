@@ -0,0 +1,75 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProgressTracker percentages.
+ */
+public class ProgressTrackerTest {
+
+    @Test
+    public void testPercentOfKnownTotal() {
+        ProgressTracker tracker = new ProgressTracker(200);
+        assertEquals(0, tracker.getPercent());
+
+        tracker.increment();
+        assertEquals(0, tracker.getPercent());
+        tracker.advance(2);
+        assertEquals(1, tracker.getPercent());
+        tracker.setDone(199);
+        assertEquals(99, tracker.getPercent());
+        tracker.setDone(200);
+        assertEquals(100, tracker.getPercent());
+    }
+
+    @Test
+    public void testPercentIsClamped() {
+        ProgressTracker tracker = new ProgressTracker(10);
+        tracker.setDone(25);
+        assertEquals(100, tracker.getPercent());
+        tracker.setDone(-5);
+        assertEquals(0, tracker.getPercent());
+    }
+
+    @Test
+    public void testPercentOfLargeTotals() {
+        ProgressTracker tracker = new ProgressTracker(4_000_000_000_000_000_000L);
+        tracker.setDone(2_000_000_000_000_000_000L);
+        assertEquals(50, tracker.getPercent());
+        tracker.setDone(3_999_999_999_999_999_999L);
+        assertEquals(99, tracker.getPercent());
+
+        ProgressTracker exact = new ProgressTracker(100);
+        exact.setDone(29);
+        assertEquals(29, exact.getPercent());
+    }
+
+    @Test
+    public void testUnknownAndEmptyTotals() {
+        ProgressTracker unknown = new ProgressTracker();
+        unknown.advance(10);
+        assertEquals(ProgressTracker.UNKNOWN, unknown.getTotal());
+        assertEquals(-1, unknown.getPercent());
+        unknown.setTotal(40);
+        assertEquals(25, unknown.getPercent());
+
+        assertEquals(100, new ProgressTracker(0).getPercent());
+    }
+
+    @Test
+    public void testCompletedIsFullAndCancelledKeepsValue() {
+        ProgressTracker unknown = new ProgressTracker();
+        unknown.complete();
+        assertTrue(unknown.isCompleted());
+        assertEquals(100, unknown.getPercent());
+
+        ProgressTracker partial = new ProgressTracker(4);
+        partial.increment();
+        partial.cancel();
+        assertTrue(partial.isCancelled());
+        assertEquals(25, partial.getPercent());
+        partial.complete();
+        assertEquals(100, partial.getPercent());
+    }
+}
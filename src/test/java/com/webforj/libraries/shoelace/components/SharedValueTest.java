@@ -0,0 +1,164 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Unit tests for SharedValue demand handling and conflation.
+ */
+public class SharedValueTest {
+
+    /**
+     * Records the signals it receives and requests only when told to.
+     */
+    private static final class Recorder implements Flow.Subscriber<Integer> {
+        private final List<Integer> values = new CopyOnWriteArrayList<>();
+        private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        private final AtomicInteger active = new AtomicInteger();
+        private volatile boolean overlapped;
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            if (active.incrementAndGet() > 1) {
+                overlapped = true;
+            }
+            values.add(item);
+            active.decrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void testNothingIsDeliveredWithoutDemand() throws InterruptedException {
+        SharedValue<Integer> shared = new SharedValue<>(1);
+        Recorder recorder = new Recorder();
+        shared.subscribe(recorder);
+
+        shared.set(2);
+        Thread.sleep(50);
+        assertEquals(List.of(), recorder.values);
+
+        recorder.subscription.request(1);
+        assertEquals(List.of(2), recorder.values);
+    }
+
+    @Test
+    public void testNewSubscriberReceivesCurrentValue() {
+        SharedValue<Integer> shared = new SharedValue<>(7);
+        Recorder recorder = new Recorder();
+        shared.subscribe(recorder);
+        recorder.subscription.request(5);
+
+        assertEquals(List.of(7), recorder.values);
+        assertEquals(1, shared.getSubscriberCount());
+    }
+
+    @Test
+    public void testValuesSetWithoutDemandAreConflated() throws InterruptedException {
+        SharedValue<Integer> shared = new SharedValue<>();
+        Recorder recorder = new Recorder();
+        shared.subscribe(recorder);
+        recorder.subscription.request(1);
+        assertEquals(List.of(), recorder.values);
+
+        for (int i = 1; i <= 100; i++) {
+            shared.set(i);
+        }
+        await(() -> !recorder.values.isEmpty());
+
+        // The single request is used up by some value, the others wait for the next request
+        recorder.subscription.request(1);
+        await(() -> recorder.values.get(recorder.values.size() - 1) == 100);
+        assertTrue(recorder.values.size() <= 2);
+
+        recorder.subscription.request(10);
+        Thread.sleep(50);
+        assertEquals(100, (int) recorder.values.get(recorder.values.size() - 1));
+        assertTrue(recorder.values.size() <= 2);
+    }
+
+    @Test
+    public void testSignalsAreNeverConcurrent() throws InterruptedException {
+        SharedValue<Integer> shared = new SharedValue<>(0);
+        Recorder recorder = new Recorder();
+        shared.subscribe(recorder);
+        recorder.subscription.request(Long.MAX_VALUE);
+
+        Thread[] writers = new Thread[4];
+        for (int w = 0; w < writers.length; w++) {
+            int base = w * 1000;
+            writers[w] = new Thread(() -> {
+                for (int i = 1; i <= 1000; i++) {
+                    shared.set(base + i);
+                }
+            });
+            writers[w].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        await(() -> recorder.values.get(recorder.values.size() - 1).equals(shared.get()));
+
+        assertFalse(recorder.overlapped);
+        assertTrue(recorder.values.size() <= 4001);
+    }
+
+    @Test
+    public void testInvalidRequestSignalsErrorAndUnsubscribes() {
+        SharedValue<Integer> shared = new SharedValue<>(1);
+        Recorder recorder = new Recorder();
+        shared.subscribe(recorder);
+
+        recorder.subscription.request(0);
+        assertEquals(1, recorder.errors.size());
+        assertInstanceOf(IllegalArgumentException.class, recorder.errors.get(0));
+        assertEquals(0, shared.getSubscriberCount());
+
+        recorder.subscription.request(1);
+        assertEquals(List.of(), recorder.values);
+    }
+
+    @Test
+    public void testCancelStopsDelivery() throws InterruptedException {
+        SharedValue<Integer> shared = new SharedValue<>(1);
+        Recorder recorder = new Recorder();
+        shared.subscribe(recorder);
+        recorder.subscription.request(10);
+        recorder.subscription.cancel();
+
+        shared.set(2);
+        Thread.sleep(50);
+        assertEquals(List.of(1), recorder.values);
+        assertEquals(0, shared.getSubscriberCount());
+        assertThrows(IllegalArgumentException.class, () -> shared.set(null));
+    }
+}
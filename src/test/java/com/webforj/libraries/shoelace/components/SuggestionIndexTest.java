@@ -0,0 +1,195 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Unit tests for the SuggestionIndex used by Input autocomplete.
+ */
+public class SuggestionIndexTest {
+
+    private static SuggestionIndex indexOf(SuggestionIndex.Suggestion... suggestions) {
+        return new SuggestionIndex(() -> List.of(suggestions));
+    }
+
+    private static List<String> values(List<SuggestionIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestionIndex.Suggestion::value).toList();
+    }
+
+    @Test
+    public void testPrefixRankedByWeight() {
+        SuggestionIndex index = indexOf(
+            new SuggestionIndex.Suggestion("ber", "Berlin", 3),
+            new SuggestionIndex.Suggestion("brn", "Bern", 5),
+            new SuggestionIndex.Suggestion("bgo", "Bergen", 1),
+            new SuggestionIndex.Suggestion("par", "Paris", 9));
+
+        assertEquals(List.of("brn", "ber", "bgo"), values(index.query("ber", 10)));
+        assertEquals(List.of("brn", "ber"), values(index.query("BER", 2)));
+        assertEquals(List.of("ber"), values(index.query("berl", 10)));
+        assertEquals(List.of(), values(index.query("x", 10)));
+        assertEquals(List.of(), values(index.query("  ", 10)));
+        assertEquals(List.of(), values(index.query("ber", 0)));
+    }
+
+    @Test
+    public void testInfixMatchesWordStartsOnly() {
+        SuggestionIndex index = indexOf(
+            new SuggestionIndex.Suggestion("ny", "New York", 2),
+            new SuggestionIndex.Suggestion("yk", "York", 1),
+            new SuggestionIndex.Suggestion("ab", "AB-1234 Widget", 4));
+
+        assertEquals(List.of("ny", "yk"), values(index.query("york", 10)));
+        assertEquals(List.of(), values(index.query("ork", 10)));
+        assertEquals(List.of("ab"), values(index.query("1234", 10)));
+        assertEquals(List.of("ab"), values(index.query("wid", 10)));
+        assertEquals(List.of("ny"), values(index.query("new y", 10)));
+    }
+
+    @Test
+    public void testSuggestionWithSeveralMatchingWordsIsReturnedOnce() {
+        SuggestionIndex index = indexOf(
+            new SuggestionIndex.Suggestion("s1", "San Santa Sanaa", 1),
+            new SuggestionIndex.Suggestion("s2", "Sandy", 2));
+
+        assertEquals(List.of("s2", "s1"), values(index.query("san", 10)));
+        assertEquals(List.of("s2", "s1"), values(index.query("sa", 10)));
+        assertEquals(List.of("s2"), values(index.query("san", 1)));
+    }
+
+    @Test
+    public void testDuplicateValuesKeepTheLast() {
+        SuggestionIndex index = indexOf(
+            new SuggestionIndex.Suggestion("a", "Alpha", 1),
+            new SuggestionIndex.Suggestion("a", "Apex", 2));
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(), values(index.query("alp", 10)));
+        assertEquals("Apex", index.query("ap", 10).get(0).label());
+    }
+
+    @Test
+    public void testUpdateAddsReplacesAndRemoves() {
+        SuggestionIndex index = indexOf(
+            new SuggestionIndex.Suggestion("ber", "Berlin", 3),
+            new SuggestionIndex.Suggestion("brn", "Bern", 5));
+
+        index.update(List.of(
+            new SuggestionIndex.Suggestion("bgo", "Bergen", 9),
+            new SuggestionIndex.Suggestion("ber", "Berlin-Mitte", 1)), List.of("brn"));
+
+        assertEquals(2, index.size());
+        assertEquals(List.of("bgo", "ber"), values(index.query("be", 10)));
+        assertEquals(List.of("bgo", "ber"), values(index.query("b", 10)));
+        assertEquals(List.of("ber"), values(index.query("mitte", 10)));
+        assertEquals(List.of(), values(index.query("bern", 10)));
+
+        index.update(List.of(), List.of("ber", "unknown"));
+        assertEquals(1, index.size());
+        assertEquals(List.of("bgo"), values(index.query("b", 10)));
+    }
+
+    @Test
+    public void testRefreshReloadsFromSupplier() {
+        List<SuggestionIndex.Suggestion> source = new ArrayList<>(List.of(new SuggestionIndex.Suggestion("one")));
+        SuggestionIndex index = new SuggestionIndex(() -> source);
+        source.add(new SuggestionIndex.Suggestion("two"));
+
+        assertEquals(List.of(), values(index.query("two", 10)));
+        index.refresh();
+        assertEquals(List.of("two"), values(index.query("two", 10)));
+    }
+
+    @Test
+    public void testMatchesBruteForceUnderRandomUpdates() {
+        Random random = new Random(11);
+        String[] words = {"alpha", "alps", "beta", "bet", "gamma", "game", "delta", "del", "al", "ga"};
+        Map<String, SuggestionIndex.Suggestion> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            String value = "v" + i;
+            expected.put(value, randomSuggestion(random, words, value, i));
+        }
+        SuggestionIndex index = new SuggestionIndex(() -> List.copyOf(expected.values()));
+
+        int weight = 3000;
+        for (int round = 0; round < 30; round++) {
+            List<SuggestionIndex.Suggestion> upserts = new ArrayList<>();
+            List<String> removals = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String value = "v" + random.nextInt(4000);
+                if (random.nextInt(3) == 0) {
+                    removals.add(value);
+                    expected.remove(value);
+                } else {
+                    SuggestionIndex.Suggestion suggestion = randomSuggestion(random, words, value, weight++);
+                    upserts.removeIf(s -> s.value().equals(value));
+                    upserts.add(suggestion);
+                }
+            }
+            // Removals are applied before upserts
+            for (SuggestionIndex.Suggestion suggestion : upserts) {
+                expected.put(suggestion.value(), suggestion);
+            }
+            index.update(upserts, removals);
+
+            assertEquals(expected.size(), index.size());
+            for (String query : List.of("a", "al", "alp", "g", "ga", "gam", "be", "d", "delta x", "zz")) {
+                for (int limit : List.of(1, 8, 40)) {
+                    assertEquals(bruteForce(expected.values(), query, limit), values(index.query(query, limit)),
+                        "round " + round + " query " + query + " limit " + limit);
+                }
+            }
+        }
+    }
+
+    private static SuggestionIndex.Suggestion randomSuggestion(Random random, String[] words, String value, int weight) {
+        String label = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+        return new SuggestionIndex.Suggestion(value, label, weight);
+    }
+
+    private static List<String> bruteForce(Iterable<SuggestionIndex.Suggestion> suggestions, String query, int limit) {
+        String prefix = query.toLowerCase(Locale.ROOT);
+        List<SuggestionIndex.Suggestion> matches = new ArrayList<>();
+        for (SuggestionIndex.Suggestion suggestion : suggestions) {
+            String label = suggestion.label().toLowerCase(Locale.ROOT);
+            for (int start = 0; start < label.length(); start++) {
+                boolean wordStart = Character.isLetterOrDigit(label.charAt(start))
+                    && (start == 0 || !Character.isLetterOrDigit(label.charAt(start - 1)));
+                if (wordStart && label.startsWith(prefix, start)) {
+                    matches.add(suggestion);
+                    break;
+                }
+            }
+        }
+        matches.sort(Comparator.comparingDouble(SuggestionIndex.Suggestion::weight).reversed());
+        return matches.stream().limit(limit).map(SuggestionIndex.Suggestion::value).toList();
+    }
+
+    @Test
+    public void testCompactionAfterManyRemovals() {
+        List<SuggestionIndex.Suggestion> source = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            source.add(new SuggestionIndex.Suggestion("v" + i, "item " + i, i));
+        }
+        SuggestionIndex index = new SuggestionIndex(() -> source);
+
+        List<String> removals = new ArrayList<>();
+        for (int i = 0; i < 4990; i++) {
+            removals.add("v" + i);
+        }
+        index.update(List.of(), removals);
+
+        assertEquals(10, index.size());
+        assertEquals(List.of("v4999", "v4998", "v4997"), values(index.query("item", 3)));
+        assertEquals(Set.of(), Set.copyOf(values(index.query("4989", 10))));
+    }
+}
@@ -0,0 +1,128 @@
+package com.webforj.libraries.shoelace.components;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the ToastQueue deciding what a ToastStack shows.
+ */
+public class ToastQueueTest {
+    private final List<ToastQueue.Toast> shown = new ArrayList<>();
+    private final List<ToastQueue.Toast> updated = new ArrayList<>();
+    private long now = 1_000_000;
+
+    private ToastQueue queue() {
+        return new ToastQueue(new ToastQueue.Display() {
+            @Override
+            public void show(ToastQueue.Toast toast) {
+                shown.add(toast);
+            }
+
+            @Override
+            public void update(ToastQueue.Toast toast) {
+                updated.add(toast);
+            }
+        }, () -> now);
+    }
+
+    private static List<String> messages(List<ToastQueue.Toast> toasts) {
+        return toasts.stream().map(toast -> toast.isSummary() ? "+" + toast.getCount() : toast.getMessage()).toList();
+    }
+
+    @Test
+    public void testRepeatedToastIsCountedOnTheShownOne() {
+        ToastQueue queue = queue();
+        queue.offer("save", "Saved", Alert.Variant.SUCCESS);
+        queue.offer("save", "Saved", Alert.Variant.SUCCESS);
+        queue.offer("save", "Saved", Alert.Variant.SUCCESS);
+
+        assertEquals(1, shown.size());
+        assertEquals(3, shown.get(0).getCount());
+        assertEquals(List.of(shown.get(0), shown.get(0)), updated);
+    }
+
+    @Test
+    public void testSameMessageWithOtherVariantIsNotMerged() {
+        ToastQueue queue = queue();
+        queue.offer("save", "Saved", Alert.Variant.SUCCESS);
+        queue.offer("save", "Saved", Alert.Variant.WARNING);
+
+        assertEquals(2, shown.size());
+        assertTrue(updated.isEmpty());
+    }
+
+    @Test
+    public void testQueuedToastsAreCountedAndShownWhenSlotsFree() {
+        ToastQueue queue = queue();
+        queue.setMaxVisible(2);
+        queue.offer("a", "one", Alert.Variant.PRIMARY);
+        queue.offer("b", "two", Alert.Variant.PRIMARY);
+        queue.offer("c", "three", Alert.Variant.PRIMARY);
+        queue.offer("c", "three", Alert.Variant.PRIMARY);
+
+        assertEquals(List.of("one", "two"), messages(queue.getVisible()));
+        assertEquals(List.of("three"), messages(queue.getQueued()));
+        assertEquals(2, queue.getQueued().get(0).getCount());
+        assertTrue(updated.isEmpty());
+
+        queue.hidden(shown.get(0));
+        assertEquals(List.of("two", "three"), messages(queue.getVisible()));
+        assertEquals(2, shown.get(2).getCount());
+        assertTrue(queue.getQueued().isEmpty());
+
+        // A toast hidden twice does not free another slot
+        queue.offer("d", "four", Alert.Variant.PRIMARY);
+        queue.hidden(shown.get(0));
+        assertEquals(List.of("four"), messages(queue.getQueued()));
+    }
+
+    @Test
+    public void testFullQueueDropsOldest() {
+        ToastQueue queue = queue();
+        queue.setMaxVisible(1);
+        queue.setMaxQueued(2);
+        for (String message : List.of("one", "two", "three", "four")) {
+            queue.offer(message, message, Alert.Variant.PRIMARY);
+        }
+
+        assertEquals(List.of("one"), messages(queue.getVisible()));
+        assertEquals(List.of("three", "four"), messages(queue.getQueued()));
+
+        queue.clear();
+        assertTrue(queue.getQueued().isEmpty());
+        assertEquals(1, queue.getVisible().size());
+    }
+
+    @Test
+    public void testRateLimitMergesIntoOneSummaryPerCategory() {
+        ToastQueue queue = queue();
+        queue.setMaxVisible(10);
+        queue.setRateLimit(3, 10_000);
+        for (int row = 1; row <= 300; row++) {
+            queue.offer("import", "Row " + row + ": invalid date", Alert.Variant.DANGER);
+        }
+        queue.offer("other", "Saved", Alert.Variant.SUCCESS);
+
+        assertEquals(List.of("Row 1: invalid date", "Row 2: invalid date", "Row 3: invalid date", "+297", "Saved"),
+            messages(queue.getVisible()));
+        assertTrue(queue.getVisible().get(3).isSummary());
+        assertEquals(296, updated.size());
+    }
+
+    @Test
+    public void testRateLimitWindowRestarts() {
+        ToastQueue queue = queue();
+        queue.setMaxVisible(10);
+        queue.setRateLimit(1, 10_000);
+        queue.offer("import", "first", Alert.Variant.DANGER);
+        now += 9_999;
+        queue.offer("import", "second", Alert.Variant.DANGER);
+        now += 1;
+        queue.offer("import", "third", Alert.Variant.DANGER);
+
+        assertEquals(List.of("first", "+1", "third"), messages(queue.getVisible()));
+    }
+}